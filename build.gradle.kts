@@ -2,6 +2,7 @@ plugins {
     id("io.micronaut.application") version "4.6.1"
     id("com.gradleup.shadow") version "8.3.9"
     id("io.micronaut.aot") version "4.6.1"
+    id("me.champeau.jmh") version "0.7.3"
 }
 
 version = "0.1"
@@ -11,16 +12,14 @@ repositories {
     mavenCentral()
 }
 
-val openCsvVersion = "5.12.0"
-
 dependencies {
     annotationProcessor("io.micronaut:micronaut-http-validation")
     annotationProcessor("io.micronaut.serde:micronaut-serde-processor")
     annotationProcessor("io.micronaut.validation:micronaut-validation-processor")
+    implementation("io.micronaut.micrometer:micronaut-micrometer-core")
     implementation("io.micronaut.serde:micronaut-serde-jackson")
     implementation("io.micronaut.validation:micronaut-validation")
     implementation("jakarta.validation:jakarta.validation-api")
-    implementation("com.opencsv:opencsv:${openCsvVersion}")
     compileOnly("io.micronaut:micronaut-http-client")
     runtimeOnly("ch.qos.logback:logback-classic")
     testImplementation("io.micronaut:micronaut-http-client")
@@ -42,6 +41,15 @@ java {
 
 graalvmNative.toolchainDetection = false
 
+jmh {
+    jmhVersion = "1.37"
+    // e.g. ./gradlew jmh -PjmhIncludes=FaultTolerantChunkStepBenchmark
+    includes = listOfNotNull(findProperty("jmhIncludes") as String?)
+    // reports gc.alloc.rate.norm, the bytes allocated per item
+    profilers = listOf("gc")
+    resultFormat = "JSON"
+}
+
 micronaut {
     runtime("netty")
     testRuntime("junit5")
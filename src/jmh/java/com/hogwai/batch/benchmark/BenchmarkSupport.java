@@ -0,0 +1,111 @@
+package com.hogwai.batch.benchmark;
+
+import com.hogwai.batch.core.ItemReader;
+import com.hogwai.batch.core.ItemWriter;
+import com.hogwai.batch.core.builder.StepBuilder;
+import com.hogwai.batch.core.listener.ChunkListener;
+import com.hogwai.batch.core.listener.ItemProcessListener;
+import com.hogwai.batch.core.listener.ItemReadListener;
+import com.hogwai.batch.core.listener.ItemWriteListener;
+import com.hogwai.batch.core.runtime.JobExecution;
+import com.hogwai.batch.core.runtime.StepExecution;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.List;
+
+/**
+ * Synthetic in-memory readers, writers, and listeners shared by the benchmarks, so that the
+ * measurements only cover the step engine.
+ */
+final class BenchmarkSupport {
+
+    /** Number of items read by every benchmark invocation. */
+    static final int ITEM_COUNT = 100_000;
+
+    private BenchmarkSupport() {}
+
+    /**
+     * Creates the items read by the benchmarks. They are allocated once, so that reading does not
+     * count in the allocations per item.
+     */
+    static Integer[] items() {
+        Integer[] items = new Integer[ITEM_COUNT];
+        for (int i = 0; i < items.length; i++) {
+            items[i] = i;
+        }
+        return items;
+    }
+
+    static StepExecution stepExecution() {
+        return new StepExecution(1L, "benchmark", new JobExecution(1L, null, null));
+    }
+
+    /**
+     * Registers {@code count} listeners of every item and chunk listener type.
+     */
+    static void registerListeners(StepBuilder.ChunkStepBuilder<Integer, Integer> builder, int count) {
+        for (int i = 0; i < count; i++) {
+            CountingListener listener = new CountingListener();
+            builder.chunkListener(listener)
+                   .itemReadListener(listener)
+                   .itemProcessListener(listener)
+                   .itemWriteListener(listener);
+        }
+    }
+
+    /**
+     * Reads the elements of an array, then {@code null}.
+     */
+    static final class ArrayItemReader implements ItemReader<Integer> {
+
+        private final Integer[] items;
+        private int index;
+
+        ArrayItemReader(Integer[] items) {
+            this.items = items;
+        }
+
+        @Override
+        public Integer read() {
+            return index < items.length ? items[index++] : null;
+        }
+    }
+
+    /**
+     * Hands every chunk to a {@link Blackhole}.
+     */
+    static final class BlackholeItemWriter implements ItemWriter<Integer> {
+
+        private final Blackhole blackhole;
+
+        BlackholeItemWriter(Blackhole blackhole) {
+            this.blackhole = blackhole;
+        }
+
+        @Override
+        public void write(List<Integer> items) {
+            blackhole.consume(items);
+        }
+    }
+
+    /**
+     * Listener that only counts its callbacks, so that the calls cannot be eliminated.
+     */
+    static final class CountingListener implements ChunkListener, ItemReadListener<Integer>,
+            ItemProcessListener<Integer, Integer>, ItemWriteListener<Integer> {
+
+        long calls;
+
+        @Override
+        public void beforeChunk() { calls++; }
+
+        @Override
+        public void afterRead(Integer item) { calls++; }
+
+        @Override
+        public void afterProcess(Integer item, Integer result) { calls++; }
+
+        @Override
+        public void afterWrite(List<Integer> items) { calls++; }
+    }
+}
@@ -0,0 +1,69 @@
+package com.hogwai.batch.benchmark;
+
+import com.hogwai.batch.benchmark.BenchmarkSupport.ArrayItemReader;
+import com.hogwai.batch.benchmark.BenchmarkSupport.BlackholeItemWriter;
+import com.hogwai.batch.core.builder.StepBuilder;
+import com.hogwai.batch.core.definition.ChunkOrientedStep;
+import com.hogwai.batch.core.runtime.StepExecution;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures {@link ChunkOrientedStep#execute} over an in-memory reader and writer. Scores are in
+ * items per second; run with the {@code gc} profiler to get the allocations per item
+ * ({@code gc.alloc.rate.norm}).
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ChunkOrientedStepBenchmark {
+
+    @Param({"10", "100", "1000"})
+    int chunkSize;
+
+    @Param({"0", "4"})
+    int listenerCount;
+
+    @Param({"false", "true"})
+    boolean withProcessor;
+
+    private Integer[] items;
+
+    @Setup
+    public void setUp() {
+        items = BenchmarkSupport.items();
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(BenchmarkSupport.ITEM_COUNT)
+    public long execute(Blackhole blackhole) throws Exception {
+        StepBuilder.ChunkStepBuilder<Integer, Integer> builder = new StepBuilder("benchmark")
+                .<Integer, Integer>chunk(chunkSize)
+                .reader(new ArrayItemReader(items))
+                .writer(new BlackholeItemWriter(blackhole));
+        if (withProcessor) {
+            builder.processor(item -> item);
+        }
+        BenchmarkSupport.registerListeners(builder, listenerCount);
+
+        StepExecution stepExecution = BenchmarkSupport.stepExecution();
+        builder.build().execute(stepExecution);
+        return stepExecution.getWriteCount();
+    }
+}
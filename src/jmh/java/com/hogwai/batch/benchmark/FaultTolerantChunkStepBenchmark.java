@@ -0,0 +1,122 @@
+package com.hogwai.batch.benchmark;
+
+import com.hogwai.batch.benchmark.BenchmarkSupport.ArrayItemReader;
+import com.hogwai.batch.benchmark.BenchmarkSupport.BlackholeItemWriter;
+import com.hogwai.batch.core.builder.StepBuilder;
+import com.hogwai.batch.core.definition.FaultTolerantChunkStep;
+import com.hogwai.batch.core.policy.SimpleRetryPolicy;
+import com.hogwai.batch.core.policy.SimpleSkipPolicy;
+import com.hogwai.batch.core.runtime.StepExecution;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures {@link FaultTolerantChunkStep#execute} over an in-memory reader and writer, with a
+ * processor that fails a given share of the items once (then retried) or always (then skipped).
+ * Scores are in items per second; run with the {@code gc} profiler to get the allocations per item.
+ * <p>
+ * The exceptions are preallocated without stack traces, so the scores reflect the cost of the
+ * retry and skip handling rather than of filling in stack traces.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class FaultTolerantChunkStepBenchmark {
+
+    private static final RuntimeException RETRYABLE = new RetryableException();
+    private static final RuntimeException SKIPPABLE = new SkippableException();
+
+    @Param({"10", "100", "1000"})
+    int chunkSize;
+
+    @Param({"0", "4"})
+    int listenerCount;
+
+    @Param({"0", "0.001", "0.01"})
+    double retryRate;
+
+    @Param({"0", "0.001", "0.01"})
+    double skipRate;
+
+    private Integer[] items;
+    private boolean[] retried;
+    private int retryInterval;
+    private int skipInterval;
+    private SimpleRetryPolicy retryPolicy;
+    private SimpleSkipPolicy skipPolicy;
+
+    @Setup
+    public void setUp() {
+        items = BenchmarkSupport.items();
+        retried = new boolean[items.length];
+        retryInterval = interval(retryRate);
+        skipInterval = interval(skipRate);
+        retryPolicy = new SimpleRetryPolicy(2);
+        retryPolicy.registerRetryableException(RetryableException.class);
+        skipPolicy = new SimpleSkipPolicy(Integer.MAX_VALUE);
+        skipPolicy.registerSkippableException(SkippableException.class);
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(BenchmarkSupport.ITEM_COUNT)
+    public long execute(Blackhole blackhole) throws Exception {
+        Arrays.fill(retried, false);
+        StepBuilder.ChunkStepBuilder<Integer, Integer> builder = new StepBuilder("benchmark")
+                .<Integer, Integer>chunk(chunkSize)
+                .reader(new ArrayItemReader(items))
+                .processor(this::process)
+                .writer(new BlackholeItemWriter(blackhole));
+        BenchmarkSupport.registerListeners(builder, listenerCount);
+
+        StepExecution stepExecution = BenchmarkSupport.stepExecution();
+        builder.faultTolerant()
+               .retryPolicy(retryPolicy)
+               .skipPolicy(skipPolicy)
+               .build()
+               .execute(stepExecution);
+        return stepExecution.getWriteCount();
+    }
+
+    private Integer process(Integer item) {
+        int index = item;
+        if (skipInterval > 0 && index % skipInterval == 0) throw SKIPPABLE;
+        if (retryInterval > 0 && index % retryInterval == 0 && !retried[index]) {
+            retried[index] = true;
+            throw RETRYABLE;
+        }
+        return item;
+    }
+
+    private static int interval(double rate) {
+        return rate > 0 ? (int) Math.round(1 / rate) : 0;
+    }
+
+    private static final class RetryableException extends RuntimeException {
+        RetryableException() {
+            super("retryable", null, false, false);
+        }
+    }
+
+    private static final class SkippableException extends RuntimeException {
+        SkippableException() {
+            super("skippable", null, false, false);
+        }
+    }
+}
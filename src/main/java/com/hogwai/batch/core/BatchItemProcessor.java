@@ -0,0 +1,23 @@
+package com.hogwai.batch.core;
+
+import java.util.List;
+
+/**
+ * Transforms all the items of a chunk in a single call, as an alternative to an
+ * {@link ItemProcessor} called once per item. Suited to processors that look items up in a
+ * database or a cache, which can then fetch a whole chunk with one query or one multi-get.
+ *
+ * @param <I> the input item type
+ * @param <O> the output item type
+ * @see ItemProcessor
+ */
+public interface BatchItemProcessor<I, O> {
+    /**
+     * Processes the given items, transforming each of them into the output type.
+     *
+     * @param items the input items of a chunk, in read order
+     * @return one output per input item, in the same order, with {@code null} entries for the items
+     *         to filter out
+     */
+    List<O> process(List<? extends I> items);
+}
@@ -0,0 +1,36 @@
+package com.hogwai.batch.core;
+
+import com.hogwai.batch.core.runtime.StepContribution;
+
+import java.util.List;
+
+/**
+ * {@link ItemWriter} that hands its chunks to another component, such as a remote worker, and
+ * reports what became of the items. A chunk-oriented step adds the counts reported by the writer to
+ * its contribution instead of counting every item of the chunk as written; a fault-tolerant step
+ * adds them only for the writes that succeeded.
+ *
+ * @param <O> the type of items to write
+ * @see com.hogwai.batch.core.remote.RemoteChunkWriter
+ * @see com.hogwai.batch.core.item.async.AsyncItemWriter
+ */
+public interface ContributingItemWriter<O> extends ItemWriter<O> {
+
+    /**
+     * Writes the given chunk and records the resulting write, filter, and skip counts.
+     *
+     * @param items        the chunk of items to write
+     * @param contribution the contribution of the current chunk worker, to add the counts to
+     */
+    void write(List<O> items, StepContribution contribution);
+
+    /**
+     * Writes the given chunk, discarding the counts. Used when the writer is called outside a step.
+     *
+     * @param items the chunk of items to write
+     */
+    @Override
+    default void write(List<O> items) {
+        write(items, new StepContribution());
+    }
+}
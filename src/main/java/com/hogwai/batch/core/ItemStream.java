@@ -0,0 +1,36 @@
+package com.hogwai.batch.core;
+
+import com.hogwai.batch.core.runtime.ExecutionContext;
+
+/**
+ * Lifecycle callbacks for readers, processors, and writers that hold resources or a position in
+ * their input. A chunk step calls {@link #open(ExecutionContext)} before the first item,
+ * {@link #update(ExecutionContext)} after every committed chunk, and {@link #close()} at the end of
+ * the step, whether it succeeded or not. The context is the step execution context, persisted by the
+ * job repository and restored when a failed execution is restarted, so a reader that saves its
+ * position in {@code update} can seek straight back to it in {@code open}.
+ *
+ * @see ItemReader
+ * @see ItemWriter
+ */
+public interface ItemStream {
+
+    /**
+     * Opens the stream, restoring any state previously saved in the given context.
+     *
+     * @param executionContext the step execution context
+     */
+    default void open(ExecutionContext executionContext) {}
+
+    /**
+     * Saves the current state of the stream, called after every committed chunk.
+     *
+     * @param executionContext the step execution context
+     */
+    default void update(ExecutionContext executionContext) {}
+
+    /**
+     * Releases the resources held by the stream.
+     */
+    default void close() {}
+}
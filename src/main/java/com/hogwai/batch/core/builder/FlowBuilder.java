@@ -1,19 +1,23 @@
 package com.hogwai.batch.core.builder;
 
 import com.hogwai.batch.core.definition.Flow;
+import com.hogwai.batch.core.definition.FlowStep;
 import com.hogwai.batch.core.definition.SimpleFlow;
+import com.hogwai.batch.core.definition.SplitFlow;
 import com.hogwai.batch.core.definition.Step;
 
 import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.Executor;
 
 /**
  * Fluent builder for constructing {@link Flow} instances with conditional transitions between steps.
  *
  * @see Flow
  * @see SimpleFlow
+ * @see SplitFlow
  */
 public class FlowBuilder {
     private final String name;
@@ -40,6 +44,33 @@ public class FlowBuilder {
         return this;
     }
 
+    /**
+     * Sets the initial node of the flow to a nested flow, whose exit status drives the transitions.
+     *
+     * @param flow the first flow to execute in the flow
+     * @return this builder
+     */
+    public FlowBuilder start(Flow flow) {
+        return start(new FlowStep(flow));
+    }
+
+    /**
+     * Starts the flow with a split that runs independent flows concurrently on the given executor.
+     * The split is named after this flow with a {@code .split} suffix, and its exit status, combined
+     * from those of its flows, drives the transitions defined with {@link #on(String)}.
+     *
+     * @param taskExecutor the executor running the flows, or {@code null} to use a dedicated
+     *                     thread per flow
+     * @return a {@link SplitBuilder} to specify the flows
+     * @throws IllegalStateException if the flow already has a start step
+     */
+    public SplitBuilder split(Executor taskExecutor) {
+        if (startStep != null) {
+            throw new IllegalStateException("Flow " + name + " already starts with " + startStep.getName());
+        }
+        return new SplitBuilder(this, taskExecutor);
+    }
+
     /**
      * Begins defining a conditional transition from the current step based on an exit status pattern.
      *
@@ -97,5 +128,39 @@ public class FlowBuilder {
             flowBuilder.addTransition(fromStep, pattern, step);
             return flowBuilder;
         }
+
+        /**
+         * Sets a nested flow, such as a split, as the target of this transition.
+         *
+         * @param flow the flow to transition to when the pattern matches
+         * @return the parent {@link FlowBuilder} for continued configuration
+         */
+        public FlowBuilder to(Flow flow) {
+            return to(new FlowStep(flow));
+        }
+    }
+
+    /**
+     * Intermediate builder for specifying the flows of a split.
+     */
+    public static class SplitBuilder {
+        private final FlowBuilder flowBuilder;
+        private final Executor taskExecutor;
+
+        SplitBuilder(FlowBuilder flowBuilder, Executor taskExecutor) {
+            this.flowBuilder = flowBuilder;
+            this.taskExecutor = taskExecutor;
+        }
+
+        /**
+         * Sets the flows run concurrently by the split and returns to the flow builder.
+         *
+         * @param flows the independent flows to run
+         * @return the parent {@link FlowBuilder} for continued configuration
+         * @throws IllegalArgumentException if no flow is given
+         */
+        public FlowBuilder add(Flow... flows) {
+            return flowBuilder.start(new SplitFlow(flowBuilder.name + ".split", List.of(flows), taskExecutor));
+        }
     }
 }
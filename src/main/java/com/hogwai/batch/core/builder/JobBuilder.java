@@ -2,12 +2,16 @@ package com.hogwai.batch.core.builder;
 
 import com.hogwai.batch.core.definition.Flow;
 import com.hogwai.batch.core.definition.FlowStep;
+import com.hogwai.batch.core.definition.GraphJob;
 import com.hogwai.batch.core.definition.Job;
 import com.hogwai.batch.core.definition.Step;
 import com.hogwai.batch.core.listener.JobExecutionListener;
 
 import java.util.ArrayList;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Executor;
 
 /**
  * Fluent builder for constructing {@link Job} instances from a sequence of steps and/or flows.
@@ -60,6 +64,22 @@ public class JobBuilder {
      */
     public JobBuilder next(Flow flow) { steps.add(new FlowStep(flow)); return this; }
 
+    /**
+     * Begins configuring a {@link GraphJob} whose steps run as soon as the steps they depend on
+     * have completed, instead of one after the other.
+     *
+     * @param step     the step to add
+     * @param upstream the steps that must complete before it starts
+     * @return a {@link GraphJobBuilder} for further configuration
+     * @throws IllegalStateException if steps were already added with {@code start} or {@code next}
+     */
+    public GraphJobBuilder step(Step step, Step... upstream) {
+        if (!steps.isEmpty()) {
+            throw new IllegalStateException("Job " + name + " already has sequential steps");
+        }
+        return new GraphJobBuilder(name, listeners).step(step, upstream);
+    }
+
     /**
      * Registers a listener to be notified of job-level lifecycle events.
      *
@@ -95,4 +115,93 @@ public class JobBuilder {
         @Override public List<Step> getSteps() { return steps; }
         @Override public List<JobExecutionListener> getListeners() { return listeners; }
     }
+
+    /**
+     * Builder for graph jobs whose steps declare the steps they depend on.
+     */
+    public static class GraphJobBuilder {
+        private final String name;
+        private final List<JobExecutionListener> listeners;
+        private final Map<Step, List<String>> dependencies = new LinkedHashMap<>();
+        private int maxConcurrency = Runtime.getRuntime().availableProcessors();
+        private Executor taskExecutor;
+
+        private GraphJobBuilder(String name, List<JobExecutionListener> listeners) {
+            this.name = name;
+            this.listeners = new ArrayList<>(listeners);
+        }
+
+        /**
+         * Adds a step that starts once all the given steps have completed. Upstream steps must be
+         * added to the job as well, in any order.
+         *
+         * @param step     the step to add
+         * @param upstream the steps that must complete before it starts
+         * @return this builder
+         */
+        public GraphJobBuilder step(Step step, Step... upstream) {
+            List<String> upstreamNames = new ArrayList<>(upstream.length);
+            for (Step dependency : upstream) {
+                upstreamNames.add(dependency.getName());
+            }
+            dependencies.put(step, upstreamNames);
+            return this;
+        }
+
+        /**
+         * Adds a flow, wrapped as a {@link FlowStep}, that starts once all the given steps have completed.
+         *
+         * @param flow     the flow to add
+         * @param upstream the steps that must complete before it starts
+         * @return this builder
+         */
+        public GraphJobBuilder step(Flow flow, Step... upstream) {
+            return step(new FlowStep(flow), upstream);
+        }
+
+        /**
+         * Sets the maximum number of steps running at once.
+         *
+         * @param maxConcurrency the step concurrency limit, defaults to the number of available processors
+         * @return this builder
+         */
+        public GraphJobBuilder maxConcurrency(int maxConcurrency) {
+            this.maxConcurrency = maxConcurrency;
+            return this;
+        }
+
+        /**
+         * Sets the executor running the steps. If not set, a fixed thread pool sized to the
+         * concurrency limit is created for each execution.
+         *
+         * @param taskExecutor the executor running the steps
+         * @return this builder
+         */
+        public GraphJobBuilder taskExecutor(Executor taskExecutor) {
+            this.taskExecutor = taskExecutor;
+            return this;
+        }
+
+        /**
+         * Registers a listener to be notified of job-level lifecycle events.
+         *
+         * @param listener the job execution listener
+         * @return this builder
+         */
+        public GraphJobBuilder listener(JobExecutionListener listener) {
+            listeners.add(listener);
+            return this;
+        }
+
+        /**
+         * Builds the graph job.
+         *
+         * @return the constructed {@link GraphJob}
+         * @throws IllegalArgumentException if a dependency names a step that was not added
+         * @throws IllegalStateException    if the dependencies contain a cycle
+         */
+        public GraphJob build() {
+            return new GraphJob(name, dependencies, maxConcurrency, taskExecutor, List.copyOf(listeners));
+        }
+    }
 }
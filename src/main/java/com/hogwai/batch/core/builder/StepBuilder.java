@@ -1,11 +1,15 @@
 package com.hogwai.batch.core.builder;
 
+import com.hogwai.batch.core.BatchItemProcessor;
 import com.hogwai.batch.core.ItemProcessor;
 import com.hogwai.batch.core.ItemReader;
 import com.hogwai.batch.core.ItemWriter;
 import com.hogwai.batch.core.Tasklet;
 import com.hogwai.batch.core.definition.ChunkOrientedStep;
 import com.hogwai.batch.core.definition.FaultTolerantChunkStep;
+import com.hogwai.batch.core.definition.PartitionStep;
+import com.hogwai.batch.core.definition.Partitioner;
+import com.hogwai.batch.core.definition.PipelinedChunkStep;
 import com.hogwai.batch.core.definition.Step;
 import com.hogwai.batch.core.definition.TaskletStep;
 import com.hogwai.batch.core.listener.ChunkListener;
@@ -14,24 +18,40 @@ import com.hogwai.batch.core.listener.ItemReadListener;
 import com.hogwai.batch.core.listener.ItemWriteListener;
 import com.hogwai.batch.core.listener.SkipListener;
 import com.hogwai.batch.core.listener.StepExecutionListener;
+import com.hogwai.batch.core.metrics.StepMetricsListener;
+import com.hogwai.batch.core.policy.AdaptiveChunkSizePolicy;
 import com.hogwai.batch.core.policy.BackoffPolicy;
+import com.hogwai.batch.core.policy.CircuitBreakerPolicy;
+import com.hogwai.batch.core.policy.CompletionPolicy;
+import com.hogwai.batch.core.policy.CompositeCompletionPolicy;
 import com.hogwai.batch.core.policy.RetryPolicy;
+import com.hogwai.batch.core.policy.SimpleCompletionPolicy;
 import com.hogwai.batch.core.policy.SkipPolicy;
+import com.hogwai.batch.core.remote.RemoteChunkWriter;
+import com.hogwai.batch.core.runtime.ExecutionContext;
+import com.hogwai.batch.core.runtime.repository.JobRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.Executor;
+import java.util.function.Function;
 
 /**
  * Fluent builder for constructing {@link Step} instances. Supports chunk-oriented,
- * tasklet-based, and fault-tolerant step configurations.
+ * tasklet-based, fault-tolerant, and partitioned step configurations.
  *
  * @see ChunkStepBuilder
  * @see TaskletStepBuilder
  * @see FaultTolerantChunkStepBuilder
+ * @see PipelinedChunkStepBuilder
+ * @see PartitionStepBuilder
  */
 public class StepBuilder {
 
     private final String name;
+    private final JobRepository jobRepository;
 
     /**
      * Creates a new step builder with the given step name.
@@ -39,7 +59,20 @@ public class StepBuilder {
      * @param name the unique name for the step
      */
     public StepBuilder(String name) {
+        this(name, null);
+    }
+
+    /**
+     * Creates a new step builder with the given step name and the repository that steps needing
+     * to create or update step executions themselves will use: partitioned steps create their
+     * partition executions in it, and chunk steps persist their progress at every commit.
+     *
+     * @param name          the unique name for the step
+     * @param jobRepository the job repository
+     */
+    public StepBuilder(String name, JobRepository jobRepository) {
         this.name = name;
+        this.jobRepository = jobRepository;
     }
 
     /**
@@ -51,7 +84,20 @@ public class StepBuilder {
      * @return a {@link ChunkStepBuilder} for further configuration
      */
     public <I, O> ChunkStepBuilder<I, O> chunk(int chunkSize) {
-        return new ChunkStepBuilder<>(name, chunkSize);
+        return new ChunkStepBuilder<>(name, chunkSize, null, jobRepository);
+    }
+
+    /**
+     * Begins configuring a chunk-oriented step whose chunk size adapts to the time taken to write
+     * and commit each chunk.
+     *
+     * @param chunkSizePolicy the policy sizing the chunks
+     * @param <I>             the input item type
+     * @param <O>             the output item type
+     * @return a {@link ChunkStepBuilder} for further configuration
+     */
+    public <I, O> ChunkStepBuilder<I, O> chunk(AdaptiveChunkSizePolicy chunkSizePolicy) {
+        return new ChunkStepBuilder<>(name, chunkSizePolicy.getMinChunkSize(), chunkSizePolicy, jobRepository);
     }
 
     /**
@@ -64,6 +110,24 @@ public class StepBuilder {
         return new TaskletStepBuilder(name, tasklet);
     }
 
+    /**
+     * Begins configuring a partitioned step that runs a worker step once per partition, in parallel.
+     *
+     * @param partitioner the partitioner splitting the input
+     * @return a {@link PartitionStepBuilder} for further configuration
+     */
+    public PartitionStepBuilder partitioner(Partitioner partitioner) {
+        return new PartitionStepBuilder(name, partitioner, jobRepository);
+    }
+
+    private static CompletionPolicy combinedCompletionPolicy(int chunkSize, AdaptiveChunkSizePolicy chunkSizePolicy,
+                                                             List<CompletionPolicy> completionPolicies) {
+        List<CompletionPolicy> policies = new ArrayList<>();
+        policies.add(chunkSizePolicy != null ? chunkSizePolicy : new SimpleCompletionPolicy(chunkSize));
+        policies.addAll(completionPolicies);
+        return new CompositeCompletionPolicy(policies);
+    }
+
     /**
      * Builder for chunk-oriented steps that read, optionally process, and write items in chunks.
      *
@@ -73,18 +137,29 @@ public class StepBuilder {
     public static class ChunkStepBuilder<I, O> {
         private final String name;
         private final int chunkSize;
+        private final AdaptiveChunkSizePolicy chunkSizePolicy;
+        private final List<CompletionPolicy> completionPolicies = new ArrayList<>();
         private ItemReader<? extends I> reader;
         private ItemProcessor<? super I, ? extends O> processor;
+        private BatchItemProcessor<? super I, ? extends O> batchProcessor;
         private ItemWriter<O> writer;
         private final List<StepExecutionListener> stepListeners = new ArrayList<>();
         private final List<ChunkListener> chunkListeners = new ArrayList<>();
         private final List<ItemReadListener<I>> itemReadListeners = new ArrayList<>();
         private final List<ItemProcessListener<I, O>> itemProcessListeners = new ArrayList<>();
         private final List<ItemWriteListener<O>> itemWriteListeners = new ArrayList<>();
+        private Executor taskExecutor;
+        private int concurrency = 1;
+        private int virtualThreadConcurrency;
+        private StepMetricsListener<I, O> metricsListener;
+        private final JobRepository jobRepository;
 
-        private ChunkStepBuilder(String name, int chunkSize) {
+        private ChunkStepBuilder(String name, int chunkSize, AdaptiveChunkSizePolicy chunkSizePolicy,
+                                 JobRepository jobRepository) {
             this.name = name;
             this.chunkSize = chunkSize;
+            this.chunkSizePolicy = chunkSizePolicy;
+            this.jobRepository = jobRepository;
         }
 
         /**
@@ -109,6 +184,18 @@ public class StepBuilder {
             return this;
         }
 
+        /**
+         * Sets a processor called once per chunk with all the items read, in place of an item
+         * processor, so that lookups can be made for a whole chunk at once.
+         *
+         * @param batchProcessor the processor that transforms the input items of a chunk
+         * @return this builder
+         */
+        public ChunkStepBuilder<I, O> batchProcessor(BatchItemProcessor<? super I, ? extends O> batchProcessor) {
+            this.batchProcessor = batchProcessor;
+            return this;
+        }
+
         /**
          * Sets the item writer for this chunk step.
          *
@@ -175,32 +262,182 @@ public class StepBuilder {
             return this;
         }
 
+        /**
+         * Publishes live item counters and read, process, write, and chunk timers of the step to the
+         * given registry, tagged with the {@code step} name.
+         *
+         * @param meterRegistry the registry the step meters are registered with
+         * @return this builder
+         * @see StepMetricsListener
+         */
+        public ChunkStepBuilder<I, O> metrics(MeterRegistry meterRegistry) {
+            return metrics(meterRegistry, Tags.empty());
+        }
+
+        /**
+         * Publishes live item counters and read, process, write, and chunk timers of the step to the
+         * given registry, tagged with the {@code step} name and the given tags, such as the
+         * {@code job} name.
+         *
+         * @param meterRegistry the registry the step meters are registered with
+         * @param tags          additional tags of every step meter
+         * @return this builder
+         * @see StepMetricsListener
+         */
+        public ChunkStepBuilder<I, O> metrics(MeterRegistry meterRegistry, Tags tags) {
+            this.metricsListener = new StepMetricsListener<>(meterRegistry, Tags.of("step", name).and(tags));
+            return this;
+        }
+
+        /**
+         * Sets the executor running the chunk workers. Only used when the concurrency is greater than one.
+         *
+         * @param taskExecutor the executor running the workers
+         * @return this builder
+         */
+        public ChunkStepBuilder<I, O> taskExecutor(Executor taskExecutor) {
+            this.taskExecutor = taskExecutor;
+            return this;
+        }
+
+        /**
+         * Sets the number of workers that concurrently read, process, and write chunks.
+         * The reader is shared between workers and accessed under a lock; the processor,
+         * writer, and listeners must be thread-safe.
+         *
+         * @param concurrency the number of workers, {@code 1} for sequential execution
+         * @return this builder
+         */
+        public ChunkStepBuilder<I, O> concurrency(int concurrency) {
+            this.concurrency = concurrency;
+            return this;
+        }
+
+        /**
+         * Processes the items of each chunk on virtual threads, with at most {@code maxConcurrency}
+         * items in flight. Suited to processors that block on I/O; outputs keep the input order.
+         *
+         * @param maxConcurrency the maximum number of items processed at once
+         * @return this builder
+         */
+        public ChunkStepBuilder<I, O> virtualThreadProcessing(int maxConcurrency) {
+            this.virtualThreadConcurrency = maxConcurrency;
+            return this;
+        }
+
+        /**
+         * Also completes each chunk when the given policy does, for instance after a timeout or past a
+         * byte budget, in addition to the chunk size. May be called several times, a chunk being
+         * complete as soon as any policy completes it.
+         *
+         * @param completionPolicy the additional completion policy
+         * @return this builder
+         */
+        public ChunkStepBuilder<I, O> completionPolicy(CompletionPolicy completionPolicy) {
+            this.completionPolicies.add(completionPolicy);
+            return this;
+        }
+
         /**
          * Upgrades this builder to a fault-tolerant configuration supporting skip and retry policies.
          *
          * @return a {@link FaultTolerantChunkStepBuilder} pre-populated with the current configuration
+         * @throws IllegalStateException if a concurrency greater than one or a {@link RemoteChunkWriter}
+         *                               was configured, or a batch processor is combined with an item
+         *                               processor or virtual-thread processing
          */
         public FaultTolerantChunkStepBuilder<I, O> faultTolerant() {
-            return new FaultTolerantChunkStepBuilder<>(name, chunkSize, reader, processor, writer,
-                    stepListeners, chunkListeners, itemReadListeners, itemProcessListeners, itemWriteListeners);
+            if (concurrency > 1) {
+                throw new IllegalStateException("concurrency is not supported by fault-tolerant steps");
+            }
+            if (writer instanceof RemoteChunkWriter) {
+                throw new IllegalStateException("remote chunk writers are not supported by fault-tolerant steps");
+            }
+            checkBatchProcessor();
+            FaultTolerantChunkStepBuilder<I, O> builder = new FaultTolerantChunkStepBuilder<>(name, chunkSize,
+                    reader, processor, writer, stepListeners, chunkListeners, itemReadListeners,
+                    itemProcessListeners, itemWriteListeners, virtualThreadConcurrency, jobRepository);
+            builder.chunkSizePolicy = chunkSizePolicy;
+            builder.completionPolicies.addAll(completionPolicies);
+            builder.batchProcessor = batchProcessor;
+            if (metricsListener != null) {
+                builder.metricsListener = metricsListener;
+                builder.skipListener(metricsListener);
+            }
+            return builder;
+        }
+
+        /**
+         * Switches this builder to a pipelined configuration where reading, processing, and writing
+         * run as separate stages connected by bounded queues.
+         *
+         * @return a {@link PipelinedChunkStepBuilder} pre-populated with the current configuration
+         * @throws IllegalStateException if a concurrency greater than one, virtual-thread processing, an
+         *                               adaptive chunk size, a completion policy, or a batch processor was
+         *                               configured
+         */
+        public PipelinedChunkStepBuilder<I, O> pipelined() {
+            if (concurrency > 1) {
+                throw new IllegalStateException("concurrency is not supported by pipelined steps");
+            }
+            if (virtualThreadConcurrency > 0) {
+                throw new IllegalStateException("virtual-thread processing is not supported by pipelined steps");
+            }
+            if (chunkSizePolicy != null) {
+                throw new IllegalStateException("adaptive chunk size is not supported by pipelined steps");
+            }
+            if (!completionPolicies.isEmpty()) {
+                throw new IllegalStateException("completion policies are not supported by pipelined steps");
+            }
+            if (batchProcessor != null) {
+                throw new IllegalStateException("batch processors are not supported by pipelined steps");
+            }
+            PipelinedChunkStepBuilder<I, O> builder = new PipelinedChunkStepBuilder<>(name, chunkSize, reader,
+                    processor, writer, stepListeners, chunkListeners, itemReadListeners, itemProcessListeners,
+                    itemWriteListeners);
+            builder.metricsListener = metricsListener;
+            return builder;
         }
 
         /**
          * Builds the chunk-oriented step.
          *
          * @return the constructed {@link Step}
-         * @throws IllegalStateException if reader or writer is not set
+         * @throws IllegalStateException if reader or writer is not set, or a batch processor is combined with an
+         *                               item processor or virtual-thread processing
          */
         public Step build() {
             if (reader == null) throw new IllegalStateException("reader is required");
             if (writer == null) throw new IllegalStateException("writer is required");
+            checkBatchProcessor();
 
-            return new ChunkOrientedStep<>(
+            ChunkOrientedStep<I, O> step = new ChunkOrientedStep<>(
                     name, chunkSize, reader, processor, writer,
                     List.copyOf(stepListeners), List.copyOf(chunkListeners),
                     List.copyOf(itemReadListeners), List.copyOf(itemProcessListeners),
                     List.copyOf(itemWriteListeners)
             );
+            step.setTaskExecutor(taskExecutor);
+            step.setConcurrency(concurrency);
+            step.setVirtualThreadProcessing(virtualThreadConcurrency);
+            step.setJobRepository(jobRepository);
+            step.setChunkSizePolicy(chunkSizePolicy);
+            if (!completionPolicies.isEmpty()) {
+                step.setCompletionPolicy(combinedCompletionPolicy(chunkSize, chunkSizePolicy, completionPolicies));
+            }
+            step.setBatchProcessor(batchProcessor);
+            step.setMetrics(metricsListener);
+            return step;
+        }
+
+        private void checkBatchProcessor() {
+            if (batchProcessor == null) return;
+            if (processor != null) {
+                throw new IllegalStateException("processor and batchProcessor are mutually exclusive");
+            }
+            if (virtualThreadConcurrency > 0) {
+                throw new IllegalStateException("virtual-thread processing is not supported with a batch processor");
+            }
         }
     }
 
@@ -239,7 +476,7 @@ public class StepBuilder {
     }
 
     /**
-     * Builder for fault-tolerant chunk steps that support skip, retry, and backoff policies.
+     * Builder for fault-tolerant chunk steps that support skip, retry, and backoff policies and a circuit breaker.
      *
      * @param <I> the input item type
      * @param <O> the output item type
@@ -259,6 +496,13 @@ public class StepBuilder {
         private SkipPolicy skipPolicy;
         private RetryPolicy retryPolicy;
         private BackoffPolicy backoffPolicy;
+        private CircuitBreakerPolicy circuitBreaker;
+        private final int virtualThreadConcurrency;
+        private final JobRepository jobRepository;
+        private AdaptiveChunkSizePolicy chunkSizePolicy;
+        private final List<CompletionPolicy> completionPolicies = new ArrayList<>();
+        private BatchItemProcessor<? super I, ? extends O> batchProcessor;
+        private StepMetricsListener<I, O> metricsListener;
 
         FaultTolerantChunkStepBuilder(String name, int chunkSize,
                 ItemReader<? extends I> reader, ItemProcessor<? super I, ? extends O> processor,
@@ -266,7 +510,8 @@ public class StepBuilder {
                 List<ChunkListener> chunkListeners,
                 List<ItemReadListener<I>> itemReadListeners,
                 List<ItemProcessListener<I, O>> itemProcessListeners,
-                List<ItemWriteListener<O>> itemWriteListeners) {
+                List<ItemWriteListener<O>> itemWriteListeners,
+                int virtualThreadConcurrency, JobRepository jobRepository) {
             this.name = name;
             this.chunkSize = chunkSize;
             this.reader = reader;
@@ -277,6 +522,8 @@ public class StepBuilder {
             this.itemReadListeners = itemReadListeners;
             this.itemProcessListeners = itemProcessListeners;
             this.itemWriteListeners = itemWriteListeners;
+            this.virtualThreadConcurrency = virtualThreadConcurrency;
+            this.jobRepository = jobRepository;
         }
 
         /**
@@ -312,6 +559,18 @@ public class StepBuilder {
             return this;
         }
 
+        /**
+         * Sets the circuit breaker guarding processor and writer calls, so that the step fails fast or
+         * pauses instead of retrying every item while a dependency is down.
+         *
+         * @param circuitBreaker the circuit breaker
+         * @return this builder
+         */
+        public FaultTolerantChunkStepBuilder<I, O> circuitBreaker(CircuitBreakerPolicy circuitBreaker) {
+            this.circuitBreaker = circuitBreaker;
+            return this;
+        }
+
         /**
          * Registers a skip listener to be notified when items are skipped.
          *
@@ -323,17 +582,224 @@ public class StepBuilder {
             return this;
         }
 
+        /**
+         * Also completes each chunk when the given policy does, in addition to the chunk size.
+         *
+         * @param completionPolicy the additional completion policy
+         * @return this builder
+         * @see ChunkStepBuilder#completionPolicy(CompletionPolicy)
+         */
+        public FaultTolerantChunkStepBuilder<I, O> completionPolicy(CompletionPolicy completionPolicy) {
+            this.completionPolicies.add(completionPolicy);
+            return this;
+        }
+
         /**
          * Builds the fault-tolerant chunk step.
          *
          * @return the constructed {@link Step}
          */
         public Step build() {
-            return new FaultTolerantChunkStep<>(name, chunkSize, reader, processor, writer,
+            FaultTolerantChunkStep<I, O> step = new FaultTolerantChunkStep<>(name, chunkSize, reader, processor, writer,
                     skipPolicy, retryPolicy, backoffPolicy,
                     List.copyOf(stepListeners), List.copyOf(chunkListeners),
                     List.copyOf(itemReadListeners), List.copyOf(itemProcessListeners),
                     List.copyOf(itemWriteListeners), List.copyOf(skipListeners));
+            step.setVirtualThreadProcessing(virtualThreadConcurrency);
+            step.setJobRepository(jobRepository);
+            step.setChunkSizePolicy(chunkSizePolicy);
+            if (!completionPolicies.isEmpty()) {
+                step.setCompletionPolicy(combinedCompletionPolicy(chunkSize, chunkSizePolicy, completionPolicies));
+            }
+            step.setCircuitBreaker(circuitBreaker);
+            step.setBatchProcessor(batchProcessor);
+            step.setMetrics(metricsListener);
+            return step;
+        }
+    }
+
+    /**
+     * Builder for pipelined chunk steps whose read, process, and write stages run concurrently.
+     *
+     * @param <I> the input item type
+     * @param <O> the output item type
+     */
+    public static class PipelinedChunkStepBuilder<I, O> {
+        private final String name;
+        private final int chunkSize;
+        private final ItemReader<? extends I> reader;
+        private final ItemProcessor<? super I, ? extends O> processor;
+        private final ItemWriter<O> writer;
+        private final List<StepExecutionListener> stepListeners;
+        private final List<ChunkListener> chunkListeners;
+        private final List<ItemReadListener<I>> itemReadListeners;
+        private final List<ItemProcessListener<I, O>> itemProcessListeners;
+        private final List<ItemWriteListener<O>> itemWriteListeners;
+        private int queueCapacity = 2;
+        private int processConcurrency = 1;
+        private int writeConcurrency = 1;
+        private StepMetricsListener<I, O> metricsListener;
+
+        PipelinedChunkStepBuilder(String name, int chunkSize,
+                ItemReader<? extends I> reader, ItemProcessor<? super I, ? extends O> processor,
+                ItemWriter<O> writer, List<StepExecutionListener> stepListeners,
+                List<ChunkListener> chunkListeners,
+                List<ItemReadListener<I>> itemReadListeners,
+                List<ItemProcessListener<I, O>> itemProcessListeners,
+                List<ItemWriteListener<O>> itemWriteListeners) {
+            this.name = name;
+            this.chunkSize = chunkSize;
+            this.reader = reader;
+            this.processor = processor;
+            this.writer = writer;
+            this.stepListeners = stepListeners;
+            this.chunkListeners = chunkListeners;
+            this.itemReadListeners = itemReadListeners;
+            this.itemProcessListeners = itemProcessListeners;
+            this.itemWriteListeners = itemWriteListeners;
+        }
+
+        /**
+         * Sets the maximum number of chunks buffered between two stages before the upstream stage blocks.
+         *
+         * @param queueCapacity the hand-off queue capacity, defaults to {@code 2}
+         * @return this builder
+         */
+        public PipelinedChunkStepBuilder<I, O> queueCapacity(int queueCapacity) {
+            this.queueCapacity = queueCapacity;
+            return this;
+        }
+
+        /**
+         * Sets the number of threads processing chunks. The processor must be thread-safe when greater than one.
+         *
+         * @param processConcurrency the number of processing threads, defaults to {@code 1}
+         * @return this builder
+         */
+        public PipelinedChunkStepBuilder<I, O> processConcurrency(int processConcurrency) {
+            this.processConcurrency = processConcurrency;
+            return this;
+        }
+
+        /**
+         * Sets the number of threads writing chunks. The writer must be thread-safe when greater than one,
+         * and chunks may then be written out of order.
+         *
+         * @param writeConcurrency the number of writing threads, defaults to {@code 1}
+         * @return this builder
+         */
+        public PipelinedChunkStepBuilder<I, O> writeConcurrency(int writeConcurrency) {
+            this.writeConcurrency = writeConcurrency;
+            return this;
+        }
+
+        /**
+         * Builds the pipelined chunk step.
+         *
+         * @return the constructed {@link Step}
+         * @throws IllegalStateException if reader or writer is not set
+         */
+        public Step build() {
+            if (reader == null) throw new IllegalStateException("reader is required");
+            if (writer == null) throw new IllegalStateException("writer is required");
+
+            PipelinedChunkStep<I, O> step = new PipelinedChunkStep<>(name, chunkSize, reader, processor, writer,
+                    queueCapacity, processConcurrency, writeConcurrency,
+                    List.copyOf(stepListeners), List.copyOf(chunkListeners),
+                    List.copyOf(itemReadListeners), List.copyOf(itemProcessListeners),
+                    List.copyOf(itemWriteListeners));
+            step.setMetrics(metricsListener);
+            return step;
+        }
+    }
+
+    /**
+     * Builder for partitioned steps that run a worker step once per partition, in parallel.
+     */
+    public static class PartitionStepBuilder {
+        private final String name;
+        private final Partitioner partitioner;
+        private final JobRepository jobRepository;
+        private final List<StepExecutionListener> listeners = new ArrayList<>();
+        private Function<ExecutionContext, ? extends Step> workerStepFactory;
+        private int gridSize = 1;
+        private Executor taskExecutor;
+
+        private PartitionStepBuilder(String name, Partitioner partitioner, JobRepository jobRepository) {
+            this.name = name;
+            this.partitioner = partitioner;
+            this.jobRepository = jobRepository;
+        }
+
+        /**
+         * Sets a worker step shared by all partitions. It must be thread-safe and read its partition
+         * bounds from the step execution context.
+         *
+         * @param workerStep the worker step
+         * @return this builder
+         */
+        public PartitionStepBuilder step(Step workerStep) {
+            this.workerStepFactory = context -> workerStep;
+            return this;
+        }
+
+        /**
+         * Sets a factory creating a dedicated worker step for each partition, given its context.
+         *
+         * @param workerStepFactory the worker step factory
+         * @return this builder
+         */
+        public PartitionStepBuilder stepFactory(Function<ExecutionContext, ? extends Step> workerStepFactory) {
+            this.workerStepFactory = workerStepFactory;
+            return this;
+        }
+
+        /**
+         * Sets the number of partitions requested from the partitioner.
+         *
+         * @param gridSize the requested number of partitions, defaults to {@code 1}
+         * @return this builder
+         */
+        public PartitionStepBuilder gridSize(int gridSize) {
+            this.gridSize = gridSize;
+            return this;
+        }
+
+        /**
+         * Sets the executor running the partitions. If not set, a fixed thread pool sized to the
+         * number of partitions is created for each execution.
+         *
+         * @param taskExecutor the executor running the partitions
+         * @return this builder
+         */
+        public PartitionStepBuilder taskExecutor(Executor taskExecutor) {
+            this.taskExecutor = taskExecutor;
+            return this;
+        }
+
+        /**
+         * Registers a step execution listener on the partitioned step.
+         *
+         * @param listener the step execution listener
+         * @return this builder
+         */
+        public PartitionStepBuilder listener(StepExecutionListener listener) {
+            listeners.add(listener);
+            return this;
+        }
+
+        /**
+         * Builds the partitioned step.
+         *
+         * @return the constructed {@link Step}
+         * @throws IllegalStateException if the worker step or the job repository is not set
+         */
+        public Step build() {
+            if (workerStepFactory == null) throw new IllegalStateException("worker step is required");
+            if (jobRepository == null) throw new IllegalStateException("jobRepository is required");
+
+            return new PartitionStep(name, partitioner, workerStepFactory, gridSize,
+                    jobRepository, taskExecutor, List.copyOf(listeners));
         }
     }
 }
@@ -46,6 +46,33 @@ public final class JobParameters {
      */
     public Long getLong(String key) { return (Long) parameters.get(key); }
 
+    /**
+     * Returns all parameters.
+     *
+     * @return an unmodifiable map of the parameters
+     */
+    public Map<String, Object> getParameters() { return parameters; }
+
+    /**
+     * Two {@code JobParameters} are equal when they hold the same keys and values, which is how
+     * the job instance of a run is identified.
+     *
+     * @param o the object to compare with
+     * @return {@code true} if the parameters are equal
+     */
+    @Override
+    public boolean equals(Object o) {
+        return o instanceof JobParameters other && parameters.equals(other.parameters);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public int hashCode() { return parameters.hashCode(); }
+
+    /** {@inheritDoc} */
+    @Override
+    public String toString() { return parameters.toString(); }
+
     /**
      * Builder for constructing {@link JobParameters} instances.
      */
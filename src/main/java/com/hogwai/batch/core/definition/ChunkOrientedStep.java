@@ -1,22 +1,73 @@
 package com.hogwai.batch.core.definition;
 
+import com.hogwai.batch.core.BatchItemProcessor;
+import com.hogwai.batch.core.ContributingItemWriter;
 import com.hogwai.batch.core.ItemProcessor;
 import com.hogwai.batch.core.ItemReader;
+import com.hogwai.batch.core.ItemStream;
 import com.hogwai.batch.core.ItemWriter;
+import com.hogwai.batch.core.jfr.ChunkWriteEvent;
+import com.hogwai.batch.core.jfr.ItemProcessEvent;
+import com.hogwai.batch.core.jfr.ItemReadEvent;
 import com.hogwai.batch.core.listener.ChunkListener;
+import com.hogwai.batch.core.listener.CompositeChunkListener;
+import com.hogwai.batch.core.listener.CompositeItemProcessListener;
+import com.hogwai.batch.core.listener.CompositeItemReadListener;
+import com.hogwai.batch.core.listener.CompositeItemWriteListener;
 import com.hogwai.batch.core.listener.ItemProcessListener;
 import com.hogwai.batch.core.listener.ItemReadListener;
 import com.hogwai.batch.core.listener.ItemWriteListener;
 import com.hogwai.batch.core.listener.StepExecutionListener;
+import com.hogwai.batch.core.metrics.StepMetricsListener;
+import com.hogwai.batch.core.policy.AdaptiveChunkSizePolicy;
+import com.hogwai.batch.core.policy.CompletionPolicy;
+import com.hogwai.batch.core.policy.SimpleCompletionPolicy;
+import com.hogwai.batch.core.runtime.BatchStatus;
+import com.hogwai.batch.core.runtime.ExitStatus;
 import com.hogwai.batch.core.runtime.StepContribution;
 import com.hogwai.batch.core.runtime.StepExecution;
+import com.hogwai.batch.core.runtime.repository.JobRepository;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Supplier;
 
 /**
  * A {@link Step} that reads, optionally processes, and writes items in fixed-size chunks.
  * Items are accumulated until the chunk size is reached, then written as a batch.
+ * <p>
+ * A {@link CompletionPolicy} can replace the chunk size to also close chunks after a timeout or past
+ * a byte budget. It is given the processed items added to the chunk, or the items read when
+ * processing runs on virtual threads or in batches, since a whole chunk is then read before being
+ * processed.
+ * <p>
+ * When a concurrency greater than one is configured, several workers pull items from
+ * the shared reader, each building and writing its own chunks in parallel. Independently,
+ * virtual-thread processing hands every item of a chunk to its own virtual thread, which suits
+ * processors that spend most of their time blocked on I/O. A {@link BatchItemProcessor} instead
+ * processes all the items of a chunk in one call, so that lookups are made once per chunk.
+ * <p>
+ * A {@link ContributingItemWriter}, such as the writer sending chunks to remote workers, reports the
+ * write, filter, and skip counts of each chunk itself; any other writer has all its items counted
+ * as written.
+ * <p>
+ * Components implementing {@link ItemStream} are opened before the first item, updated after every
+ * chunk commit, and closed at the end of the step. When a {@link JobRepository} is set, the step
+ * execution is persisted after every chunk commit, so that a restarted execution resumes after the
+ * last committed chunk: an {@code ItemStream} reader seeks back to its saved position, any other
+ * reader skips the items read so far. With concurrent workers, the items are numbered as they are
+ * read and the saved position is that of the first item not yet committed by any worker; the reader
+ * is then repositioned by skipping items even if it is an {@code ItemStream}, and a failed step
+ * may write again, on restart, up to {@code concurrency - 1} chunks committed past that position.
+ * <p>
+ * If the job is stopping, the step ends as {@link BatchStatus#STOPPED} after the chunk being written,
+ * so that a restart resumes right after it.
  *
  * @param <I> the input item type
  * @param <O> the output item type
@@ -29,10 +80,20 @@ public class ChunkOrientedStep<I, O> implements Step {
     private final ItemProcessor<? super I, ? extends O> processor;
     private final ItemWriter<O> writer;
     private final List<StepExecutionListener> stepListeners;
-    private final List<ChunkListener> chunkListeners;
-    private final List<ItemReadListener<I>> itemReadListeners;
-    private final List<ItemProcessListener<I, O>> itemProcessListeners;
-    private final List<ItemWriteListener<O>> itemWriteListeners;
+    private final ChunkListener chunkListener;
+    private final ItemReadListener<I> itemReadListener;
+    private final ItemProcessListener<I, O> itemProcessListener;
+    private final ItemWriteListener<O> itemWriteListener;
+    private final Object readLock = new Object();
+    private ChunkProgress progress;
+    private Executor taskExecutor;
+    private int concurrency = 1;
+    private int virtualThreadConcurrency;
+    private JobRepository jobRepository;
+    private AdaptiveChunkSizePolicy chunkSizePolicy;
+    private CompletionPolicy completionPolicy;
+    private BatchItemProcessor<? super I, ? extends O> batchProcessor;
+    private StepMetricsListener<I, O> metrics;
 
     /**
      * Creates a chunk-oriented step without item-level listeners.
@@ -86,14 +147,105 @@ public class ChunkOrientedStep<I, O> implements Step {
     ) {
         this.name = name;
         this.chunkSize = chunkSize;
+        this.completionPolicy = new SimpleCompletionPolicy(chunkSize);
         this.reader = reader;
         this.processor = processor;
         this.writer = writer;
         this.stepListeners = stepListeners;
-        this.chunkListeners = chunkListeners;
-        this.itemReadListeners = itemReadListeners;
-        this.itemProcessListeners = itemProcessListeners;
-        this.itemWriteListeners = itemWriteListeners;
+        this.chunkListener = CompositeChunkListener.of(chunkListeners);
+        this.itemReadListener = CompositeItemReadListener.of(itemReadListeners);
+        this.itemProcessListener = CompositeItemProcessListener.of(itemProcessListeners);
+        this.itemWriteListener = CompositeItemWriteListener.of(itemWriteListeners);
+        this.progress = new ChunkProgress(reader, false, reader, processor, writer);
+    }
+
+    /**
+     * Sets the executor used to run the chunk workers when the concurrency is greater than one.
+     * If not set, a fixed thread pool sized to the concurrency is created for each execution.
+     *
+     * @param taskExecutor the executor running the workers
+     */
+    public void setTaskExecutor(Executor taskExecutor) {
+        this.taskExecutor = taskExecutor;
+    }
+
+    /**
+     * Sets the number of workers that concurrently read, process, and write chunks.
+     * With more than one worker, chunk composition and write order are no longer deterministic,
+     * and listeners may be called from several threads at once.
+     *
+     * @param concurrency the number of workers, {@code 1} for sequential execution
+     * @throws IllegalArgumentException if {@code concurrency} is less than one
+     */
+    public void setConcurrency(int concurrency) {
+        if (concurrency < 1) throw new IllegalArgumentException("concurrency must be at least 1");
+        this.concurrency = concurrency;
+        this.progress = new ChunkProgress(reader, concurrency > 1, reader, processor, writer);
+    }
+
+    /**
+     * Enables virtual-thread processing: a full chunk of items is read first, then each item is
+     * processed on its own virtual thread, with at most {@code maxConcurrency} items in flight.
+     * Outputs keep the input order. The processor and process listeners must be thread-safe.
+     *
+     * @param maxConcurrency the maximum number of items processed at once, {@code 0} to disable
+     * @throws IllegalArgumentException if {@code maxConcurrency} is negative
+     */
+    public void setVirtualThreadProcessing(int maxConcurrency) {
+        if (maxConcurrency < 0) throw new IllegalArgumentException("maxConcurrency must not be negative");
+        this.virtualThreadConcurrency = maxConcurrency;
+    }
+
+    /**
+     * Sets the repository the step execution is persisted to after every chunk commit.
+     *
+     * @param jobRepository the job repository, or {@code null} to persist only at the end of the step
+     */
+    public void setJobRepository(JobRepository jobRepository) {
+        this.jobRepository = jobRepository;
+    }
+
+    /**
+     * Sets a policy that adapts the chunk size to the time taken to write and commit each chunk,
+     * in place of the fixed chunk size. The policy also becomes the completion policy of the step.
+     *
+     * @param chunkSizePolicy the adaptive policy, or {@code null} to use the fixed chunk size
+     */
+    public void setChunkSizePolicy(AdaptiveChunkSizePolicy chunkSizePolicy) {
+        this.chunkSizePolicy = chunkSizePolicy;
+        this.completionPolicy = chunkSizePolicy != null ? chunkSizePolicy : new SimpleCompletionPolicy(chunkSize);
+    }
+
+    /**
+     * Sets the listener the step reports the count and duration of its reads, processor calls,
+     * writes, and chunks to.
+     *
+     * @param metrics the metrics listener, or {@code null} to publish no metrics
+     */
+    public void setMetrics(StepMetricsListener<I, O> metrics) {
+        this.metrics = metrics;
+    }
+
+    /**
+     * Sets the policy deciding when a chunk is complete, in place of the chunk size. Use a
+     * {@link com.hogwai.batch.core.policy.CompositeCompletionPolicy} to bound chunks by their size
+     * and by other criteria. An adaptive chunk size policy set before keeps receiving commit times.
+     *
+     * @param completionPolicy the completion policy
+     */
+    public void setCompletionPolicy(CompletionPolicy completionPolicy) {
+        this.completionPolicy = completionPolicy;
+    }
+
+    /**
+     * Sets a processor called once per chunk with all the items read, in place of the item processor.
+     * A whole chunk is then read before being processed, and the outputs are written in read order.
+     * Not supported together with virtual-thread processing.
+     *
+     * @param batchProcessor the batch processor, or {@code null} to use the item processor
+     */
+    public void setBatchProcessor(BatchItemProcessor<? super I, ? extends O> batchProcessor) {
+        this.batchProcessor = batchProcessor;
     }
 
     /** {@inheritDoc} */
@@ -104,15 +256,103 @@ public class ChunkOrientedStep<I, O> implements Step {
 
     /** {@inheritDoc} */
     @Override
-    @SuppressWarnings("unchecked")
     public void execute(StepExecution stepExecution) {
         stepListeners.forEach(l -> l.beforeStep(stepExecution));
 
-        StepContribution contribution = new StepContribution();
+        long readOffset = progress.open(stepExecution);
+        boolean stopped;
+        try {
+            if (concurrency > 1) {
+                stopped = executeConcurrently(stepExecution, readOffset);
+            } else {
+                StepContribution contribution = new StepContribution();
+                stopped = processChunks(this::readItem, contribution, stepExecution, () -> progress.commit(
+                        jobRepository, stepExecution, contribution, readOffset + contribution.getReadCount()));
+                stepExecution.apply(contribution);
+            }
+        } finally {
+            progress.close();
+        }
+        if (stopped) {
+            stepExecution.setStatus(BatchStatus.STOPPED);
+            stepExecution.setExitStatus(ExitStatus.STOPPED);
+        }
+
+        stepListeners.forEach(l -> l.afterStep(stepExecution));
+    }
+
+    /**
+     * Runs the chunk workers. Each worker numbers the items it reads from the shared reader, so that
+     * the commits save the position of the first item not yet committed by any worker.
+     */
+    private boolean executeConcurrently(StepExecution stepExecution, long readOffset) {
+        ExecutorService ownedExecutor = taskExecutor == null ? Executors.newFixedThreadPool(concurrency) : null;
+        Executor executor = ownedExecutor != null ? ownedExecutor : taskExecutor;
+        AtomicBoolean exhausted = new AtomicBoolean();
+        AtomicBoolean stopped = new AtomicBoolean();
+        ReadWatermark watermark = new ReadWatermark(readOffset);
+
+        List<CompletableFuture<StepContribution>> workers = new ArrayList<>(concurrency);
+        try {
+            for (int i = 0; i < concurrency; i++) {
+                workers.add(CompletableFuture.supplyAsync(() -> {
+                    StepContribution contribution = new StepContribution();
+                    ReadWatermark.Reads reads = new ReadWatermark.Reads();
+                    Supplier<I> sharedReader = () -> readShared(exhausted, watermark, reads);
+                    Runnable commitProgress = () -> watermark.commit(reads,
+                            readCount -> progress.commit(jobRepository, stepExecution, contribution, readCount));
+                    try {
+                        if (processChunks(sharedReader, contribution, stepExecution, commitProgress)) {
+                            stopped.set(true);
+                        }
+                    } catch (RuntimeException | Error e) {
+                        exhausted.set(true);
+                        throw e;
+                    }
+                    return contribution;
+                }, executor));
+            }
+            CompletableFuture.allOf(workers.toArray(CompletableFuture[]::new)).join();
+            return stopped.get();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException re) throw re;
+            if (e.getCause() instanceof Error err) throw err;
+            throw e;
+        } finally {
+            workers.stream()
+                   .filter(w -> w.isDone() && !w.isCompletedExceptionally())
+                   .forEach(w -> stepExecution.apply(w.join()));
+            if (ownedExecutor != null) ownedExecutor.shutdown();
+        }
+    }
+
+    private I readShared(AtomicBoolean exhausted, ReadWatermark watermark, ReadWatermark.Reads reads) {
+        synchronized (readLock) {
+            if (exhausted.get()) return null;
+            I item = readItem();
+            if (item == null) exhausted.set(true);
+            else watermark.read(reads);
+            return item;
+        }
+    }
+
+    /**
+     * Reads, processes, and writes chunks until the source is exhausted or the job is stopping.
+     *
+     * @param commitProgress applies the counts and read position of each chunk write and persists the execution
+     * @return {@code true} if processing stopped after a chunk because the job is stopping
+     */
+    @SuppressWarnings("unchecked")
+    private boolean processChunks(Supplier<I> source, StepContribution contribution, StepExecution stepExecution,
+                                  Runnable commitProgress) {
+        if (batchProcessor != null || (processor != null && virtualThreadConcurrency > 0)) {
+            return processWholeChunks(source, contribution, stepExecution, commitProgress);
+        }
         List<O> chunk = new ArrayList<>(chunkSize);
+        CompletionPolicy.ChunkState state = completionPolicy.start();
         I item;
 
-        while ((item = readItem()) != null) {
+        while ((item = source.get()) != null) {
             contribution.incrementReadCount();
             O output;
             if (processor != null) {
@@ -125,60 +365,184 @@ public class ChunkOrientedStep<I, O> implements Step {
                 output = (O) item;
             }
             chunk.add(output);
+            state.update(output);
 
-            if (chunk.size() >= chunkSize) {
-                writeChunk(chunk, contribution, stepExecution);
+            if (state.isComplete()) {
+                writeChunk(chunk, contribution, stepExecution, commitProgress);
                 chunk.clear();
+                if (stepExecution.isStopRequested()) return true;
+                state = completionPolicy.start();
             }
         }
 
         if (!chunk.isEmpty()) {
-            writeChunk(chunk, contribution, stepExecution);
+            writeChunk(chunk, contribution, stepExecution, commitProgress);
         }
+        return false;
+    }
 
-        stepExecution.apply(contribution);
-        stepListeners.forEach(l -> l.afterStep(stepExecution));
+    /**
+     * Reads a whole chunk before processing it, with the batch processor or on virtual threads.
+     */
+    private boolean processWholeChunks(Supplier<I> source, StepContribution contribution,
+                                       StepExecution stepExecution, Runnable commitProgress) {
+        List<I> inputs = new ArrayList<>(chunkSize);
+        List<O> chunk = new ArrayList<>(chunkSize);
+        boolean exhausted = false;
+
+        while (!exhausted) {
+            CompletionPolicy.ChunkState state = completionPolicy.start();
+            I item;
+            while ((item = source.get()) != null) {
+                contribution.incrementReadCount();
+                inputs.add(item);
+                state.update(item);
+                if (state.isComplete()) break;
+            }
+            exhausted = item == null;
+            if (inputs.isEmpty()) break;
+
+            List<? extends O> outputs = batchProcessor != null
+                    ? processBatch(inputs)
+                    : processAllInVirtualThreads(inputs);
+            for (O output : outputs) {
+                if (output == null) {
+                    contribution.incrementFilterCount();
+                } else {
+                    chunk.add(output);
+                }
+            }
+            if (!chunk.isEmpty()) {
+                writeChunk(chunk, contribution, stepExecution, commitProgress);
+                chunk.clear();
+            }
+            inputs.clear();
+            if (!exhausted && stepExecution.isStopRequested()) return true;
+        }
+        return false;
+    }
+
+    private List<O> processAllInVirtualThreads(List<I> inputs) {
+        try {
+            return VirtualThreadProcessing.processAll(inputs, virtualThreadConcurrency, this::processItem);
+        } catch (RuntimeException e) {
+            throw e;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while processing chunk in step " + name, e);
+        } catch (Exception e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private List<? extends O> processBatch(List<I> inputs) {
+        inputs.forEach(itemProcessListener::beforeProcess);
+        long start = metrics != null ? System.nanoTime() : 0;
+        List<? extends O> outputs;
+        try {
+            outputs = batchProcessor.process(inputs);
+            if (outputs.size() != inputs.size()) {
+                throw new IllegalStateException("Batch processor of step " + name + " returned " + outputs.size()
+                        + " outputs for " + inputs.size() + " items");
+            }
+        } catch (RuntimeException e) {
+            inputs.forEach(item -> itemProcessListener.onProcessError(item, e));
+            throw e;
+        }
+        int filtered = 0;
+        for (int i = 0; i < inputs.size(); i++) {
+            if (outputs.get(i) == null) filtered++;
+            itemProcessListener.afterProcess(inputs.get(i), outputs.get(i));
+        }
+        if (metrics != null) metrics.recordBatchProcess(start, inputs.size(), filtered);
+        return outputs;
     }
 
     private I readItem() {
-        itemReadListeners.forEach(ItemReadListener::beforeRead);
+        ItemReadEvent event = new ItemReadEvent();
+        event.begin();
+        itemReadListener.beforeRead();
+        long start = metrics != null ? System.nanoTime() : 0;
         try {
             I item = reader.read();
             if (item != null) {
-                itemReadListeners.forEach(l -> l.afterRead(item));
+                if (metrics != null) metrics.recordRead(start);
+                itemReadListener.afterRead(item);
             }
             return item;
         } catch (Exception e) {
-            itemReadListeners.forEach(l -> l.onReadError(e));
+            itemReadListener.onReadError(e);
             throw e;
+        } finally {
+            event.end();
+            if (event.shouldCommit()) {
+                event.setStepName(name);
+                event.commit();
+            }
         }
     }
 
     private O processItem(I item) {
-        itemProcessListeners.forEach(l -> l.beforeProcess(item));
+        ItemProcessEvent event = new ItemProcessEvent();
+        event.begin();
+        itemProcessListener.beforeProcess(item);
+        long start = metrics != null ? System.nanoTime() : 0;
         try {
             O result = processor.process(item);
-            itemProcessListeners.forEach(l -> l.afterProcess(item, result));
+            if (metrics != null) metrics.recordProcess(start, result == null);
+            itemProcessListener.afterProcess(item, result);
             return result;
         } catch (Exception e) {
-            itemProcessListeners.forEach(l -> l.onProcessError(item, e));
+            itemProcessListener.onProcessError(item, e);
             throw e;
+        } finally {
+            event.end();
+            if (event.shouldCommit()) {
+                event.setStepName(name);
+                event.setAttempts(1);
+                event.commit();
+            }
         }
     }
 
-    private void writeChunk(List<O> chunk, StepContribution contribution, StepExecution stepExecution) {
-        chunkListeners.forEach(ChunkListener::beforeChunk);
-        itemWriteListeners.forEach(l -> l.beforeWrite(chunk));
+    private void writeChunk(List<O> chunk, StepContribution contribution, StepExecution stepExecution,
+                            Runnable commitProgress) {
+        ChunkWriteEvent event = new ChunkWriteEvent();
+        event.begin();
+        long start = chunkSizePolicy != null || metrics != null ? System.nanoTime() : 0;
+        int written = 0;
+        boolean succeeded = false;
+        chunkListener.beforeChunk();
+        itemWriteListener.beforeWrite(chunk);
+        long writeStart = metrics != null ? System.nanoTime() : 0;
         try {
-            writer.write(chunk);
-            itemWriteListeners.forEach(l -> l.afterWrite(chunk));
-            contribution.incrementWriteCount(chunk.size());
+            if (writer instanceof ContributingItemWriter<O> contributing) {
+                long writeCount = contribution.getWriteCount();
+                contributing.write(chunk, contribution);
+                written = (int) (contribution.getWriteCount() - writeCount);
+            } else {
+                writer.write(chunk);
+                written = chunk.size();
+                contribution.incrementWriteCount(chunk.size());
+            }
+            succeeded = true;
+            if (metrics != null) metrics.recordWrite(writeStart, written);
+            itemWriteListener.afterWrite(chunk);
             stepExecution.incrementCommitCount();
-            chunkListeners.forEach(ChunkListener::afterChunk);
+            commitProgress.run();
+            if (chunkSizePolicy != null) chunkSizePolicy.chunkCommitted(chunk.size(), System.nanoTime() - start);
+            if (metrics != null) metrics.recordChunk(start);
+            chunkListener.afterChunk();
         } catch (Exception e) {
-            itemWriteListeners.forEach(l -> l.onWriteError(chunk, e));
-            chunkListeners.forEach(l -> l.afterChunkError(e));
+            itemWriteListener.onWriteError(chunk, e);
+            chunkListener.afterChunkError(e);
             throw e;
+        } finally {
+            event.setStepName(name);
+            event.setItemCount(chunk.size());
+            event.setWriteCount(written);
+            event.setFailedWrites(succeeded ? 0 : 1);
+            event.commit();
         }
     }
 }
@@ -0,0 +1,112 @@
+package com.hogwai.batch.core.definition;
+
+import com.hogwai.batch.core.ItemReader;
+import com.hogwai.batch.core.ItemStream;
+import com.hogwai.batch.core.runtime.ExecutionContext;
+import com.hogwai.batch.core.runtime.StepContribution;
+import com.hogwai.batch.core.runtime.StepExecution;
+import com.hogwai.batch.core.runtime.repository.JobRepository;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Manages the {@link ItemStream} components of a chunk-oriented step and records its progress at
+ * each commit, so that a restarted execution can resume after the last committed chunk instead of
+ * from the beginning of its input.
+ * <p>
+ * A reader that is an {@code ItemStream} saves and restores its own position. For any other reader,
+ * the number of items read up to the last commit is stored in the step execution context and, on
+ * restart, that many items are read and discarded. A reader shared by concurrent chunk workers is
+ * always tracked by count, even if it is an {@code ItemStream}: its own position runs ahead of the
+ * committed chunks, so its state is not saved.
+ */
+final class ChunkProgress {
+
+    /** Execution context key of the number of items read up to the last commit. */
+    static final String READ_COUNT_KEY = "chunk.committedReadCount";
+
+    private final ItemReader<?> reader;
+    private final boolean countReads;
+    private final List<ItemStream> streams = new ArrayList<>();
+
+    /**
+     * Creates the progress tracker of a step.
+     *
+     * @param reader       the step reader
+     * @param sharedReader {@code true} if the reader is shared by concurrent chunk workers
+     * @param components   the step reader, processor, and writer; those that are item streams are managed
+     */
+    ChunkProgress(ItemReader<?> reader, boolean sharedReader, Object... components) {
+        this.reader = reader;
+        this.countReads = sharedReader || !(reader instanceof ItemStream);
+        for (Object component : components) {
+            if (component instanceof ItemStream stream && !streams.contains(stream)) {
+                streams.add(stream);
+            }
+        }
+    }
+
+    /**
+     * Opens the item streams and, for a reader that does not track its own position, moves it past
+     * the items committed by a previous execution of the step.
+     *
+     * @param stepExecution the current step execution, whose context was restored from the previous one
+     * @return the number of items read by previous executions, {@code 0} if the reader tracks its position
+     */
+    long open(StepExecution stepExecution) {
+        ExecutionContext context = stepExecution.getExecutionContext();
+        streams.forEach(s -> s.open(context));
+        if (!countReads) return 0;
+
+        Long committed = context.getLong(READ_COUNT_KEY);
+        if (committed == null) return 0;
+        long skipped = 0;
+        while (skipped < committed && reader.read() != null) {
+            skipped++;
+        }
+        return skipped;
+    }
+
+    /**
+     * Records a commit: applies the counts of the committing worker, saves the read position and the
+     * state of the item streams, then persists the step execution.
+     *
+     * @param jobRepository the repository to persist to, or {@code null} to skip persistence
+     * @param stepExecution the current step execution
+     * @param contribution  the contribution of the committing worker
+     * @param readCount     the number of items read up to this commit
+     */
+    void commit(JobRepository jobRepository, StepExecution stepExecution, StepContribution contribution,
+                long readCount) {
+        stepExecution.applyCounts(contribution);
+        ExecutionContext context = stepExecution.getExecutionContext();
+        if (countReads) {
+            context.putLong(READ_COUNT_KEY, readCount);
+        }
+        for (ItemStream stream : streams) {
+            if (!countReads || stream != reader) stream.update(context);
+        }
+        if (jobRepository != null) {
+            jobRepository.update(stepExecution);
+        }
+    }
+
+    /**
+     * Closes the item streams, attempting every one even if some fail.
+     *
+     * @throws RuntimeException the first failure, with the others suppressed
+     */
+    void close() {
+        RuntimeException failure = null;
+        for (ItemStream stream : streams) {
+            try {
+                stream.close();
+            } catch (RuntimeException e) {
+                if (failure == null) failure = e;
+                else failure.addSuppressed(e);
+            }
+        }
+        if (failure != null) throw failure;
+    }
+}
@@ -1,26 +1,66 @@
 package com.hogwai.batch.core.definition;
 
+import com.hogwai.batch.core.BatchItemProcessor;
+import com.hogwai.batch.core.ContributingItemWriter;
 import com.hogwai.batch.core.ItemProcessor;
 import com.hogwai.batch.core.ItemReader;
+import com.hogwai.batch.core.ItemStream;
 import com.hogwai.batch.core.ItemWriter;
+import com.hogwai.batch.core.jfr.ChunkWriteEvent;
+import com.hogwai.batch.core.jfr.ItemProcessEvent;
+import com.hogwai.batch.core.jfr.ItemReadEvent;
 import com.hogwai.batch.core.listener.ChunkListener;
+import com.hogwai.batch.core.listener.CompositeChunkListener;
+import com.hogwai.batch.core.listener.CompositeItemProcessListener;
+import com.hogwai.batch.core.listener.CompositeItemReadListener;
+import com.hogwai.batch.core.listener.CompositeItemWriteListener;
+import com.hogwai.batch.core.listener.CompositeSkipListener;
 import com.hogwai.batch.core.listener.ItemProcessListener;
 import com.hogwai.batch.core.listener.ItemReadListener;
 import com.hogwai.batch.core.listener.ItemWriteListener;
 import com.hogwai.batch.core.listener.SkipListener;
 import com.hogwai.batch.core.listener.StepExecutionListener;
+import com.hogwai.batch.core.metrics.StepMetricsListener;
+import com.hogwai.batch.core.policy.AdaptiveChunkSizePolicy;
 import com.hogwai.batch.core.policy.BackoffPolicy;
+import com.hogwai.batch.core.policy.CircuitBreakerOpenException;
+import com.hogwai.batch.core.policy.CircuitBreakerPolicy;
+import com.hogwai.batch.core.policy.CompletionPolicy;
 import com.hogwai.batch.core.policy.RetryPolicy;
+import com.hogwai.batch.core.policy.SimpleCompletionPolicy;
 import com.hogwai.batch.core.policy.SkipPolicy;
+import com.hogwai.batch.core.runtime.BatchStatus;
+import com.hogwai.batch.core.runtime.ExitStatus;
 import com.hogwai.batch.core.runtime.StepContribution;
 import com.hogwai.batch.core.runtime.StepExecution;
+import com.hogwai.batch.core.runtime.repository.JobRepository;
 
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
+import java.util.concurrent.Callable;
 
 /**
  * A chunk-oriented {@link Step} with fault-tolerance support, including configurable
  * skip and retry policies for handling transient or expected errors during processing.
+ * Items can optionally be processed on virtual threads, in which case retries and skips
+ * are still decided per item, or a whole chunk at a time by a {@link BatchItemProcessor}, whose
+ * failures are retried and scanned like chunk writes.
+ * <p>
+ * A failed chunk write is retried as a whole under the retry policy. If it still fails with a
+ * skippable exception, the chunk is split in halves recursively to isolate the failing items: these
+ * are skipped while the other items are written in large sub-chunks, so a single bad item does not
+ * cost one write per item. Every failed write increments the rollback count. The writer should
+ * write a chunk atomically, otherwise items of a failed write may be written again during the scan.
+ * A {@link ContributingItemWriter} reports the counts of each successful write itself; the counts
+ * it reported for a failed write are discarded.
+ * <p>
+ * Chunks are completed by a {@link CompletionPolicy} as in {@link ChunkOrientedStep}.
+ * <p>
+ * {@link ItemStream} components are opened, updated after every chunk commit, and closed as in
+ * {@link ChunkOrientedStep}. When a {@link JobRepository} is set, the step execution is persisted
+ * after every chunk commit and a restarted execution resumes after the last committed chunk. If the
+ * job is stopping, the step ends as {@link BatchStatus#STOPPED} after the current chunk.
  *
  * @param <I> the input item type
  * @param <O> the output item type
@@ -38,11 +78,19 @@ public class FaultTolerantChunkStep<I, O> implements Step {
     private final RetryPolicy retryPolicy;
     private final BackoffPolicy backoffPolicy;
     private final List<StepExecutionListener> stepListeners;
-    private final List<ChunkListener> chunkListeners;
-    private final List<ItemReadListener<I>> itemReadListeners;
-    private final List<ItemProcessListener<I, O>> itemProcessListeners;
-    private final List<ItemWriteListener<O>> itemWriteListeners;
-    private final List<SkipListener<I, O>> skipListeners;
+    private final ChunkListener chunkListener;
+    private final ItemReadListener<I> itemReadListener;
+    private final ItemProcessListener<I, O> itemProcessListener;
+    private final ItemWriteListener<O> itemWriteListener;
+    private final SkipListener<I, O> skipListener;
+    private int virtualThreadConcurrency;
+    private JobRepository jobRepository;
+    private AdaptiveChunkSizePolicy chunkSizePolicy;
+    private CompletionPolicy completionPolicy;
+    private CircuitBreakerPolicy circuitBreaker;
+    private BatchItemProcessor<? super I, ? extends O> batchProcessor;
+    private StepMetricsListener<I, O> metrics;
+    private final ChunkProgress progress;
 
     /**
      * Creates a fault-tolerant chunk step without item-level or skip listeners.
@@ -108,6 +156,7 @@ public class FaultTolerantChunkStep<I, O> implements Step {
     ) {
         this.name = name;
         this.chunkSize = chunkSize;
+        this.completionPolicy = new SimpleCompletionPolicy(chunkSize);
         this.reader = reader;
         this.processor = processor;
         this.writer = writer;
@@ -115,11 +164,89 @@ public class FaultTolerantChunkStep<I, O> implements Step {
         this.retryPolicy = retryPolicy;
         this.backoffPolicy = backoffPolicy;
         this.stepListeners = stepListeners;
-        this.chunkListeners = chunkListeners;
-        this.itemReadListeners = itemReadListeners;
-        this.itemProcessListeners = itemProcessListeners;
-        this.itemWriteListeners = itemWriteListeners;
-        this.skipListeners = skipListeners;
+        this.chunkListener = CompositeChunkListener.of(chunkListeners);
+        this.itemReadListener = CompositeItemReadListener.of(itemReadListeners);
+        this.itemProcessListener = CompositeItemProcessListener.of(itemProcessListeners);
+        this.itemWriteListener = CompositeItemWriteListener.of(itemWriteListeners);
+        this.skipListener = CompositeSkipListener.of(skipListeners);
+        this.progress = new ChunkProgress(reader, false, reader, processor, writer);
+    }
+
+    /**
+     * Enables virtual-thread processing: a full chunk of items is read first, then each item is
+     * processed, with its retries, on its own virtual thread, with at most {@code maxConcurrency}
+     * items in flight. Outputs keep the input order. The processor and listeners must be thread-safe.
+     *
+     * @param maxConcurrency the maximum number of items processed at once, {@code 0} to disable
+     * @throws IllegalArgumentException if {@code maxConcurrency} is negative
+     */
+    public void setVirtualThreadProcessing(int maxConcurrency) {
+        if (maxConcurrency < 0) throw new IllegalArgumentException("maxConcurrency must not be negative");
+        this.virtualThreadConcurrency = maxConcurrency;
+    }
+
+    /**
+     * Sets the repository the step execution is persisted to after every chunk commit.
+     *
+     * @param jobRepository the job repository, or {@code null} to persist only at the end of the step
+     */
+    public void setJobRepository(JobRepository jobRepository) {
+        this.jobRepository = jobRepository;
+    }
+
+    /**
+     * Sets a policy that adapts the chunk size to the time taken to write and commit each chunk,
+     * in place of the fixed chunk size. The policy also becomes the completion policy of the step.
+     *
+     * @param chunkSizePolicy the adaptive policy, or {@code null} to use the fixed chunk size
+     */
+    public void setChunkSizePolicy(AdaptiveChunkSizePolicy chunkSizePolicy) {
+        this.chunkSizePolicy = chunkSizePolicy;
+        this.completionPolicy = chunkSizePolicy != null ? chunkSizePolicy : new SimpleCompletionPolicy(chunkSize);
+    }
+
+    /**
+     * Sets the policy deciding when a chunk is complete, in place of the chunk size. Use a
+     * {@link com.hogwai.batch.core.policy.CompositeCompletionPolicy} to bound chunks by their size
+     * and by other criteria. An adaptive chunk size policy set before keeps receiving commit times.
+     *
+     * @param completionPolicy the completion policy
+     */
+    public void setCompletionPolicy(CompletionPolicy completionPolicy) {
+        this.completionPolicy = completionPolicy;
+    }
+
+    /**
+     * Sets a circuit breaker guarding every processor and writer call. While it is open, calls fail
+     * with a {@link CircuitBreakerOpenException}, which is neither retried nor skipped and fails the
+     * step, or wait for the breaker if it pauses when open.
+     *
+     * @param circuitBreaker the circuit breaker, or {@code null} to call the processor and writer directly
+     */
+    public void setCircuitBreaker(CircuitBreakerPolicy circuitBreaker) {
+        this.circuitBreaker = circuitBreaker;
+    }
+
+    /**
+     * Sets a processor called once per chunk with all the items read, in place of the item processor.
+     * A failed call is retried as a whole under the retry policy. If it still fails with a skippable
+     * exception, the items are split in halves recursively, as for chunk writes, until the failing
+     * items are isolated and skipped. Not supported together with virtual-thread processing.
+     *
+     * @param batchProcessor the batch processor, or {@code null} to use the item processor
+     */
+    public void setBatchProcessor(BatchItemProcessor<? super I, ? extends O> batchProcessor) {
+        this.batchProcessor = batchProcessor;
+    }
+
+    /**
+     * Sets the listener the step reports the count and duration of its reads, processor calls,
+     * writes, and chunks to. Only successful calls are recorded, so a retried item is timed once.
+     *
+     * @param metrics the metrics listener, or {@code null} to publish no metrics
+     */
+    public void setMetrics(StepMetricsListener<I, O> metrics) {
+        this.metrics = metrics;
     }
 
     /** {@inheritDoc} */
@@ -130,41 +257,111 @@ public class FaultTolerantChunkStep<I, O> implements Step {
     @Override
     public void execute(StepExecution stepExecution) throws Exception {
         stepListeners.forEach(l -> l.beforeStep(stepExecution));
+        long readOffset = progress.open(stepExecution);
         StepContribution contribution = new StepContribution();
+        boolean stopped;
+        try {
+            if (batchProcessor != null || (processor != null && virtualThreadConcurrency > 0)) {
+                stopped = processWholeChunks(contribution, stepExecution, readOffset);
+            } else {
+                stopped = processChunks(contribution, stepExecution, readOffset);
+            }
+        } finally {
+            progress.close();
+        }
+        stepExecution.apply(contribution);
+        if (stopped) {
+            stepExecution.setStatus(BatchStatus.STOPPED);
+            stepExecution.setExitStatus(ExitStatus.STOPPED);
+        }
+        stepListeners.forEach(l -> l.afterStep(stepExecution));
+    }
+
+    private boolean processChunks(StepContribution contribution, StepExecution stepExecution, long readOffset)
+            throws Exception {
         List<O> chunk = new ArrayList<>(chunkSize);
+        CompletionPolicy.ChunkState state = completionPolicy.start();
         I item;
 
         while ((item = readItem(contribution)) != null) {
             O output = processItem(item, contribution);
             if (output == null) continue;
             chunk.add(output);
+            state.update(output);
 
-            if (chunk.size() >= chunkSize) {
-                writeChunk(chunk, contribution, stepExecution);
+            if (state.isComplete()) {
+                writeChunk(chunk, contribution, stepExecution, readOffset);
                 chunk.clear();
+                if (stepExecution.isStopRequested()) return true;
+                state = completionPolicy.start();
             }
         }
 
         if (!chunk.isEmpty()) {
-            writeChunk(chunk, contribution, stepExecution);
+            writeChunk(chunk, contribution, stepExecution, readOffset);
         }
+        return false;
+    }
 
-        stepExecution.apply(contribution);
-        stepListeners.forEach(l -> l.afterStep(stepExecution));
+    /**
+     * Reads a whole chunk before processing it, with the batch processor or on virtual threads.
+     */
+    private boolean processWholeChunks(StepContribution contribution, StepExecution stepExecution,
+                                       long readOffset) throws Exception {
+        List<I> inputs = new ArrayList<>(chunkSize);
+        List<O> chunk = new ArrayList<>(chunkSize);
+        boolean exhausted = false;
+
+        while (!exhausted) {
+            CompletionPolicy.ChunkState state = completionPolicy.start();
+            I item;
+            while ((item = readItem(contribution)) != null) {
+                inputs.add(item);
+                state.update(item);
+                if (state.isComplete()) break;
+            }
+            exhausted = item == null;
+            if (inputs.isEmpty()) break;
+
+            List<? extends O> outputs = batchProcessor != null
+                    ? processBatch(inputs, contribution)
+                    : VirtualThreadProcessing.processAll(inputs, virtualThreadConcurrency,
+                            input -> processItem(input, contribution));
+            for (O output : outputs) {
+                if (output != null) chunk.add(output);
+            }
+            if (!chunk.isEmpty()) {
+                writeChunk(chunk, contribution, stepExecution, readOffset);
+                chunk.clear();
+            }
+            inputs.clear();
+            if (!exhausted && stepExecution.isStopRequested()) return true;
+        }
+        return false;
     }
 
     private I readItem(StepContribution contribution) {
-        itemReadListeners.forEach(ItemReadListener::beforeRead);
+        ItemReadEvent event = new ItemReadEvent();
+        event.begin();
+        itemReadListener.beforeRead();
+        long start = metrics != null ? System.nanoTime() : 0;
         try {
             I item = reader.read();
             if (item != null) {
+                if (metrics != null) metrics.recordRead(start);
                 contribution.incrementReadCount();
-                itemReadListeners.forEach(l -> l.afterRead(item));
+                itemReadListener.afterRead(item);
             }
             return item;
         } catch (Exception e) {
-            itemReadListeners.forEach(l -> l.onReadError(e));
+            itemReadListener.onReadError(e);
             throw e;
+        } finally {
+            event.end();
+            if (event.shouldCommit()) {
+                event.setStepName(name);
+                event.commit();
+            }
         }
     }
 
@@ -172,44 +369,315 @@ public class FaultTolerantChunkStep<I, O> implements Step {
     private O processItem(I item, StepContribution contribution) throws Exception {
         if (processor == null) return (O) item;
 
+        ItemProcessEvent event = new ItemProcessEvent();
+        event.begin();
+        int attempts = 0;
+        try {
+            while (true) {
+                try {
+                    attempts++;
+                    itemProcessListener.beforeProcess(item);
+                    long start = metrics != null ? System.nanoTime() : 0;
+                    O result = guarded(() -> processor.process(item));
+                    if (metrics != null) metrics.recordProcess(start, result == null);
+                    if (result == null) contribution.incrementFilterCount();
+                    itemProcessListener.afterProcess(item, result);
+                    return result;
+                } catch (Exception e) {
+                    itemProcessListener.onProcessError(item, e);
+                    if (e instanceof CircuitBreakerOpenException) throw e;
+                    if (retryPolicy != null && retryPolicy.shouldRetry(e, attempts)) {
+                        backoffBeforeProcessRetry(attempts);
+                        continue;
+                    }
+                    if (skip(e, contribution, false)) {
+                        skipListener.onSkipInProcess(item, e);
+                        return null;
+                    }
+                    throw e;
+                }
+            }
+        } finally {
+            event.end();
+            if (event.shouldCommit()) {
+                event.setStepName(name);
+                event.setAttempts(attempts);
+                event.commit();
+            }
+        }
+    }
+
+    /**
+     * Processes the items of a chunk with the batch processor, under the retry policy. If the items
+     * still fail with a skippable exception, they are scanned to isolate and skip the failing ones.
+     *
+     * @return one output per item, {@code null} for filtered and skipped items
+     */
+    private List<? extends O> processBatch(List<I> items, StepContribution contribution) throws Exception {
+        try {
+            return processBatchWithRetry(items, contribution);
+        } catch (Exception e) {
+            if (e instanceof CircuitBreakerOpenException) throw e;
+            if (skipPolicy == null || !skipPolicy.shouldSkip(e, contribution.getSkipCount())) throw e;
+            return items.size() == 1
+                    ? Collections.singletonList(skipInProcess(items.get(0), e, contribution))
+                    : scanBatch(items, contribution);
+        }
+    }
+
+    /**
+     * Splits a failed batch of at least two items in halves and processes each half once, splitting
+     * failing halves again. Single items are processed under the retry policy before being skipped.
+     */
+    private List<O> scanBatch(List<I> items, StepContribution contribution) throws Exception {
+        int middle = items.size() / 2;
+        List<O> outputs = new ArrayList<>(items.size());
+        outputs.addAll(scanBatchHalf(new ArrayList<>(items.subList(0, middle)), contribution));
+        outputs.addAll(scanBatchHalf(new ArrayList<>(items.subList(middle, items.size())), contribution));
+        return outputs;
+    }
+
+    private List<? extends O> scanBatchHalf(List<I> items, StepContribution contribution) throws Exception {
+        if (items.size() == 1) {
+            try {
+                return processBatchWithRetry(items, contribution);
+            } catch (Exception e) {
+                if (e instanceof CircuitBreakerOpenException) throw e;
+                return Collections.singletonList(skipInProcess(items.get(0), e, contribution));
+            }
+        }
+        try {
+            return callBatchProcessor(items, contribution);
+        } catch (CircuitBreakerOpenException e) {
+            throw e;
+        } catch (Exception e) {
+            return scanBatch(items, contribution);
+        }
+    }
+
+    private O skipInProcess(I item, Exception e, StepContribution contribution) throws Exception {
+        if (!skip(e, contribution, false)) throw e;
+        skipListener.onSkipInProcess(item, e);
+        return null;
+    }
+
+    private List<? extends O> processBatchWithRetry(List<I> items, StepContribution contribution) throws Exception {
         int attempts = 0;
         while (true) {
             try {
                 attempts++;
-                itemProcessListeners.forEach(l -> l.beforeProcess(item));
-                O result = processor.process(item);
-                if (result == null) contribution.incrementFilterCount();
-                itemProcessListeners.forEach(l -> l.afterProcess(item, result));
-                return result;
+                return callBatchProcessor(items, contribution);
+            } catch (CircuitBreakerOpenException e) {
+                throw e;
             } catch (Exception e) {
-                itemProcessListeners.forEach(l -> l.onProcessError(item, e));
                 if (retryPolicy != null && retryPolicy.shouldRetry(e, attempts)) {
                     if (backoffPolicy != null) backoffPolicy.backoff(attempts);
                     continue;
                 }
-                if (skipPolicy != null && skipPolicy.shouldSkip(e, contribution.getSkipCount())) {
-                    contribution.incrementSkipCountInProcess();
-                    skipListeners.forEach(l -> l.onSkipInProcess(item, e));
-                    return null;
-                }
                 throw e;
             }
         }
     }
 
-    private void writeChunk(List<O> chunk, StepContribution contribution, StepExecution stepExecution) {
-        chunkListeners.forEach(ChunkListener::beforeChunk);
-        itemWriteListeners.forEach(l -> l.beforeWrite(chunk));
+    private List<? extends O> callBatchProcessor(List<I> items, StepContribution contribution) throws Exception {
+        items.forEach(itemProcessListener::beforeProcess);
+        long start = metrics != null ? System.nanoTime() : 0;
+        List<? extends O> outputs;
         try {
-            writer.write(chunk);
-            itemWriteListeners.forEach(l -> l.afterWrite(chunk));
-            contribution.incrementWriteCount(chunk.size());
+            outputs = guarded(() -> batchProcessor.process(items));
+            if (outputs.size() != items.size()) {
+                throw new IllegalStateException("Batch processor of step " + name + " returned " + outputs.size()
+                        + " outputs for " + items.size() + " items");
+            }
+        } catch (Exception e) {
+            items.forEach(item -> itemProcessListener.onProcessError(item, e));
+            throw e;
+        }
+        int filtered = 0;
+        for (int i = 0; i < items.size(); i++) {
+            O output = outputs.get(i);
+            if (output == null) {
+                contribution.incrementFilterCount();
+                filtered++;
+            }
+            itemProcessListener.afterProcess(items.get(i), output);
+        }
+        if (metrics != null) metrics.recordBatchProcess(start, items.size(), filtered);
+        return outputs;
+    }
+
+    /**
+     * Waits before retrying an item. With virtual-thread processing the wait is scheduled without
+     * holding a concurrency permit, so that the other items of the chunk keep being processed.
+     */
+    private void backoffBeforeProcessRetry(int attempts) throws InterruptedException {
+        if (backoffPolicy == null) return;
+        if (virtualThreadConcurrency > 0) {
+            VirtualThreadProcessing.pause(backoffPolicy.backoffAsync(attempts));
+        } else {
+            backoffPolicy.backoff(attempts);
+        }
+    }
+
+    private boolean skip(Exception e, StepContribution contribution, boolean inWrite) {
+        if (skipPolicy == null) return false;
+        synchronized (contribution) {
+            if (!skipPolicy.shouldSkip(e, contribution.getSkipCount())) return false;
+            if (inWrite) {
+                contribution.incrementSkipCountInWrite();
+            } else {
+                contribution.incrementSkipCountInProcess();
+            }
+            return true;
+        }
+    }
+
+    /**
+     * Writes a chunk, retrying it under the retry policy. If it still fails with a skippable
+     * exception, the chunk is scanned to isolate the failing items, which are skipped, while the
+     * other items are written.
+     */
+    private void writeChunk(List<O> chunk, StepContribution contribution, StepExecution stepExecution,
+                            long readOffset) throws Exception {
+        ChunkWriteEvent event = new ChunkWriteEvent();
+        event.begin();
+        long start = chunkSizePolicy != null || metrics != null ? System.nanoTime() : 0;
+        long rollbacksBefore = stepExecution.getRollbackCount();
+        long skipsBefore = contribution.getSkipCountInWrite();
+        long written = 0;
+        chunkListener.beforeChunk();
+        try {
+            try {
+                written = writeWithRetry(chunk, contribution, stepExecution);
+            } catch (Exception e) {
+                if (e instanceof CircuitBreakerOpenException) throw e;
+                if (skipPolicy == null || !skipPolicy.shouldSkip(e, contribution.getSkipCount())) throw e;
+                written = chunk.size() == 1
+                        ? skipInWrite(chunk.get(0), e, contribution)
+                        : scan(chunk, contribution, stepExecution);
+            }
             stepExecution.incrementCommitCount();
-            chunkListeners.forEach(ChunkListener::afterChunk);
+            progress.commit(jobRepository, stepExecution, contribution, readOffset + contribution.getReadCount());
+            if (chunkSizePolicy != null) chunkSizePolicy.chunkCommitted(chunk.size(), System.nanoTime() - start);
+            if (metrics != null) metrics.recordChunk(start);
+            chunkListener.afterChunk();
         } catch (Exception e) {
-            itemWriteListeners.forEach(l -> l.onWriteError(chunk, e));
-            chunkListeners.forEach(l -> l.afterChunkError(e));
+            chunkListener.afterChunkError(e);
             throw e;
+        } finally {
+            event.setStepName(name);
+            event.setItemCount(chunk.size());
+            event.setWriteCount(written);
+            event.setSkipCount(contribution.getSkipCountInWrite() - skipsBefore);
+            event.setFailedWrites(stepExecution.getRollbackCount() - rollbacksBefore);
+            event.commit();
+        }
+    }
+
+    /**
+     * Splits a failed chunk of at least two items in halves and writes each half once. A half that
+     * fails is split again, so the items that write successfully are committed in as few writes as
+     * possible. Single items are written under the retry policy before being skipped, so a
+     * transient failure during the scan does not skip a valid item.
+     *
+     * @return the number of items written
+     */
+    private long scan(List<O> items, StepContribution contribution, StepExecution stepExecution) throws Exception {
+        int middle = items.size() / 2;
+        return scanHalf(new ArrayList<>(items.subList(0, middle)), contribution, stepExecution)
+                + scanHalf(new ArrayList<>(items.subList(middle, items.size())), contribution, stepExecution);
+    }
+
+    private long scanHalf(List<O> items, StepContribution contribution, StepExecution stepExecution) throws Exception {
+        if (items.size() == 1) {
+            try {
+                return writeWithRetry(items, contribution, stepExecution);
+            } catch (Exception e) {
+                if (e instanceof CircuitBreakerOpenException) throw e;
+                return skipInWrite(items.get(0), e, contribution);
+            }
+        }
+        try {
+            return write(items, contribution);
+        } catch (CircuitBreakerOpenException e) {
+            throw e;
+        } catch (Exception e) {
+            stepExecution.incrementRollbackCount();
+            return scan(items, contribution, stepExecution);
+        }
+    }
+
+    private long skipInWrite(O item, Exception e, StepContribution contribution) throws Exception {
+        if (!skip(e, contribution, true)) throw e;
+        skipListener.onSkipInWrite(item, e);
+        return 0;
+    }
+
+    private long writeWithRetry(List<O> items, StepContribution contribution, StepExecution stepExecution)
+            throws Exception {
+        int attempts = 0;
+        while (true) {
+            try {
+                attempts++;
+                return write(items, contribution);
+            } catch (CircuitBreakerOpenException e) {
+                throw e;
+            } catch (Exception e) {
+                stepExecution.incrementRollbackCount();
+                if (retryPolicy != null && retryPolicy.shouldRetry(e, attempts)) {
+                    if (backoffPolicy != null) backoffPolicy.backoff(attempts);
+                    continue;
+                }
+                throw e;
+            }
+        }
+    }
+
+    /**
+     * Writes items once and adds the written items to the contribution. The counts reported by a
+     * contributing writer are only added once the write succeeded.
+     *
+     * @return the number of items written
+     */
+    private long write(List<O> items, StepContribution contribution) throws Exception {
+        itemWriteListener.beforeWrite(items);
+        long start = metrics != null ? System.nanoTime() : 0;
+        StepContribution written = new StepContribution();
+        try {
+            guarded(() -> {
+                if (writer instanceof ContributingItemWriter<O> contributing) {
+                    contributing.write(items, written);
+                } else {
+                    writer.write(items);
+                    written.incrementWriteCount(items.size());
+                }
+                return null;
+            });
+        } catch (Exception e) {
+            itemWriteListener.onWriteError(items, e);
+            throw e;
+        }
+        contribution.aggregate(written);
+        if (metrics != null) metrics.recordWrite(start, (int) written.getWriteCount());
+        itemWriteListener.afterWrite(items);
+        return written.getWriteCount();
+    }
+
+    /**
+     * Makes a processor or writer call through the circuit breaker, if any, recording its outcome.
+     * An error is recorded as well, so that a failed probe call does not leave the breaker half-open
+     * with its probe never released.
+     */
+    private <T> T guarded(Callable<T> call) throws Exception {
+        if (circuitBreaker == null) return call.call();
+        circuitBreaker.acquirePermission();
+        try {
+            T result = call.call();
+            circuitBreaker.onSuccess();
+            return result;
+        } catch (Throwable t) {
+            circuitBreaker.onFailure(t);
+            throw t;
         }
     }
 }
@@ -0,0 +1,134 @@
+package com.hogwai.batch.core.definition;
+
+import com.hogwai.batch.core.listener.JobExecutionListener;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Executor;
+
+/**
+ * {@link Job} whose steps form a directed acyclic graph: each step declares the steps it depends on,
+ * and the job launcher runs every step whose upstream steps have completed, in parallel, up to
+ * {@link #getMaxConcurrency()} steps at a time. The job runtime is then that of its critical path
+ * rather than the sum of its step runtimes.
+ * <p>
+ * {@link #getSteps()} returns the steps in a topological order, which is also a valid sequential
+ * execution order.
+ */
+public class GraphJob implements Job {
+    private final String name;
+    private final List<Step> steps;
+    private final Map<String, List<String>> dependencies;
+    private final int maxConcurrency;
+    private final Executor taskExecutor;
+    private final List<JobExecutionListener> listeners;
+
+    /**
+     * Creates a new graph job.
+     *
+     * @param name           the job name
+     * @param dependencies   map from each step to the names of the steps it depends on
+     * @param maxConcurrency the maximum number of steps running at once
+     * @param taskExecutor   the executor running the steps, or {@code null} to use a fixed thread
+     *                       pool sized to {@code maxConcurrency} for each execution
+     * @param listeners      the job execution listeners
+     * @throws IllegalArgumentException if {@code maxConcurrency} is not positive, two steps share
+     *                                  a name, or a dependency names an unknown step
+     * @throws IllegalStateException    if the dependencies contain a cycle
+     */
+    public GraphJob(String name, Map<Step, List<String>> dependencies, int maxConcurrency,
+                    Executor taskExecutor, List<JobExecutionListener> listeners) {
+        if (maxConcurrency < 1) {
+            throw new IllegalArgumentException("maxConcurrency must be positive, got " + maxConcurrency);
+        }
+        this.name = name;
+        this.maxConcurrency = maxConcurrency;
+        this.taskExecutor = taskExecutor;
+        this.listeners = listeners;
+
+        Map<String, Step> byName = new LinkedHashMap<>();
+        this.dependencies = new HashMap<>();
+        for (Map.Entry<Step, List<String>> entry : dependencies.entrySet()) {
+            String stepName = entry.getKey().getName();
+            if (byName.put(stepName, entry.getKey()) != null) {
+                throw new IllegalArgumentException("Duplicate step " + stepName + " in job " + name);
+            }
+            this.dependencies.put(stepName, List.copyOf(entry.getValue()));
+        }
+        this.dependencies.forEach((stepName, upstream) -> {
+            for (String dependency : upstream) {
+                if (!byName.containsKey(dependency)) {
+                    throw new IllegalArgumentException("Step " + stepName + " depends on unknown step " + dependency);
+                }
+            }
+        });
+        this.steps = sort(byName);
+    }
+
+    /**
+     * Orders the steps so that each one comes after its dependencies, keeping the declaration order
+     * among steps that are ready at the same time.
+     */
+    private List<Step> sort(Map<String, Step> byName) {
+        Map<String, Integer> waiting = new HashMap<>();
+        Deque<String> ready = new ArrayDeque<>();
+        for (String stepName : byName.keySet()) {
+            int upstream = dependencies.get(stepName).size();
+            waiting.put(stepName, upstream);
+            if (upstream == 0) ready.add(stepName);
+        }
+        List<Step> sorted = new ArrayList<>(byName.size());
+        while (!ready.isEmpty()) {
+            String stepName = ready.poll();
+            sorted.add(byName.get(stepName));
+            for (String downstream : byName.keySet()) {
+                if (dependencies.get(downstream).contains(stepName) && waiting.merge(downstream, -1, Integer::sum) == 0) {
+                    ready.add(downstream);
+                }
+            }
+        }
+        if (sorted.size() < byName.size()) {
+            List<String> cyclic = new ArrayList<>();
+            waiting.forEach((stepName, upstream) -> { if (upstream > 0) cyclic.add(stepName); });
+            throw new IllegalStateException("Cyclic step dependencies in job " + name + ": " + cyclic);
+        }
+        return List.copyOf(sorted);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public String getName() { return name; }
+
+    /**
+     * Returns the steps of the job in a topological order.
+     *
+     * @return the steps, each after the steps it depends on
+     */
+    @Override
+    public List<Step> getSteps() { return steps; }
+
+    /**
+     * Returns the names of the steps the given step depends on.
+     *
+     * @param stepName the name of a step of this job
+     * @return the upstream step names, empty for a root step
+     */
+    public List<String> getDependencies(String stepName) {
+        return dependencies.getOrDefault(stepName, List.of());
+    }
+
+    /** @return the maximum number of steps running at once */
+    public int getMaxConcurrency() { return maxConcurrency; }
+
+    /** @return the executor running the steps, or {@code null} if the launcher provides one */
+    public Executor getTaskExecutor() { return taskExecutor; }
+
+    /** {@inheritDoc} */
+    @Override
+    public List<JobExecutionListener> getListeners() { return listeners; }
+}
@@ -0,0 +1,180 @@
+package com.hogwai.batch.core.definition;
+
+import com.hogwai.batch.core.listener.StepExecutionListener;
+import com.hogwai.batch.core.runtime.BatchStatus;
+import com.hogwai.batch.core.runtime.ExecutionContext;
+import com.hogwai.batch.core.runtime.ExitStatus;
+import com.hogwai.batch.core.runtime.JobExecution;
+import com.hogwai.batch.core.runtime.StepExecution;
+import com.hogwai.batch.core.runtime.repository.JobRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.function.Function;
+
+/**
+ * A {@link Step} that splits its input with a {@link Partitioner} and runs a worker step once per
+ * partition, in parallel. Each partition gets its own {@link StepExecution}, created through the
+ * {@link JobRepository} and named {@code <workerStep>:<partition>}, whose execution context holds
+ * the partition's context. Counts of all partitions are aggregated into this step's execution.
+ * <p>
+ * Workers are obtained from a factory receiving the partition context, so that each partition can
+ * use its own reader; a single shared worker step may be used instead if it is thread-safe and
+ * reads its partition bounds from the step execution context.
+ * <p>
+ * If the job is stopping, each worker ends its partition as {@link BatchStatus#STOPPED} at its next
+ * chunk or tasklet boundary, and this step ends as stopped once all partitions have ended, unless one
+ * of them failed. When the job is restarted, partitions completed by the previous execution are not
+ * run again, and the others start from the execution context they last persisted.
+ *
+ * @see Partitioner
+ */
+public class PartitionStep implements Step {
+
+    private static final Logger LOG = LoggerFactory.getLogger(PartitionStep.class);
+
+    private final String name;
+    private final Partitioner partitioner;
+    private final Function<ExecutionContext, ? extends Step> workerStepFactory;
+    private final int gridSize;
+    private final JobRepository jobRepository;
+    private final Executor taskExecutor;
+    private final List<StepExecutionListener> stepListeners;
+
+    /**
+     * Creates a partition step.
+     *
+     * @param name              the step name
+     * @param partitioner       the partitioner splitting the input
+     * @param workerStepFactory creates the worker step for a partition, given its context
+     * @param gridSize          the requested number of partitions
+     * @param jobRepository     the repository used to create and update partition step executions
+     * @param taskExecutor      the executor running the partitions, or {@code null} to use a
+     *                          fixed thread pool sized to the number of partitions
+     * @param stepListeners     step-level lifecycle listeners
+     */
+    public PartitionStep(
+            String name,
+            Partitioner partitioner,
+            Function<ExecutionContext, ? extends Step> workerStepFactory,
+            int gridSize,
+            JobRepository jobRepository,
+            Executor taskExecutor,
+            List<StepExecutionListener> stepListeners
+    ) {
+        this.name = name;
+        this.partitioner = partitioner;
+        this.workerStepFactory = workerStepFactory;
+        this.gridSize = gridSize;
+        this.jobRepository = jobRepository;
+        this.taskExecutor = taskExecutor;
+        this.stepListeners = stepListeners;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public String getName() { return name; }
+
+    /**
+     * Runs every partition and waits for all of them to end. The parent step ends as
+     * {@link BatchStatus#STOPPED} if a partition stopped.
+     *
+     * @param stepExecution the runtime context of the parent step
+     * @throws IllegalStateException if at least one partition failed
+     */
+    @Override
+    public void execute(StepExecution stepExecution) throws Exception {
+        stepListeners.forEach(l -> l.beforeStep(stepExecution));
+
+        Map<String, ExecutionContext> partitions = partitioner.partition(gridSize);
+        JobExecution jobExecution = stepExecution.getJobExecution();
+        List<StepExecution> partitionExecutions = new ArrayList<>(partitions.size());
+        List<Step> workers = new ArrayList<>(partitions.size());
+        for (Map.Entry<String, ExecutionContext> partition : partitions.entrySet()) {
+            Step worker = workerStepFactory.apply(partition.getValue());
+            String partitionName = worker.getName() + ":" + partition.getKey();
+            StepExecution previous = previousExecution(jobExecution, partitionName);
+            if (previous != null && previous.getStatus() == BatchStatus.COMPLETED) {
+                LOG.info("Partition {} already completed, skipping", partitionName);
+                continue;
+            }
+            StepExecution partitionExecution = jobRepository.createStepExecution(jobExecution, partitionName);
+            partitionExecution.getExecutionContext().putAll(partition.getValue());
+            if (previous != null) {
+                partitionExecution.getExecutionContext().putAll(previous.getExecutionContext());
+            }
+            workers.add(worker);
+            partitionExecutions.add(partitionExecution);
+        }
+
+        ExecutorService ownedExecutor = taskExecutor == null && !workers.isEmpty()
+                ? Executors.newFixedThreadPool(workers.size()) : null;
+        Executor executor = ownedExecutor != null ? ownedExecutor : taskExecutor;
+        Map<String, Exception> failures = new ConcurrentHashMap<>();
+        try {
+            List<CompletableFuture<Void>> running = new ArrayList<>(workers.size());
+            for (int i = 0; i < workers.size(); i++) {
+                Step worker = workers.get(i);
+                StepExecution partitionExecution = partitionExecutions.get(i);
+                running.add(CompletableFuture.runAsync(
+                        () -> executePartition(worker, partitionExecution, failures), executor));
+            }
+            CompletableFuture.allOf(running.toArray(CompletableFuture[]::new)).join();
+        } finally {
+            if (ownedExecutor != null) ownedExecutor.shutdown();
+        }
+
+        partitionExecutions.forEach(stepExecution::aggregate);
+        if (!failures.isEmpty()) {
+            IllegalStateException failure = new IllegalStateException(
+                    "Partitions failed in step " + name + ": " + failures.keySet());
+            failures.values().forEach(failure::addSuppressed);
+            throw failure;
+        }
+        if (partitionExecutions.stream().anyMatch(e -> e.getStatus() == BatchStatus.STOPPED)) {
+            LOG.info("Step {} stopped with partitions left to run", name);
+            stepExecution.setStatus(BatchStatus.STOPPED);
+            stepExecution.setExitStatus(ExitStatus.STOPPED);
+        }
+
+        stepListeners.forEach(l -> l.afterStep(stepExecution));
+    }
+
+    /**
+     * Returns the execution of a partition in a previous run of the job instance, if it is being restarted.
+     */
+    private StepExecution previousExecution(JobExecution jobExecution, String partitionName) {
+        StepExecution last = jobRepository.getLastStepExecution(jobExecution.getJobInstance(), partitionName);
+        return last != null && last.getJobExecution().getId() != jobExecution.getId() ? last : null;
+    }
+
+    private void executePartition(Step worker, StepExecution partitionExecution, Map<String, Exception> failures) {
+        partitionExecution.setStartTime(Instant.now());
+        partitionExecution.setStatus(BatchStatus.STARTED);
+        try {
+            LOG.info("Executing partition: {}", partitionExecution.getStepName());
+            worker.execute(partitionExecution);
+            if (partitionExecution.getStatus() == BatchStatus.STARTED) {
+                partitionExecution.setStatus(BatchStatus.COMPLETED);
+                partitionExecution.setExitStatus(ExitStatus.COMPLETED);
+            }
+        } catch (Exception e) {
+            LOG.error("Partition {} failed", partitionExecution.getStepName(), e);
+            partitionExecution.setStatus(BatchStatus.FAILED);
+            partitionExecution.setExitStatus(ExitStatus.FAILED);
+            failures.put(partitionExecution.getStepName(), e);
+        } finally {
+            partitionExecution.setEndTime(Instant.now());
+            jobRepository.update(partitionExecution);
+        }
+    }
+}
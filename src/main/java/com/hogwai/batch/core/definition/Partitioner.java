@@ -0,0 +1,22 @@
+package com.hogwai.batch.core.definition;
+
+import com.hogwai.batch.core.runtime.ExecutionContext;
+
+import java.util.Map;
+
+/**
+ * Splits the input of a {@link PartitionStep} into independent partitions, each described by an
+ * {@link ExecutionContext} (e.g., a range of lines in a file or a range of keys in a table).
+ *
+ * @see PartitionStep
+ */
+@FunctionalInterface
+public interface Partitioner {
+    /**
+     * Creates the partitions for a run.
+     *
+     * @param gridSize the requested number of partitions; implementations may return fewer
+     * @return the execution context of each partition, keyed by a unique partition name
+     */
+    Map<String, ExecutionContext> partition(int gridSize);
+}
@@ -0,0 +1,346 @@
+package com.hogwai.batch.core.definition;
+
+import com.hogwai.batch.core.ContributingItemWriter;
+import com.hogwai.batch.core.ItemProcessor;
+import com.hogwai.batch.core.ItemReader;
+import com.hogwai.batch.core.ItemStream;
+import com.hogwai.batch.core.ItemWriter;
+import com.hogwai.batch.core.jfr.ChunkWriteEvent;
+import com.hogwai.batch.core.jfr.ItemProcessEvent;
+import com.hogwai.batch.core.jfr.ItemReadEvent;
+import com.hogwai.batch.core.listener.ChunkListener;
+import com.hogwai.batch.core.listener.CompositeChunkListener;
+import com.hogwai.batch.core.listener.CompositeItemProcessListener;
+import com.hogwai.batch.core.listener.CompositeItemReadListener;
+import com.hogwai.batch.core.listener.CompositeItemWriteListener;
+import com.hogwai.batch.core.listener.ItemProcessListener;
+import com.hogwai.batch.core.listener.ItemReadListener;
+import com.hogwai.batch.core.listener.ItemWriteListener;
+import com.hogwai.batch.core.listener.StepExecutionListener;
+import com.hogwai.batch.core.metrics.StepMetricsListener;
+import com.hogwai.batch.core.runtime.BatchStatus;
+import com.hogwai.batch.core.runtime.ExitStatus;
+import com.hogwai.batch.core.runtime.StepContribution;
+import com.hogwai.batch.core.runtime.StepExecution;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorCompletionService;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * A chunk-oriented {@link Step} that runs reading, processing, and writing as separate stages
+ * connected by bounded queues, so that reading the next chunk overlaps with writing the previous one.
+ * <p>
+ * A single thread reads input chunks; a configurable number of threads process them and another
+ * configurable number of threads write them. When a queue is full, the upstream stage blocks until
+ * the downstream stage catches up. With more than one writer thread, chunks may be written out of order.
+ * A {@link ContributingItemWriter} reports the counts of each chunk itself, as in a {@link ChunkOrientedStep}.
+ * <p>
+ * {@link ItemStream} components are opened and closed with the step but not updated after each
+ * chunk: the reader runs ahead of the writers, so its position does not match the committed items,
+ * and a restarted execution starts from the beginning of its input.
+ * <p>
+ * If the job is stopping, the read stage stops after the current chunk; the chunks already read are
+ * still processed and written, then the step ends as {@link BatchStatus#STOPPED}.
+ *
+ * @param <I> the input item type
+ * @param <O> the output item type
+ * @see ChunkOrientedStep
+ */
+public class PipelinedChunkStep<I, O> implements Step {
+
+    /** Queued after the last chunk; compared by identity, so it must not be a list a stage could produce. */
+    private static final List<Object> END_OF_INPUT = Collections.unmodifiableList(new ArrayList<>(0));
+
+    private final String name;
+    private final int chunkSize;
+    private final ItemReader<? extends I> reader;
+    private final ItemProcessor<? super I, ? extends O> processor;
+    private final ItemWriter<O> writer;
+    private final int queueCapacity;
+    private final int processConcurrency;
+    private final int writeConcurrency;
+    private final List<StepExecutionListener> stepListeners;
+    private final ChunkListener chunkListener;
+    private final ItemReadListener<I> itemReadListener;
+    private final ItemProcessListener<I, O> itemProcessListener;
+    private final ItemWriteListener<O> itemWriteListener;
+    private final ChunkProgress progress;
+    private StepMetricsListener<I, O> metrics;
+
+    /**
+     * Creates a pipelined chunk step.
+     *
+     * @param name                 the step name
+     * @param chunkSize            the number of items per chunk
+     * @param reader               the item reader
+     * @param processor            the item processor, or {@code null} to pass items through
+     * @param writer               the item writer
+     * @param queueCapacity        the maximum number of chunks buffered between two stages
+     * @param processConcurrency   the number of threads processing chunks
+     * @param writeConcurrency     the number of threads writing chunks
+     * @param stepListeners        step-level lifecycle listeners
+     * @param chunkListeners       chunk-level lifecycle listeners
+     * @param itemReadListeners    read-level listeners
+     * @param itemProcessListeners process-level listeners
+     * @param itemWriteListeners   write-level listeners
+     * @throws IllegalArgumentException if the queue capacity or a stage concurrency is less than one
+     */
+    public PipelinedChunkStep(
+            String name,
+            int chunkSize,
+            ItemReader<? extends I> reader,
+            ItemProcessor<? super I, ? extends O> processor,
+            ItemWriter<O> writer,
+            int queueCapacity,
+            int processConcurrency,
+            int writeConcurrency,
+            List<StepExecutionListener> stepListeners,
+            List<ChunkListener> chunkListeners,
+            List<ItemReadListener<I>> itemReadListeners,
+            List<ItemProcessListener<I, O>> itemProcessListeners,
+            List<ItemWriteListener<O>> itemWriteListeners
+    ) {
+        if (queueCapacity < 1) throw new IllegalArgumentException("queueCapacity must be at least 1");
+        if (processConcurrency < 1) throw new IllegalArgumentException("processConcurrency must be at least 1");
+        if (writeConcurrency < 1) throw new IllegalArgumentException("writeConcurrency must be at least 1");
+        this.name = name;
+        this.chunkSize = chunkSize;
+        this.reader = reader;
+        this.processor = processor;
+        this.writer = writer;
+        this.queueCapacity = queueCapacity;
+        this.processConcurrency = processConcurrency;
+        this.writeConcurrency = writeConcurrency;
+        this.stepListeners = stepListeners;
+        this.chunkListener = CompositeChunkListener.of(chunkListeners);
+        this.itemReadListener = CompositeItemReadListener.of(itemReadListeners);
+        this.itemProcessListener = CompositeItemProcessListener.of(itemProcessListeners);
+        this.itemWriteListener = CompositeItemWriteListener.of(itemWriteListeners);
+        this.progress = new ChunkProgress(reader, false, reader, processor, writer);
+    }
+
+    /**
+     * Sets the listener the stages report the count and duration of their reads, processor calls,
+     * writes, and chunks to.
+     *
+     * @param metrics the metrics listener, or {@code null} to publish no metrics
+     */
+    public void setMetrics(StepMetricsListener<I, O> metrics) {
+        this.metrics = metrics;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public String getName() { return name; }
+
+    /** {@inheritDoc} */
+    @Override
+    public void execute(StepExecution stepExecution) throws Exception {
+        stepListeners.forEach(l -> l.beforeStep(stepExecution));
+        progress.open(stepExecution);
+
+        BlockingQueue<List<I>> readQueue = new ArrayBlockingQueue<>(queueCapacity);
+        BlockingQueue<List<O>> writeQueue = new ArrayBlockingQueue<>(queueCapacity);
+        AtomicInteger activeProcessors = new AtomicInteger(processConcurrency);
+        AtomicInteger threadCount = new AtomicInteger();
+        AtomicBoolean stopped = new AtomicBoolean();
+        int stageCount = 1 + processConcurrency + writeConcurrency;
+
+        ExecutorService stages = Executors.newFixedThreadPool(stageCount,
+                r -> new Thread(r, name + "-stage-" + threadCount.incrementAndGet()));
+        ExecutorCompletionService<StepContribution> completion = new ExecutorCompletionService<>(stages);
+        try {
+            completion.submit(() -> readStage(readQueue, stepExecution, stopped));
+            for (int i = 0; i < processConcurrency; i++) {
+                completion.submit(() -> processStage(readQueue, writeQueue, activeProcessors));
+            }
+            for (int i = 0; i < writeConcurrency; i++) {
+                completion.submit(() -> writeStage(writeQueue, stepExecution));
+            }
+            for (int i = 0; i < stageCount; i++) {
+                stepExecution.apply(completion.take().get());
+            }
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof Exception cause) throw cause;
+            if (e.getCause() instanceof Error err) throw err;
+            throw e;
+        } finally {
+            stages.shutdownNow();
+            stages.awaitTermination(Long.MAX_VALUE, TimeUnit.NANOSECONDS);
+            progress.close();
+        }
+        if (stopped.get()) {
+            stepExecution.setStatus(BatchStatus.STOPPED);
+            stepExecution.setExitStatus(ExitStatus.STOPPED);
+        }
+
+        stepListeners.forEach(l -> l.afterStep(stepExecution));
+    }
+
+    private StepContribution readStage(BlockingQueue<List<I>> readQueue, StepExecution stepExecution,
+                                       AtomicBoolean stopped) throws InterruptedException {
+        StepContribution contribution = new StepContribution();
+        List<I> chunk = new ArrayList<>(chunkSize);
+        I item;
+
+        while ((item = readItem()) != null) {
+            contribution.incrementReadCount();
+            chunk.add(item);
+            if (chunk.size() >= chunkSize) {
+                readQueue.put(chunk);
+                chunk = new ArrayList<>(chunkSize);
+                if (stepExecution.isStopRequested()) {
+                    stopped.set(true);
+                    break;
+                }
+            }
+        }
+        if (!chunk.isEmpty()) {
+            readQueue.put(chunk);
+        }
+        for (int i = 0; i < processConcurrency; i++) {
+            readQueue.put(endOfInput());
+        }
+        return contribution;
+    }
+
+    @SuppressWarnings("unchecked")
+    private StepContribution processStage(BlockingQueue<List<I>> readQueue, BlockingQueue<List<O>> writeQueue,
+                                          AtomicInteger activeProcessors) throws InterruptedException {
+        StepContribution contribution = new StepContribution();
+        List<I> inputs;
+
+        while ((inputs = readQueue.take()) != END_OF_INPUT) {
+            List<O> outputs = new ArrayList<>(inputs.size());
+            for (I item : inputs) {
+                O output = processor != null ? processItem(item) : (O) item;
+                if (output == null) {
+                    contribution.incrementFilterCount();
+                } else {
+                    outputs.add(output);
+                }
+            }
+            if (!outputs.isEmpty()) {
+                writeQueue.put(outputs);
+            }
+        }
+
+        if (activeProcessors.decrementAndGet() == 0) {
+            for (int i = 0; i < writeConcurrency; i++) {
+                writeQueue.put(endOfInput());
+            }
+        }
+        return contribution;
+    }
+
+    private StepContribution writeStage(BlockingQueue<List<O>> writeQueue, StepExecution stepExecution)
+            throws InterruptedException {
+        StepContribution contribution = new StepContribution();
+        List<O> chunk;
+
+        while ((chunk = writeQueue.take()) != END_OF_INPUT) {
+            writeChunk(chunk, contribution, stepExecution);
+        }
+        return contribution;
+    }
+
+    private I readItem() {
+        ItemReadEvent event = new ItemReadEvent();
+        event.begin();
+        itemReadListener.beforeRead();
+        long start = metrics != null ? System.nanoTime() : 0;
+        try {
+            I item = reader.read();
+            if (item != null) {
+                if (metrics != null) metrics.recordRead(start);
+                itemReadListener.afterRead(item);
+            }
+            return item;
+        } catch (Exception e) {
+            itemReadListener.onReadError(e);
+            throw e;
+        } finally {
+            event.end();
+            if (event.shouldCommit()) {
+                event.setStepName(name);
+                event.commit();
+            }
+        }
+    }
+
+    private O processItem(I item) {
+        ItemProcessEvent event = new ItemProcessEvent();
+        event.begin();
+        itemProcessListener.beforeProcess(item);
+        long start = metrics != null ? System.nanoTime() : 0;
+        try {
+            O result = processor.process(item);
+            if (metrics != null) metrics.recordProcess(start, result == null);
+            itemProcessListener.afterProcess(item, result);
+            return result;
+        } catch (Exception e) {
+            itemProcessListener.onProcessError(item, e);
+            throw e;
+        } finally {
+            event.end();
+            if (event.shouldCommit()) {
+                event.setStepName(name);
+                event.setAttempts(1);
+                event.commit();
+            }
+        }
+    }
+
+    private void writeChunk(List<O> chunk, StepContribution contribution, StepExecution stepExecution) {
+        ChunkWriteEvent event = new ChunkWriteEvent();
+        event.begin();
+        long start = metrics != null ? System.nanoTime() : 0;
+        int written = 0;
+        boolean succeeded = false;
+        chunkListener.beforeChunk();
+        itemWriteListener.beforeWrite(chunk);
+        long writeStart = metrics != null ? System.nanoTime() : 0;
+        try {
+            if (writer instanceof ContributingItemWriter<O> contributing) {
+                long writeCount = contribution.getWriteCount();
+                contributing.write(chunk, contribution);
+                written = (int) (contribution.getWriteCount() - writeCount);
+            } else {
+                writer.write(chunk);
+                written = chunk.size();
+                contribution.incrementWriteCount(chunk.size());
+            }
+            succeeded = true;
+            if (metrics != null) metrics.recordWrite(writeStart, written);
+            itemWriteListener.afterWrite(chunk);
+            stepExecution.incrementCommitCount();
+            if (metrics != null) metrics.recordChunk(start);
+            chunkListener.afterChunk();
+        } catch (Exception e) {
+            itemWriteListener.onWriteError(chunk, e);
+            chunkListener.afterChunkError(e);
+            throw e;
+        } finally {
+            event.setStepName(name);
+            event.setItemCount(chunk.size());
+            event.setWriteCount(written);
+            event.setFailedWrites(succeeded ? 0 : 1);
+            event.commit();
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T> List<T> endOfInput() {
+        return (List<T>) END_OF_INPUT;
+    }
+}
@@ -0,0 +1,84 @@
+package com.hogwai.batch.core.definition;
+
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.function.LongConsumer;
+
+/**
+ * Tracks the read position of a multi-threaded chunk step. The workers pull items from the shared
+ * reader one at a time, so the items of a chunk are not contiguous in the input and a worker's own
+ * read count says nothing about the position of the reader.
+ * <p>
+ * Every item is numbered as it is read. When a worker commits a chunk, the numbers of the items it
+ * read for that chunk are marked as committed, and the watermark advances past all the items
+ * committed without a gap. A step restarted from the watermark reads no uncommitted item twice, but
+ * reads again the items that other workers committed after the first uncommitted one: at most
+ * {@code concurrency - 1} chunks when the step failed, none when it was stopped, since every worker
+ * then commits the chunk it was reading.
+ */
+final class ReadWatermark {
+
+    /** Number of committed items after which the bits below the watermark are dropped. */
+    private static final int COMPACTION_THRESHOLD = 4096;
+
+    private BitSet committed = new BitSet();
+    private long base;
+    private long watermark;
+    private long next;
+
+    /**
+     * Creates a watermark starting at the given read position.
+     *
+     * @param readOffset the number of items read by previous executions of the step
+     */
+    ReadWatermark(long readOffset) {
+        this.base = readOffset;
+        this.watermark = readOffset;
+        this.next = readOffset;
+    }
+
+    /**
+     * Numbers an item just read from the shared reader. Must be called while holding the lock of
+     * the reader, so that items are numbered in read order.
+     *
+     * @param reads the reads of the worker that read the item
+     */
+    void read(Reads reads) {
+        reads.add(next++);
+    }
+
+    /**
+     * Marks the items read by a worker since its last commit as committed, then saves the
+     * watermark. Commits are serialized, so that the saved position never goes backwards.
+     *
+     * @param reads the reads of the committing worker, cleared afterwards
+     * @param save  saves the number of items read before the first uncommitted item
+     */
+    synchronized void commit(Reads reads, LongConsumer save) {
+        for (int i = 0; i < reads.size; i++) {
+            committed.set((int) (reads.indexes[i] - base));
+        }
+        reads.size = 0;
+        int contiguous = committed.nextClearBit((int) (watermark - base));
+        watermark = base + contiguous;
+        if (contiguous >= COMPACTION_THRESHOLD) {
+            committed = committed.get(contiguous, Math.max(contiguous, committed.length()));
+            base = watermark;
+        }
+        save.accept(watermark);
+    }
+
+    /**
+     * The numbers of the items a worker read since its last commit. Each worker owns one, so that
+     * recording a read allocates nothing once the array has grown to a chunk.
+     */
+    static final class Reads {
+        private long[] indexes = new long[16];
+        private int size;
+
+        private void add(long index) {
+            if (size == indexes.length) indexes = Arrays.copyOf(indexes, size * 2);
+            indexes[size++] = index;
+        }
+    }
+}
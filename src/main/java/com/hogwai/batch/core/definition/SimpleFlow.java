@@ -1,6 +1,7 @@
 package com.hogwai.batch.core.definition;
 
 import com.hogwai.batch.core.runtime.ExitStatus;
+import com.hogwai.batch.core.runtime.JobInterruptedException;
 import com.hogwai.batch.core.runtime.StepExecution;
 
 import java.util.List;
@@ -9,6 +10,9 @@ import java.util.Map;
 /**
  * Default {@link Flow} implementation that navigates steps using a transition map.
  * Each step's exit status is matched against transition patterns to determine the next step.
+ * A {@link FlowStep} node, such as a {@link SplitFlow}, runs its flow with the same step callback
+ * and transitions on the flow's exit status. A {@link JobInterruptedException} from the step callback
+ * ends the flow and is rethrown.
  */
 public class SimpleFlow implements Flow {
     private final String name;
@@ -39,10 +43,15 @@ public class SimpleFlow implements Flow {
         ExitStatus lastExitStatus = ExitStatus.COMPLETED;
 
         while (currentStep != null) {
-            StepExecution stepExecution;
             try {
-                stepExecution = executor.executeStep(currentStep);
-                lastExitStatus = stepExecution.getExitStatus();
+                if (currentStep instanceof FlowStep flowStep) {
+                    lastExitStatus = flowStep.getFlow().execute(executor);
+                } else {
+                    StepExecution stepExecution = executor.executeStep(currentStep);
+                    lastExitStatus = stepExecution.getExitStatus();
+                }
+            } catch (JobInterruptedException e) {
+                throw e;
             } catch (Exception e) {
                 lastExitStatus = ExitStatus.FAILED;
             }
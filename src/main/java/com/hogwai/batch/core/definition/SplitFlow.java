@@ -0,0 +1,85 @@
+package com.hogwai.batch.core.definition;
+
+import com.hogwai.batch.core.runtime.ExitStatus;
+import com.hogwai.batch.core.runtime.JobInterruptedException;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * {@link Flow} that runs independent flows concurrently and waits for all of them to finish.
+ * <p>
+ * Each flow runs on the task executor with the same step callback, so its steps are recorded
+ * under the same job execution. The exit status of the split combines the exit statuses of its
+ * flows with {@link ExitStatus#and}: it is {@code FAILED} if any flow failed, {@code STOPPED} if
+ * any stopped, and {@code COMPLETED} otherwise. A flow that throws counts as failed, or as stopped
+ * for a {@link JobInterruptedException}, and does not interrupt the others.
+ */
+public class SplitFlow implements Flow {
+    private final String name;
+    private final List<Flow> flows;
+    private final Executor taskExecutor;
+
+    /**
+     * Creates a new split flow.
+     *
+     * @param name         the flow name
+     * @param flows        the flows to run concurrently
+     * @param taskExecutor the executor running the flows, or {@code null} to use a
+     *                     dedicated thread per flow
+     * @throws IllegalArgumentException if no flow is given
+     */
+    public SplitFlow(String name, List<Flow> flows, Executor taskExecutor) {
+        if (flows.isEmpty()) {
+            throw new IllegalArgumentException("Split " + name + " requires at least one flow");
+        }
+        this.name = name;
+        this.flows = List.copyOf(flows);
+        this.taskExecutor = taskExecutor;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public String getName() { return name; }
+
+    /**
+     * Returns the flows run by this split.
+     *
+     * @return the flows, in declaration order
+     */
+    public List<Flow> getFlows() { return flows; }
+
+    /** {@inheritDoc} */
+    @Override
+    public ExitStatus execute(FlowExecutor executor) {
+        ExecutorService ownedExecutor = taskExecutor == null ? Executors.newFixedThreadPool(flows.size()) : null;
+        Executor runner = ownedExecutor != null ? ownedExecutor : taskExecutor;
+        try {
+            List<CompletableFuture<ExitStatus>> running = new ArrayList<>(flows.size());
+            for (Flow flow : flows) {
+                running.add(CompletableFuture.supplyAsync(() -> executeFlow(flow, executor), runner));
+            }
+            ExitStatus exitStatus = ExitStatus.COMPLETED;
+            for (CompletableFuture<ExitStatus> flow : running) {
+                exitStatus = exitStatus.and(flow.join());
+            }
+            return exitStatus;
+        } finally {
+            if (ownedExecutor != null) ownedExecutor.shutdown();
+        }
+    }
+
+    private static ExitStatus executeFlow(Flow flow, FlowExecutor executor) {
+        try {
+            return flow.execute(executor);
+        } catch (JobInterruptedException e) {
+            return ExitStatus.STOPPED;
+        } catch (Exception e) {
+            return ExitStatus.FAILED;
+        }
+    }
+}
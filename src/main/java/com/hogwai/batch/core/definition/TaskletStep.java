@@ -2,7 +2,10 @@ package com.hogwai.batch.core.definition;
 
 import com.hogwai.batch.core.RepeatStatus;
 import com.hogwai.batch.core.Tasklet;
+import com.hogwai.batch.core.jfr.TaskletEvent;
 import com.hogwai.batch.core.listener.StepExecutionListener;
+import com.hogwai.batch.core.runtime.BatchStatus;
+import com.hogwai.batch.core.runtime.ExitStatus;
 import com.hogwai.batch.core.runtime.StepContribution;
 import com.hogwai.batch.core.runtime.StepExecution;
 
@@ -10,7 +13,8 @@ import java.util.List;
 
 /**
  * A {@link Step} that delegates execution to a {@link Tasklet}, calling it repeatedly
- * until it returns {@link RepeatStatus#FINISHED}.
+ * until it returns {@link RepeatStatus#FINISHED}. If the job is stopping, the step ends as
+ * {@link BatchStatus#STOPPED} after the current call instead of calling the tasklet again.
  */
 public class TaskletStep implements Step {
     private final String name;
@@ -41,11 +45,27 @@ public class TaskletStep implements Step {
 
         StepContribution contribution = new StepContribution();
         RepeatStatus status;
+        int iteration = 0;
+        boolean stopped = false;
         do {
-            status = tasklet.execute(contribution, stepExecution.getExecutionContext());
-        } while (status == RepeatStatus.CONTINUABLE);
+            TaskletEvent event = new TaskletEvent();
+            event.begin();
+            status = null;
+            try {
+                status = tasklet.execute(contribution, stepExecution.getExecutionContext());
+            } finally {
+                event.setStepName(name);
+                event.setIteration(++iteration);
+                event.setRepeatStatus(status != null ? status.name() : "FAILED");
+                event.commit();
+            }
+        } while (status == RepeatStatus.CONTINUABLE && !(stopped = stepExecution.isStopRequested()));
 
         stepExecution.apply(contribution);
+        if (stopped) {
+            stepExecution.setStatus(BatchStatus.STOPPED);
+            stepExecution.setExitStatus(ExitStatus.STOPPED);
+        }
         listeners.forEach(l -> l.afterStep(stepExecution));
     }
 }
@@ -0,0 +1,98 @@
+package com.hogwai.batch.core.definition;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.Semaphore;
+
+/**
+ * Runs the processing of every item of a chunk on its own virtual thread, bounded by a
+ * maximum number of in-flight items, and returns the results in input order.
+ */
+final class VirtualThreadProcessing {
+
+    /** Concurrency permits of the chunk whose item the current thread is processing. */
+    private static final ThreadLocal<Semaphore> PERMITS = new ThreadLocal<>();
+
+    private VirtualThreadProcessing() {}
+
+    /**
+     * Callback processing a single item; may block, which only parks the virtual thread.
+     *
+     * @param <I> the input item type
+     * @param <O> the output item type
+     */
+    @FunctionalInterface
+    interface ItemTask<I, O> {
+        O apply(I item) throws Exception;
+    }
+
+    /**
+     * Processes all given items concurrently. If any item fails, the remaining tasks are cancelled
+     * and the failure is rethrown once all started tasks have ended.
+     *
+     * @param items          the items to process
+     * @param maxConcurrency the maximum number of items processed at the same time
+     * @param task           the processing callback
+     * @param <I>            the input item type
+     * @param <O>            the output item type
+     * @return the results, in the same order as {@code items}; {@code null} entries are kept
+     * @throws Exception the first failure raised by {@code task}, in input order
+     */
+    static <I, O> List<O> processAll(List<I> items, int maxConcurrency, ItemTask<I, O> task) throws Exception {
+        Semaphore permits = new Semaphore(maxConcurrency);
+        List<Future<O>> results = new ArrayList<>(items.size());
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            try {
+                for (I item : items) {
+                    permits.acquire();
+                    results.add(executor.submit(() -> {
+                        PERMITS.set(permits);
+                        try {
+                            return task.apply(item);
+                        } finally {
+                            permits.release();
+                        }
+                    }));
+                }
+                List<O> outputs = new ArrayList<>(items.size());
+                for (Future<O> result : results) {
+                    outputs.add(result.get());
+                }
+                return outputs;
+            } catch (ExecutionException e) {
+                results.forEach(r -> r.cancel(true));
+                if (e.getCause() instanceof Exception cause) throw cause;
+                if (e.getCause() instanceof Error err) throw err;
+                throw e;
+            } catch (InterruptedException e) {
+                results.forEach(r -> r.cancel(true));
+                throw e;
+            }
+        }
+    }
+
+    /**
+     * Waits for the given future, typically a retry backoff. When called while processing an item
+     * in {@link #processAll}, the item gives up its concurrency permit during the wait, so that the
+     * other items of the chunk keep being processed, and takes a permit again before returning.
+     *
+     * @param future the future to wait for
+     * @throws InterruptedException if the thread is interrupted while waiting
+     */
+    static void pause(CompletableFuture<?> future) throws InterruptedException {
+        Semaphore permits = PERMITS.get();
+        if (permits != null) permits.release();
+        try {
+            future.get();
+        } catch (ExecutionException e) {
+            throw new IllegalStateException("Pause failed", e.getCause());
+        } finally {
+            if (permits != null) permits.acquireUninterruptibly();
+        }
+    }
+}
@@ -0,0 +1,88 @@
+package com.hogwai.batch.core.item.async;
+
+import com.hogwai.batch.core.ItemProcessor;
+import com.hogwai.batch.core.ItemStream;
+import com.hogwai.batch.core.runtime.ExecutionContext;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Future;
+
+/**
+ * {@link ItemProcessor} that submits the processing of each item to an executor and passes a
+ * {@link Future} of the result through the chunk instead of the result itself. Paired with an
+ * {@link AsyncItemWriter}, which waits for the futures before writing, it processes the items of a
+ * chunk concurrently in any chunk step, without changing how items are read or chunks committed:
+ * <pre>{@code
+ * new StepBuilder("enrichStep")
+ *         .<Order, Future<Order>>chunk(100)
+ *         .reader(orderReader)
+ *         .processor(new AsyncItemProcessor<>(customerLookupProcessor))
+ *         .writer(new AsyncItemWriter<>(orderWriter))
+ *         .build();
+ * }</pre>
+ * The step only sees futures: items filtered out by the delegate are dropped by the writer and not
+ * counted as filtered, and process listeners are notified when an item is submitted rather than
+ * when it has been processed. A failure of the delegate surfaces when the chunk is written.
+ * <p>
+ * If the delegate is an {@link ItemStream}, the lifecycle callbacks are forwarded to it.
+ *
+ * @param <I> the input item type
+ * @param <O> the output item type of the delegate
+ * @see AsyncItemWriter
+ */
+public class AsyncItemProcessor<I, O> implements ItemProcessor<I, Future<O>>, ItemStream {
+
+    private final ItemProcessor<I, O> delegate;
+    private final Executor executor;
+
+    /**
+     * Creates a processor running each item on its own virtual thread, for delegates that spend
+     * most of their time blocked on I/O. The number of items in flight is bounded by the chunk size.
+     *
+     * @param delegate the processor to run asynchronously
+     */
+    public AsyncItemProcessor(ItemProcessor<I, O> delegate) {
+        this(delegate, task -> Thread.ofVirtual().start(task));
+    }
+
+    /**
+     * Creates a processor submitting items to the given executor.
+     *
+     * @param delegate the processor to run asynchronously
+     * @param executor the executor running the delegate
+     */
+    public AsyncItemProcessor(ItemProcessor<I, O> delegate, Executor executor) {
+        this.delegate = delegate;
+        this.executor = executor;
+    }
+
+    /**
+     * Submits the processing of the given item.
+     *
+     * @param item the input item to process
+     * @return a future of the delegate's result, completed with {@code null} if the item is filtered
+     */
+    @Override
+    public Future<O> process(I item) {
+        return CompletableFuture.supplyAsync(() -> delegate.process(item), executor);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public void open(ExecutionContext executionContext) {
+        if (delegate instanceof ItemStream stream) stream.open(executionContext);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public void update(ExecutionContext executionContext) {
+        if (delegate instanceof ItemStream stream) stream.update(executionContext);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public void close() {
+        if (delegate instanceof ItemStream stream) stream.close();
+    }
+}
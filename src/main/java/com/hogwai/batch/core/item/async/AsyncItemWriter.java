@@ -0,0 +1,95 @@
+package com.hogwai.batch.core.item.async;
+
+import com.hogwai.batch.core.ContributingItemWriter;
+import com.hogwai.batch.core.ItemStream;
+import com.hogwai.batch.core.ItemWriter;
+import com.hogwai.batch.core.runtime.ExecutionContext;
+import com.hogwai.batch.core.runtime.StepContribution;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+
+/**
+ * {@link ItemWriter} that waits for the futures produced by an {@link AsyncItemProcessor} and writes
+ * their results with a delegate writer. Futures are joined in chunk order, so the delegate receives
+ * the items in read order whatever order they completed in; {@code null} results, from items
+ * filtered out by the processor, are dropped. The writer reports the results it wrote and the ones
+ * it dropped to the step, so filtered items are counted as filtered rather than written.
+ * <p>
+ * If a future failed, its exception is rethrown as is when unchecked, so skip and retry policies
+ * apply to the original exception. In a fault-tolerant step, a processing failure is thus handled
+ * like a write failure: the chunk is written again item by item and the failing items are skipped,
+ * but processing itself is not retried, since a future keeps its result.
+ * <p>
+ * If the delegate is an {@link ItemStream}, the lifecycle callbacks are forwarded to it.
+ *
+ * @param <O> the type of items written by the delegate
+ * @see AsyncItemProcessor
+ */
+public class AsyncItemWriter<O> implements ContributingItemWriter<Future<O>>, ItemStream {
+
+    private final ItemWriter<O> delegate;
+
+    /**
+     * Creates a writer unwrapping results for the given delegate.
+     *
+     * @param delegate the writer receiving the processed items
+     */
+    public AsyncItemWriter(ItemWriter<O> delegate) {
+        this.delegate = delegate;
+    }
+
+    /**
+     * Waits for all given futures, writes their non-null results, and counts them as written and
+     * the {@code null} ones as filtered.
+     *
+     * @param items        the futures of a chunk, in read order
+     * @param contribution the contribution of the current chunk worker
+     * @throws IllegalStateException if a future failed with a checked exception, or if the thread is
+     *                               interrupted while waiting
+     */
+    @Override
+    public void write(List<Future<O>> items, StepContribution contribution) {
+        List<O> results = new ArrayList<>(items.size());
+        for (Future<O> future : items) {
+            O result = join(future);
+            if (result != null) results.add(result);
+        }
+        if (!results.isEmpty()) delegate.write(results);
+        contribution.incrementWriteCount(results.size());
+        for (int i = results.size(); i < items.size(); i++) contribution.incrementFilterCount();
+    }
+
+    private static <O> O join(Future<O> future) {
+        try {
+            return future.get();
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException cause) throw cause;
+            if (e.getCause() instanceof Error err) throw err;
+            throw new IllegalStateException("Asynchronous processing failed", e.getCause());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while waiting for processed items", e);
+        }
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public void open(ExecutionContext executionContext) {
+        if (delegate instanceof ItemStream stream) stream.open(executionContext);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public void update(ExecutionContext executionContext) {
+        if (delegate instanceof ItemStream stream) stream.update(executionContext);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public void close() {
+        if (delegate instanceof ItemStream stream) stream.close();
+    }
+}
@@ -0,0 +1,54 @@
+package com.hogwai.batch.core.item.file;
+
+/**
+ * {@link FieldSet} backed by an array of already decoded tokens.
+ */
+public class DefaultFieldSet implements FieldSet {
+    private final String[] tokens;
+    private final String[] names;
+
+    /**
+     * Creates a field set without column names.
+     *
+     * @param tokens the field values
+     */
+    public DefaultFieldSet(String[] tokens) {
+        this(tokens, null);
+    }
+
+    /**
+     * Creates a field set with column names.
+     *
+     * @param tokens the field values
+     * @param names  the column names, in field order, or {@code null} if unnamed
+     */
+    public DefaultFieldSet(String[] tokens, String[] names) {
+        this.tokens = tokens;
+        this.names = names;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public int getFieldCount() { return tokens.length; }
+
+    /** {@inheritDoc} */
+    @Override
+    public String[] getNames() { return names; }
+
+    /** {@inheritDoc} */
+    @Override
+    public String readString(int index) { return tokens[index]; }
+
+    /** {@inheritDoc} */
+    @Override
+    public String readString(String name) { return tokens[indexOf(name)]; }
+
+    private int indexOf(String name) {
+        if (names != null) {
+            for (int i = 0; i < names.length; i++) {
+                if (names[i].equals(name)) return i;
+            }
+        }
+        throw new IllegalArgumentException("No column named " + name);
+    }
+}
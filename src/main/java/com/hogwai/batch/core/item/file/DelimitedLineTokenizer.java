@@ -0,0 +1,88 @@
+package com.hogwai.batch.core.item.file;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Splits a line into fields on a delimiter character. Fields may be enclosed in double quotes,
+ * in which case they can contain the delimiter, and a doubled quote stands for a literal quote.
+ * Quoted fields spanning several lines are not supported.
+ */
+public class DelimitedLineTokenizer {
+    private static final char QUOTE = '"';
+
+    private final char delimiter;
+    private final boolean ignoreLeadingWhitespace;
+
+    /**
+     * Creates a tokenizer that keeps leading whitespace.
+     *
+     * @param delimiter the field delimiter
+     */
+    public DelimitedLineTokenizer(char delimiter) {
+        this(delimiter, false);
+    }
+
+    /**
+     * Creates a tokenizer.
+     *
+     * @param delimiter               the field delimiter
+     * @param ignoreLeadingWhitespace whether whitespace at the start of each field is dropped
+     */
+    public DelimitedLineTokenizer(char delimiter, boolean ignoreLeadingWhitespace) {
+        this.delimiter = delimiter;
+        this.ignoreLeadingWhitespace = ignoreLeadingWhitespace;
+    }
+
+    /**
+     * Splits the given line into its fields.
+     *
+     * @param line the line to split, without its line terminator
+     * @return the field values
+     * @throws IllegalArgumentException if a quoted field is not closed
+     */
+    public String[] tokenize(String line) {
+        List<String> tokens = new ArrayList<>();
+        int length = line.length();
+        int pos = 0;
+
+        while (true) {
+            if (ignoreLeadingWhitespace) {
+                while (pos < length && line.charAt(pos) != delimiter && Character.isWhitespace(line.charAt(pos))) {
+                    pos++;
+                }
+            }
+            if (pos < length && line.charAt(pos) == QUOTE) {
+                StringBuilder field = new StringBuilder();
+                pos++;
+                while (true) {
+                    if (pos >= length) throw new IllegalArgumentException("Unterminated quoted field: " + line);
+                    char c = line.charAt(pos++);
+                    if (c == QUOTE) {
+                        if (pos < length && line.charAt(pos) == QUOTE) {
+                            field.append(QUOTE);
+                            pos++;
+                        } else {
+                            break;
+                        }
+                    } else {
+                        field.append(c);
+                    }
+                }
+                tokens.add(field.toString());
+                int end = line.indexOf(delimiter, pos);
+                if (end < 0) break;
+                pos = end + 1;
+            } else {
+                int end = line.indexOf(delimiter, pos);
+                if (end < 0) {
+                    tokens.add(line.substring(pos));
+                    break;
+                }
+                tokens.add(line.substring(pos, end));
+                pos = end + 1;
+            }
+        }
+        return tokens.toArray(String[]::new);
+    }
+}
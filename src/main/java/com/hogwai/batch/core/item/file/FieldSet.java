@@ -0,0 +1,79 @@
+package com.hogwai.batch.core.item.file;
+
+/**
+ * The tokenized fields of a single record of a flat file, accessible by index or,
+ * when the file has a header, by column name.
+ *
+ * @see FieldSetMapper
+ */
+public interface FieldSet {
+
+    /**
+     * Returns the number of fields in this record.
+     *
+     * @return the field count
+     */
+    int getFieldCount();
+
+    /**
+     * Returns the column names, in field order. The same array is shared by every record of a
+     * file and must not be modified.
+     *
+     * @return the column names, or {@code null} if the file has no header
+     */
+    String[] getNames();
+
+    /**
+     * Reads the field at the given index as a string.
+     *
+     * @param index the zero-based field index
+     * @return the field value
+     * @throws IndexOutOfBoundsException if there is no field at this index
+     */
+    String readString(int index);
+
+    /**
+     * Reads the field with the given column name as a string.
+     *
+     * @param name the column name
+     * @return the field value
+     * @throws IllegalArgumentException if there is no column with this name
+     */
+    String readString(String name);
+
+    /**
+     * Reads the field at the given index as an {@code int}.
+     *
+     * @param index the zero-based field index
+     * @return the parsed value
+     * @throws NumberFormatException if the field is not a valid integer
+     */
+    default int readInt(int index) { return Integer.parseInt(readString(index)); }
+
+    /**
+     * Reads the field with the given column name as an {@code int}.
+     *
+     * @param name the column name
+     * @return the parsed value
+     * @throws NumberFormatException if the field is not a valid integer
+     */
+    default int readInt(String name) { return Integer.parseInt(readString(name)); }
+
+    /**
+     * Reads the field at the given index as a {@code long}.
+     *
+     * @param index the zero-based field index
+     * @return the parsed value
+     * @throws NumberFormatException if the field is not a valid long
+     */
+    default long readLong(int index) { return Long.parseLong(readString(index)); }
+
+    /**
+     * Reads the field with the given column name as a {@code long}.
+     *
+     * @param name the column name
+     * @return the parsed value
+     * @throws NumberFormatException if the field is not a valid long
+     */
+    default long readLong(String name) { return Long.parseLong(readString(name)); }
+}
@@ -0,0 +1,18 @@
+package com.hogwai.batch.core.item.file;
+
+/**
+ * Maps the fields of a flat-file record to an item.
+ *
+ * @param <T> the type of items produced
+ * @see FlatFileItemReader
+ */
+@FunctionalInterface
+public interface FieldSetMapper<T> {
+    /**
+     * Creates an item from the given fields.
+     *
+     * @param fieldSet the tokenized record
+     * @return the mapped item
+     */
+    T mapFieldSet(FieldSet fieldSet);
+}
@@ -0,0 +1,77 @@
+package com.hogwai.batch.core.item.file;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * A byte range {@code [start, end)} of a file. Ranges produced by {@link #split(Path, int)} begin
+ * at the start of a line, so each one can be read independently by a {@link MappedFileItemReader}.
+ *
+ * @param start the offset of the first byte, inclusive
+ * @param end   the offset of the last byte, exclusive
+ */
+public record FileRange(long start, long end) {
+
+    private static final int SCAN_BUFFER_SIZE = 8192;
+
+    /**
+     * Creates a range.
+     *
+     * @throws IllegalArgumentException if {@code start} is negative or greater than {@code end}
+     */
+    public FileRange {
+        if (start < 0 || start > end) throw new IllegalArgumentException("Invalid range [" + start + ", " + end + ")");
+    }
+
+    /**
+     * Splits a file into at most {@code count} ranges of roughly equal size, each boundary being
+     * moved forward to the start of the next line.
+     *
+     * @param path  the file to split
+     * @param count the requested number of ranges
+     * @return the non-empty ranges, in file order, covering the whole file
+     * @throws IllegalArgumentException if {@code count} is less than one
+     * @throws UncheckedIOException     if the file cannot be read
+     */
+    public static List<FileRange> split(Path path, int count) {
+        if (count < 1) throw new IllegalArgumentException("count must be at least 1");
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            long size = channel.size();
+            List<FileRange> ranges = new ArrayList<>(count);
+            ByteBuffer buffer = ByteBuffer.allocate(SCAN_BUFFER_SIZE);
+            long start = 0;
+            for (int i = 1; i <= count && start < size; i++) {
+                long end = i == count ? size : Math.max(start, lineStartAtOrAfter(channel, size * i / count, buffer));
+                if (end > start) {
+                    ranges.add(new FileRange(start, end));
+                    start = end;
+                }
+            }
+            return ranges;
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to split " + path, e);
+        }
+    }
+
+    private static long lineStartAtOrAfter(FileChannel channel, long offset, ByteBuffer buffer) throws IOException {
+        if (offset == 0) return 0;
+        long position = offset - 1;
+        long size = channel.size();
+        while (position < size) {
+            buffer.clear();
+            int read = channel.read(buffer, position);
+            if (read <= 0) break;
+            for (int i = 0; i < read; i++) {
+                if (buffer.get(i) == '\n') return position + i + 1;
+            }
+            position += read;
+        }
+        return size;
+    }
+}
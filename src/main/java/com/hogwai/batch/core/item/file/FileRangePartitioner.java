@@ -0,0 +1,58 @@
+package com.hogwai.batch.core.item.file;
+
+import com.hogwai.batch.core.definition.Partitioner;
+import com.hogwai.batch.core.runtime.ExecutionContext;
+
+import java.nio.file.Path;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * {@link Partitioner} that splits a file into line-aligned byte ranges, one partition per range.
+ * Each partition context holds the range under {@link #START_KEY} and {@link #END_KEY};
+ * {@link #range(ExecutionContext)} turns it back into a {@link FileRange} for a
+ * {@link MappedFileItemReader}.
+ */
+public class FileRangePartitioner implements Partitioner {
+
+    /** Context key of the first byte offset of a partition, inclusive. */
+    public static final String START_KEY = "start";
+    /** Context key of the last byte offset of a partition, exclusive. */
+    public static final String END_KEY = "end";
+
+    private final Path path;
+
+    /**
+     * Creates a partitioner for the given file.
+     *
+     * @param path the file to split
+     */
+    public FileRangePartitioner(Path path) {
+        this.path = path;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public Map<String, ExecutionContext> partition(int gridSize) {
+        List<FileRange> ranges = FileRange.split(path, gridSize);
+        Map<String, ExecutionContext> partitions = new LinkedHashMap<>();
+        for (int i = 0; i < ranges.size(); i++) {
+            ExecutionContext context = new ExecutionContext();
+            context.putLong(START_KEY, ranges.get(i).start());
+            context.putLong(END_KEY, ranges.get(i).end());
+            partitions.put("range" + i, context);
+        }
+        return partitions;
+    }
+
+    /**
+     * Returns the range stored in a partition context.
+     *
+     * @param context a partition context created by this partitioner
+     * @return the partition's byte range
+     */
+    public static FileRange range(ExecutionContext context) {
+        return new FileRange(context.getLong(START_KEY), context.getLong(END_KEY));
+    }
+}
@@ -0,0 +1,200 @@
+package com.hogwai.batch.core.item.file;
+
+import com.hogwai.batch.core.ItemReader;
+import com.hogwai.batch.core.ItemStream;
+import com.hogwai.batch.core.runtime.ExecutionContext;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.Reader;
+import java.io.UncheckedIOException;
+import java.nio.charset.Charset;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+/**
+ * {@link ItemReader} that streams a delimited flat file line by line. The source is opened by
+ * {@link #open(ExecutionContext)}, or on the first read, and closed once exhausted; only the current
+ * line is held in memory, so memory use does not depend on the size of the file.
+ * <p>
+ * As an {@link ItemStream}, the reader saves the number of lines consumed at every commit and, when
+ * reopened with that state, skips the lines already consumed without parsing them.
+ * Blank lines are ignored. When the file has a header, its fields become the column names
+ * available through {@link FieldSet#readString(String)}. This reader is not thread-safe.
+ *
+ * @param <T> the type of items produced
+ * @see DelimitedLineTokenizer
+ * @see FieldSetMapper
+ */
+public class FlatFileItemReader<T> implements ItemReader<T>, ItemStream, AutoCloseable {
+
+    private final ReaderSource source;
+    private final DelimitedLineTokenizer tokenizer;
+    private final FieldSetMapper<T> fieldSetMapper;
+    private final boolean hasHeader;
+    private BufferedReader lines;
+    private String[] names;
+    private long lineCount;
+    private boolean exhausted;
+    private String name = "FlatFileItemReader";
+
+    /**
+     * Opens a character stream over the input; called each time the reader is opened.
+     */
+    @FunctionalInterface
+    public interface ReaderSource {
+        /**
+         * Opens the input.
+         *
+         * @return a reader over the input
+         * @throws IOException if the input cannot be opened
+         */
+        Reader open() throws IOException;
+    }
+
+    /**
+     * Creates a reader over a file.
+     *
+     * @param path           the file to read
+     * @param charset        the file encoding
+     * @param tokenizer      splits lines into fields
+     * @param fieldSetMapper maps fields to items
+     * @param hasHeader      whether the first line holds the column names
+     */
+    public FlatFileItemReader(Path path, Charset charset, DelimitedLineTokenizer tokenizer,
+                              FieldSetMapper<T> fieldSetMapper, boolean hasHeader) {
+        this(() -> Files.newBufferedReader(path, charset), tokenizer, fieldSetMapper, hasHeader);
+    }
+
+    /**
+     * Creates a reader over an arbitrary character source.
+     *
+     * @param source         opens the input on the first read
+     * @param tokenizer      splits lines into fields
+     * @param fieldSetMapper maps fields to items
+     * @param hasHeader      whether the first line holds the column names
+     */
+    public FlatFileItemReader(ReaderSource source, DelimitedLineTokenizer tokenizer,
+                              FieldSetMapper<T> fieldSetMapper, boolean hasHeader) {
+        this.source = source;
+        this.tokenizer = tokenizer;
+        this.fieldSetMapper = fieldSetMapper;
+        this.hasHeader = hasHeader;
+    }
+
+    /**
+     * Sets the name prefixing the keys under which the reader state is saved, to be set when a step
+     * has several readers of this type.
+     *
+     * @param name the state key prefix, {@code FlatFileItemReader} by default
+     */
+    public void setName(String name) {
+        this.name = name;
+    }
+
+    /**
+     * Opens the input from its beginning and skips the lines consumed before the state saved in the
+     * given context, if any.
+     *
+     * @param executionContext the step execution context
+     * @throws UncheckedIOException if the input cannot be opened or read
+     */
+    @Override
+    public void open(ExecutionContext executionContext) {
+        close();
+        exhausted = false;
+        lineCount = 0;
+        names = null;
+        try {
+            openSource();
+            Long savedLineCount = executionContext.getLong(lineCountKey());
+            if (savedLineCount != null) {
+                while (lineCount < savedLineCount && lines.readLine() != null) {
+                    lineCount++;
+                }
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to open input", e);
+        }
+    }
+
+    /**
+     * Saves the number of lines consumed so far.
+     *
+     * @param executionContext the step execution context
+     */
+    @Override
+    public void update(ExecutionContext executionContext) {
+        executionContext.putLong(lineCountKey(), lineCount);
+    }
+
+    /**
+     * Reads and maps the next record.
+     *
+     * @return the next item, or {@code null} once the input is exhausted
+     * @throws UncheckedIOException if the input cannot be read
+     */
+    @Override
+    public T read() {
+        if (exhausted) return null;
+        try {
+            if (lines == null) openSource();
+            String line = nextLine();
+            if (line == null) {
+                close();
+                exhausted = true;
+                return null;
+            }
+            return fieldSetMapper.mapFieldSet(new DefaultFieldSet(tokenizer.tokenize(line), names));
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to read line " + (lineCount + 1), e);
+        }
+    }
+
+    /**
+     * Returns the number of lines consumed so far, including the header and blank lines.
+     *
+     * @return the current line number
+     */
+    public long getLineCount() { return lineCount; }
+
+    /**
+     * Closes the underlying input if it is open.
+     *
+     * @throws UncheckedIOException if the input cannot be closed
+     */
+    @Override
+    public void close() {
+        if (lines == null) return;
+        try {
+            lines.close();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        } finally {
+            lines = null;
+        }
+    }
+
+    private String lineCountKey() {
+        return name + ".lineCount";
+    }
+
+    private void openSource() throws IOException {
+        Reader reader = source.open();
+        lines = reader instanceof BufferedReader buffered ? buffered : new BufferedReader(reader);
+        if (hasHeader) {
+            String header = nextLine();
+            if (header != null) names = tokenizer.tokenize(header);
+        }
+    }
+
+    private String nextLine() throws IOException {
+        String line;
+        do {
+            line = lines.readLine();
+            if (line == null) return null;
+            lineCount++;
+        } while (line.isBlank());
+        return line;
+    }
+}
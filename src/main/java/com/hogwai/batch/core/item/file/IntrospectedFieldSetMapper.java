@@ -0,0 +1,138 @@
+package com.hogwai.batch.core.item.file;
+
+import io.micronaut.core.beans.BeanIntrospection;
+import io.micronaut.core.beans.BeanProperty;
+import io.micronaut.core.convert.ConversionService;
+import io.micronaut.core.type.Argument;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * {@link FieldSetMapper} that binds columns to the constructor arguments and writable properties
+ * of an {@link io.micronaut.core.annotation.Introspected @Introspected} type, matched by name.
+ * <p>
+ * The bean metadata is generated at compile time, so no reflection is involved and the mapper
+ * works in a GraalVM native image without extra configuration. Properties and column indices
+ * are resolved once; each record then only instantiates the bean and sets its values.
+ * {@code String} values are set as is, others are converted with the shared
+ * {@link ConversionService}. Columns without a matching property are ignored.
+ *
+ * @param <T> the type of items produced
+ */
+public class IntrospectedFieldSetMapper<T> implements FieldSetMapper<T> {
+
+    private final BeanIntrospection<T> introspection;
+    private final Argument<?>[] arguments;
+    private final List<BeanProperty<T, Object>> properties;
+    private final boolean[] stringProperties;
+    private final String[] columns;
+    private volatile Binding binding;
+
+    private record Binding(String[] names, int[] argumentIndices, int[] propertyIndices) {}
+
+    /**
+     * Creates a mapper that binds columns by the header names of the file.
+     *
+     * @param type the introspected target type
+     * @throws io.micronaut.core.beans.exceptions.IntrospectionException if the type is not introspected
+     */
+    public IntrospectedFieldSetMapper(Class<T> type) {
+        this(type, (String[]) null);
+    }
+
+    /**
+     * Creates a mapper that binds columns by position, for files without a header.
+     *
+     * @param type    the introspected target type
+     * @param columns the property name of each column, in field order
+     * @throws io.micronaut.core.beans.exceptions.IntrospectionException if the type is not introspected
+     */
+    public IntrospectedFieldSetMapper(Class<T> type, String... columns) {
+        this.introspection = BeanIntrospection.getIntrospection(type);
+        this.arguments = introspection.getConstructorArguments();
+        this.columns = columns;
+        this.properties = new ArrayList<>();
+        for (BeanProperty<T, Object> property : introspection.getBeanProperties()) {
+            if (!property.isReadOnly() && !isConstructorArgument(property.getName())) {
+                properties.add(property);
+            }
+        }
+        this.stringProperties = new boolean[properties.size()];
+        for (int i = 0; i < stringProperties.length; i++) {
+            stringProperties[i] = String.class.equals(properties.get(i).getType());
+        }
+        if (columns != null) {
+            binding = bind(columns);
+        }
+    }
+
+    /**
+     * Instantiates the target type and fills it from the given record.
+     *
+     * @param fieldSet the tokenized record
+     * @return the populated bean
+     * @throws IllegalStateException if no column names are configured and the file has no header
+     */
+    @Override
+    public T mapFieldSet(FieldSet fieldSet) {
+        Binding current = binding;
+        if (current == null || columns == null && current.names() != fieldSet.getNames()) {
+            String[] names = fieldSet.getNames();
+            if (names == null) {
+                throw new IllegalStateException("Column names are required to map " + introspection.getBeanType().getName());
+            }
+            binding = current = bind(names);
+        }
+
+        T bean;
+        if (arguments.length == 0) {
+            bean = introspection.instantiate();
+        } else {
+            Object[] values = new Object[arguments.length];
+            for (int i = 0; i < arguments.length; i++) {
+                int index = current.argumentIndices()[i];
+                if (index >= 0) values[i] = convert(fieldSet.readString(index), arguments[i]);
+            }
+            bean = introspection.instantiate(values);
+        }
+
+        for (int i = 0; i < properties.size(); i++) {
+            int index = current.propertyIndices()[i];
+            if (index < 0) continue;
+            BeanProperty<T, Object> property = properties.get(i);
+            String value = fieldSet.readString(index);
+            if (stringProperties[i]) {
+                property.set(bean, value);
+            } else {
+                property.convertAndSet(bean, value);
+            }
+        }
+        return bean;
+    }
+
+    private Binding bind(String[] names) {
+        List<String> columnNames = Arrays.asList(names);
+        int[] argumentIndices = new int[arguments.length];
+        for (int i = 0; i < arguments.length; i++) {
+            argumentIndices[i] = columnNames.indexOf(arguments[i].getName());
+        }
+        int[] propertyIndices = new int[properties.size()];
+        for (int i = 0; i < propertyIndices.length; i++) {
+            propertyIndices[i] = columnNames.indexOf(properties.get(i).getName());
+        }
+        return new Binding(names, argumentIndices, propertyIndices);
+    }
+
+    private boolean isConstructorArgument(String name) {
+        for (Argument<?> argument : arguments) {
+            if (argument.getName().equals(name)) return true;
+        }
+        return false;
+    }
+
+    private static Object convert(String value, Argument<?> argument) {
+        return String.class.equals(argument.getType()) ? value : ConversionService.SHARED.convertRequired(value, argument);
+    }
+}
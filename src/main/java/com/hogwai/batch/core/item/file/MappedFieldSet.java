@@ -0,0 +1,122 @@
+package com.hogwai.batch.core.item.file;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.Charset;
+import java.util.Arrays;
+
+/**
+ * {@link FieldSet} over a line of a mapped file. Only field offsets are recorded; the bytes of a
+ * field are decoded when it is read, and numbers are parsed straight from the bytes.
+ * An instance is reused for every line, so it is only valid during the mapping of that line.
+ */
+final class MappedFieldSet implements FieldSet {
+    private final Charset charset;
+    private final String[] names;
+    private ByteBuffer buffer;
+    private int[] starts = new int[16];
+    private int[] ends = new int[16];
+    private int count;
+
+    MappedFieldSet(Charset charset, String[] names) {
+        this.charset = charset;
+        this.names = names;
+    }
+
+    /**
+     * Records the fields of the line {@code [from, to)} of the given buffer.
+     */
+    void tokenize(ByteBuffer buffer, int from, int to, byte delimiter) {
+        this.buffer = buffer;
+        count = 0;
+        int start = from;
+        for (int i = from; i < to; i++) {
+            if (buffer.get(i) == delimiter) {
+                add(start, i);
+                start = i + 1;
+            }
+        }
+        add(start, to);
+    }
+
+    private void add(int start, int end) {
+        if (count == starts.length) {
+            starts = Arrays.copyOf(starts, count * 2);
+            ends = Arrays.copyOf(ends, count * 2);
+        }
+        starts[count] = start;
+        ends[count] = end;
+        count++;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public int getFieldCount() { return count; }
+
+    /** {@inheritDoc} */
+    @Override
+    public String[] getNames() { return names; }
+
+    /** {@inheritDoc} */
+    @Override
+    public String readString(int index) {
+        checkIndex(index);
+        byte[] bytes = new byte[ends[index] - starts[index]];
+        buffer.get(starts[index], bytes);
+        return new String(bytes, charset);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public String readString(String name) { return readString(indexOf(name)); }
+
+    /** {@inheritDoc} */
+    @Override
+    public int readInt(int index) {
+        long value = readLong(index);
+        if (value != (int) value) throw new NumberFormatException("Value out of int range: " + value);
+        return (int) value;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public int readInt(String name) { return readInt(indexOf(name)); }
+
+    /** {@inheritDoc} */
+    @Override
+    public long readLong(int index) {
+        checkIndex(index);
+        int pos = starts[index];
+        int end = ends[index];
+        boolean negative = pos < end && buffer.get(pos) == '-';
+        if (negative || pos < end && buffer.get(pos) == '+') pos++;
+        if (pos == end) throw new NumberFormatException("Not a number: \"" + readString(index) + "\"");
+        long value = 0;
+        try {
+            for (; pos < end; pos++) {
+                int digit = buffer.get(pos) - '0';
+                if (digit < 0 || digit > 9) throw new NumberFormatException("Not a number: \"" + readString(index) + "\"");
+                value = Math.addExact(Math.multiplyExact(value, 10), negative ? -digit : digit);
+            }
+        } catch (ArithmeticException e) {
+            throw new NumberFormatException("Value out of long range: " + readString(index));
+        }
+        return value;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public long readLong(String name) { return readLong(indexOf(name)); }
+
+    private void checkIndex(int index) {
+        if (index < 0 || index >= count) throw new IndexOutOfBoundsException("No field at index " + index);
+    }
+
+    private int indexOf(String name) {
+        if (names != null) {
+            for (int i = 0; i < names.length; i++) {
+                if (names[i].equals(name)) return i;
+            }
+        }
+        throw new IllegalArgumentException("No column named " + name);
+    }
+}
@@ -0,0 +1,247 @@
+package com.hogwai.batch.core.item.file;
+
+import com.hogwai.batch.core.ItemReader;
+import com.hogwai.batch.core.ItemStream;
+import com.hogwai.batch.core.runtime.ExecutionContext;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.Charset;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * {@link ItemReader} that memory-maps a delimited file and scans it for line and field delimiters
+ * directly in the mapped bytes. Only the fields the {@link FieldSetMapper} actually reads are
+ * decoded, and numeric fields are parsed without creating intermediate strings.
+ * <p>
+ * The file is mapped in windows, so files larger than 2 GB are supported as long as a single line
+ * fits in a window. A reader may be restricted to a {@link FileRange} so that several readers
+ * (e.g., the workers of a partitioned step) each read their own region of the same file.
+ * As an {@link ItemStream}, the reader saves its byte offset at every commit and, when reopened
+ * with that state, resumes from it directly.
+ * <p>
+ * Fields are split on every delimiter byte: quoted fields are not supported, use
+ * {@link FlatFileItemReader} for such files. The charset must encode the delimiter, carriage
+ * return, and line feed as single ASCII bytes (UTF-8, ISO-8859-1, ...). Blank lines are ignored.
+ * This reader is not thread-safe.
+ *
+ * @param <T> the type of items produced
+ * @see FileRange#split(Path, int)
+ * @see FileRangePartitioner
+ */
+public class MappedFileItemReader<T> implements ItemReader<T>, ItemStream, AutoCloseable {
+
+    private static final long DEFAULT_WINDOW_SIZE = 1L << 28;
+
+    private final Path path;
+    private final Charset charset;
+    private final byte delimiter;
+    private final FieldSetMapper<T> fieldSetMapper;
+    private final boolean hasHeader;
+    private final FileRange range;
+    private final long windowSize;
+    private FileChannel channel;
+    private MappedByteBuffer window;
+    private long windowStart;
+    private long fileSize;
+    private long position;
+    private long end;
+    private MappedFieldSet fieldSet;
+    private boolean exhausted;
+    private String name = "MappedFileItemReader";
+
+    /**
+     * Creates a reader over a whole file.
+     *
+     * @param path           the file to read
+     * @param charset        the file encoding
+     * @param delimiter      the field delimiter, an ASCII character
+     * @param fieldSetMapper maps fields to items
+     * @param hasHeader      whether the first line holds the column names
+     */
+    public MappedFileItemReader(Path path, Charset charset, char delimiter,
+                                FieldSetMapper<T> fieldSetMapper, boolean hasHeader) {
+        this(path, charset, delimiter, fieldSetMapper, hasHeader, null);
+    }
+
+    /**
+     * Creates a reader over a region of a file. The header, if any, is always read from the start
+     * of the file so that column names are available to every region.
+     *
+     * @param path           the file to read
+     * @param charset        the file encoding
+     * @param delimiter      the field delimiter, an ASCII character
+     * @param fieldSetMapper maps fields to items
+     * @param hasHeader      whether the first line holds the column names
+     * @param range          the region to read, starting at a line boundary, or {@code null} for the whole file
+     * @throws IllegalArgumentException if the delimiter is not an ASCII character
+     */
+    public MappedFileItemReader(Path path, Charset charset, char delimiter,
+                                FieldSetMapper<T> fieldSetMapper, boolean hasHeader, FileRange range) {
+        this(path, charset, delimiter, fieldSetMapper, hasHeader, range, DEFAULT_WINDOW_SIZE);
+    }
+
+    MappedFileItemReader(Path path, Charset charset, char delimiter, FieldSetMapper<T> fieldSetMapper,
+                         boolean hasHeader, FileRange range, long windowSize) {
+        if (delimiter > 0x7F) throw new IllegalArgumentException("delimiter must be an ASCII character");
+        this.path = path;
+        this.charset = charset;
+        this.delimiter = (byte) delimiter;
+        this.fieldSetMapper = fieldSetMapper;
+        this.hasHeader = hasHeader;
+        this.range = range;
+        this.windowSize = windowSize;
+    }
+
+    /**
+     * Sets the name prefixing the keys under which the reader state is saved, to be set when a step
+     * has several readers of this type.
+     *
+     * @param name the state key prefix, {@code MappedFileItemReader} by default
+     */
+    public void setName(String name) {
+        this.name = name;
+    }
+
+    /**
+     * Opens the file and moves to the offset saved in the given context, if any, or to the start of
+     * the range otherwise.
+     *
+     * @param executionContext the step execution context
+     * @throws UncheckedIOException if the file cannot be opened
+     */
+    @Override
+    public void open(ExecutionContext executionContext) {
+        close();
+        exhausted = false;
+        try {
+            open();
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to open " + path, e);
+        }
+        Long savedPosition = executionContext.getLong(positionKey());
+        if (savedPosition != null && savedPosition > position) {
+            position = savedPosition;
+        }
+    }
+
+    /**
+     * Saves the offset of the next line to read.
+     *
+     * @param executionContext the step execution context
+     */
+    @Override
+    public void update(ExecutionContext executionContext) {
+        executionContext.putLong(positionKey(), position);
+    }
+
+    /**
+     * Reads and maps the next record of the file or range.
+     *
+     * @return the next item, or {@code null} once the file or range is exhausted
+     * @throws UncheckedIOException  if the file cannot be read
+     * @throws IllegalStateException if a line does not fit in a mapping window
+     */
+    @Override
+    public T read() {
+        if (exhausted) return null;
+        try {
+            if (channel == null) open();
+            while (position < end) {
+                if (nextLine()) {
+                    return fieldSetMapper.mapFieldSet(fieldSet);
+                }
+            }
+            close();
+            exhausted = true;
+            return null;
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to read " + path + " at offset " + position, e);
+        }
+    }
+
+    /**
+     * Returns the offset of the next line to read.
+     *
+     * @return the current byte offset in the file
+     */
+    public long getPosition() { return position; }
+
+    /**
+     * Closes the file if it is open. Mapped windows are released by the garbage collector.
+     *
+     * @throws UncheckedIOException if the file cannot be closed
+     */
+    @Override
+    public void close() {
+        if (channel == null) return;
+        try {
+            channel.close();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        } finally {
+            channel = null;
+            window = null;
+        }
+    }
+
+    private String positionKey() {
+        return name + ".position";
+    }
+
+    private void open() throws IOException {
+        channel = FileChannel.open(path, StandardOpenOption.READ);
+        fileSize = channel.size();
+        end = range != null ? Math.min(range.end(), fileSize) : fileSize;
+        position = 0;
+        String[] names = null;
+        if (hasHeader) {
+            fieldSet = new MappedFieldSet(charset, null);
+            if (fileSize > 0 && nextLine()) {
+                names = new String[fieldSet.getFieldCount()];
+                for (int i = 0; i < names.length; i++) names[i] = fieldSet.readString(i);
+            }
+        }
+        if (range != null && range.start() > position) {
+            position = range.start();
+        }
+        fieldSet = new MappedFieldSet(charset, names);
+    }
+
+    /**
+     * Tokenizes the line at the current position into the field set and moves past it.
+     *
+     * @return {@code false} if the line was blank
+     */
+    private boolean nextLine() throws IOException {
+        while (true) {
+            if (window == null || position < windowStart || position >= windowStart + window.limit()) {
+                remap();
+            }
+            int from = (int) (position - windowStart);
+            int limit = window.limit();
+            int newline = from;
+            while (newline < limit && window.get(newline) != '\n') newline++;
+
+            boolean endOfFile = windowStart + limit == fileSize;
+            if (newline == limit && !endOfFile) {
+                if (from == 0) throw new IllegalStateException("Line at offset " + position + " exceeds the mapping window");
+                remap();
+                continue;
+            }
+            position = windowStart + Math.min(newline + 1, limit);
+            int to = newline > from && window.get(newline - 1) == '\r' ? newline - 1 : newline;
+            if (to == from) return false;
+            fieldSet.tokenize(window, from, to, delimiter);
+            return true;
+        }
+    }
+
+    private void remap() throws IOException {
+        windowStart = position;
+        window = channel.map(FileChannel.MapMode.READ_ONLY, position, Math.min(windowSize, fileSize - position));
+    }
+}
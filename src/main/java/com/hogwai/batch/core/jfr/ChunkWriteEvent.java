@@ -0,0 +1,52 @@
+package com.hogwai.batch.core.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * JFR event spanning the write and commit of a chunk, including write retries and scans in
+ * fault-tolerant steps.
+ */
+@Name("com.hogwai.batch.ChunkWrite")
+@Label("Chunk Write")
+@Category({"Batch"})
+@Description("Write and commit of a chunk of items")
+public final class ChunkWriteEvent extends Event {
+
+    @Label("Step Name")
+    private String stepName;
+
+    @Label("Item Count")
+    @Description("Number of items in the chunk")
+    private int itemCount;
+
+    @Label("Write Count")
+    @Description("Number of items written")
+    private long writeCount;
+
+    @Label("Skip Count")
+    @Description("Number of items skipped because their write failed")
+    private long skipCount;
+
+    @Label("Failed Writes")
+    @Description("Number of failed writer calls, retried or followed by a scan of the chunk")
+    private long failedWrites;
+
+    /** @param stepName the step name to set */
+    public void setStepName(String stepName) { this.stepName = stepName; }
+
+    /** @param itemCount the item count to set */
+    public void setItemCount(int itemCount) { this.itemCount = itemCount; }
+
+    /** @param writeCount the write count to set */
+    public void setWriteCount(long writeCount) { this.writeCount = writeCount; }
+
+    /** @param skipCount the skip count to set */
+    public void setSkipCount(long skipCount) { this.skipCount = skipCount; }
+
+    /** @param failedWrites the number of failed writer calls to set */
+    public void setFailedWrites(long failedWrites) { this.failedWrites = failedWrites; }
+}
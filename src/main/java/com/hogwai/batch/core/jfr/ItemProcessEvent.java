@@ -0,0 +1,33 @@
+package com.hogwai.batch.core.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.Threshold;
+
+/**
+ * JFR event spanning the processing of an item, including its retries in fault-tolerant steps.
+ * Only processing lasting longer than the event threshold, 10 ms by default, is recorded.
+ */
+@Name("com.hogwai.batch.ItemProcess")
+@Label("Item Process")
+@Category({"Batch"})
+@Description("Item processing lasting longer than the threshold")
+@Threshold("10 ms")
+public final class ItemProcessEvent extends Event {
+
+    @Label("Step Name")
+    private String stepName;
+
+    @Label("Attempts")
+    @Description("Number of processor calls, more than one when the item was retried")
+    private int attempts;
+
+    /** @param stepName the step name to set */
+    public void setStepName(String stepName) { this.stepName = stepName; }
+
+    /** @param attempts the number of processor calls to set */
+    public void setAttempts(int attempts) { this.attempts = attempts; }
+}
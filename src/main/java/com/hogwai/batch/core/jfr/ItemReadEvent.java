@@ -0,0 +1,26 @@
+package com.hogwai.batch.core.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.Threshold;
+
+/**
+ * JFR event spanning a reader call. Only calls lasting longer than the event threshold, 10 ms by
+ * default, are recorded.
+ */
+@Name("com.hogwai.batch.ItemRead")
+@Label("Item Read")
+@Category({"Batch"})
+@Description("Reader call lasting longer than the threshold")
+@Threshold("10 ms")
+public final class ItemReadEvent extends Event {
+
+    @Label("Step Name")
+    private String stepName;
+
+    /** @param stepName the step name to set */
+    public void setStepName(String stepName) { this.stepName = stepName; }
+}
@@ -0,0 +1,42 @@
+package com.hogwai.batch.core.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * JFR event spanning the execution of a job by the job launcher.
+ */
+@Name("com.hogwai.batch.JobExecution")
+@Label("Job Execution")
+@Category({"Batch"})
+@Description("Execution of a batch job")
+public final class JobExecutionEvent extends Event {
+
+    @Label("Job Name")
+    private String jobName;
+
+    @Label("Job Execution Id")
+    private long jobExecutionId;
+
+    @Label("Restart")
+    @Description("Whether the execution restarts a failed or stopped execution")
+    private boolean restart;
+
+    @Label("Status")
+    private String status;
+
+    /** @param jobName the job name to set */
+    public void setJobName(String jobName) { this.jobName = jobName; }
+
+    /** @param jobExecutionId the job execution id to set */
+    public void setJobExecutionId(long jobExecutionId) { this.jobExecutionId = jobExecutionId; }
+
+    /** @param restart whether the execution restarts a previous one */
+    public void setRestart(boolean restart) { this.restart = restart; }
+
+    /** @param status the status to set */
+    public void setStatus(String status) { this.status = status; }
+}
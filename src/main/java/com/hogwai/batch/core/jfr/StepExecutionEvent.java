@@ -0,0 +1,77 @@
+package com.hogwai.batch.core.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * JFR event spanning the execution of a step, with its final item counts.
+ */
+@Name("com.hogwai.batch.StepExecution")
+@Label("Step Execution")
+@Category({"Batch"})
+@Description("Execution of a batch step")
+public final class StepExecutionEvent extends Event {
+
+    @Label("Job Name")
+    private String jobName;
+
+    @Label("Step Name")
+    private String stepName;
+
+    @Label("Step Execution Id")
+    private long stepExecutionId;
+
+    @Label("Status")
+    private String status;
+
+    @Label("Read Count")
+    private long readCount;
+
+    @Label("Write Count")
+    private long writeCount;
+
+    @Label("Filter Count")
+    private long filterCount;
+
+    @Label("Skip Count")
+    private long skipCount;
+
+    @Label("Commit Count")
+    private long commitCount;
+
+    @Label("Rollback Count")
+    private long rollbackCount;
+
+    /** @param jobName the job name to set */
+    public void setJobName(String jobName) { this.jobName = jobName; }
+
+    /** @param stepName the step name to set */
+    public void setStepName(String stepName) { this.stepName = stepName; }
+
+    /** @param stepExecutionId the step execution id to set */
+    public void setStepExecutionId(long stepExecutionId) { this.stepExecutionId = stepExecutionId; }
+
+    /** @param status the status to set */
+    public void setStatus(String status) { this.status = status; }
+
+    /** @param readCount the read count to set */
+    public void setReadCount(long readCount) { this.readCount = readCount; }
+
+    /** @param writeCount the write count to set */
+    public void setWriteCount(long writeCount) { this.writeCount = writeCount; }
+
+    /** @param filterCount the filter count to set */
+    public void setFilterCount(long filterCount) { this.filterCount = filterCount; }
+
+    /** @param skipCount the skip count to set */
+    public void setSkipCount(long skipCount) { this.skipCount = skipCount; }
+
+    /** @param commitCount the commit count to set */
+    public void setCommitCount(long commitCount) { this.commitCount = commitCount; }
+
+    /** @param rollbackCount the rollback count to set */
+    public void setRollbackCount(long rollbackCount) { this.rollbackCount = rollbackCount; }
+}
@@ -0,0 +1,36 @@
+package com.hogwai.batch.core.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * JFR event spanning a single call of a tasklet.
+ */
+@Name("com.hogwai.batch.Tasklet")
+@Label("Tasklet")
+@Category({"Batch"})
+@Description("Call of a tasklet")
+public final class TaskletEvent extends Event {
+
+    @Label("Step Name")
+    private String stepName;
+
+    @Label("Iteration")
+    @Description("Number of the call within the step execution, starting at 1")
+    private int iteration;
+
+    @Label("Repeat Status")
+    private String repeatStatus;
+
+    /** @param stepName the step name to set */
+    public void setStepName(String stepName) { this.stepName = stepName; }
+
+    /** @param iteration the iteration to set */
+    public void setIteration(int iteration) { this.iteration = iteration; }
+
+    /** @param repeatStatus the repeat status to set */
+    public void setRepeatStatus(String repeatStatus) { this.repeatStatus = repeatStatus; }
+}
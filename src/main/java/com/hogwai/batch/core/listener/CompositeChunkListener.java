@@ -0,0 +1,49 @@
+package com.hogwai.batch.core.listener;
+
+import java.util.List;
+
+/**
+ * {@link ChunkListener} that notifies a fixed set of listeners in registration order. The listeners
+ * are held in an array, so a notification allocates nothing.
+ */
+public final class CompositeChunkListener implements ChunkListener {
+
+    private static final ChunkListener NO_OP = new ChunkListener() {};
+
+    private final ChunkListener[] listeners;
+
+    private CompositeChunkListener(List<? extends ChunkListener> listeners) {
+        this.listeners = listeners.toArray(new ChunkListener[0]);
+    }
+
+    /**
+     * Returns a listener notifying the given listeners: a shared no-op listener if there are none,
+     * the listener itself if there is only one, a composite otherwise.
+     *
+     * @param listeners the listeners to notify
+     * @return the listener to call
+     */
+    public static ChunkListener of(List<? extends ChunkListener> listeners) {
+        if (listeners.isEmpty()) return NO_OP;
+        if (listeners.size() == 1) return listeners.get(0);
+        return new CompositeChunkListener(listeners);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public void beforeChunk() {
+        for (ChunkListener listener : listeners) listener.beforeChunk();
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public void afterChunk() {
+        for (ChunkListener listener : listeners) listener.afterChunk();
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public void afterChunkError(Exception exception) {
+        for (ChunkListener listener : listeners) listener.afterChunkError(exception);
+    }
+}
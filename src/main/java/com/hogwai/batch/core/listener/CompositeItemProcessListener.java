@@ -0,0 +1,56 @@
+package com.hogwai.batch.core.listener;
+
+import java.util.List;
+
+/**
+ * {@link ItemProcessListener} that notifies a fixed set of listeners in registration order. The
+ * listeners are held in an array, so a notification allocates nothing.
+ *
+ * @param <I> the input item type
+ * @param <O> the output item type after processing
+ */
+public final class CompositeItemProcessListener<I, O> implements ItemProcessListener<I, O> {
+
+    private static final ItemProcessListener<?, ?> NO_OP = new ItemProcessListener<>() {};
+
+    private final ItemProcessListener<I, O>[] listeners;
+
+    @SuppressWarnings("unchecked")
+    private CompositeItemProcessListener(List<? extends ItemProcessListener<I, O>> listeners) {
+        this.listeners = listeners.toArray(new ItemProcessListener[0]);
+    }
+
+    /**
+     * Returns a listener notifying the given listeners: a shared no-op listener if there are none,
+     * the listener itself if there is only one, a composite otherwise.
+     *
+     * @param listeners the listeners to notify
+     * @param <I>       the input item type
+     * @param <O>       the output item type after processing
+     * @return the listener to call
+     */
+    @SuppressWarnings("unchecked")
+    public static <I, O> ItemProcessListener<I, O> of(List<? extends ItemProcessListener<I, O>> listeners) {
+        if (listeners.isEmpty()) return (ItemProcessListener<I, O>) NO_OP;
+        if (listeners.size() == 1) return listeners.get(0);
+        return new CompositeItemProcessListener<>(listeners);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public void beforeProcess(I item) {
+        for (ItemProcessListener<I, O> listener : listeners) listener.beforeProcess(item);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public void afterProcess(I item, O result) {
+        for (ItemProcessListener<I, O> listener : listeners) listener.afterProcess(item, result);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public void onProcessError(I item, Exception exception) {
+        for (ItemProcessListener<I, O> listener : listeners) listener.onProcessError(item, exception);
+    }
+}
@@ -0,0 +1,54 @@
+package com.hogwai.batch.core.listener;
+
+import java.util.List;
+
+/**
+ * {@link ItemReadListener} that notifies a fixed set of listeners in registration order. The
+ * listeners are held in an array, so a notification allocates nothing.
+ *
+ * @param <T> the type of item being read
+ */
+public final class CompositeItemReadListener<T> implements ItemReadListener<T> {
+
+    private static final ItemReadListener<?> NO_OP = new ItemReadListener<>() {};
+
+    private final ItemReadListener<T>[] listeners;
+
+    @SuppressWarnings("unchecked")
+    private CompositeItemReadListener(List<? extends ItemReadListener<T>> listeners) {
+        this.listeners = listeners.toArray(new ItemReadListener[0]);
+    }
+
+    /**
+     * Returns a listener notifying the given listeners: a shared no-op listener if there are none,
+     * the listener itself if there is only one, a composite otherwise.
+     *
+     * @param listeners the listeners to notify
+     * @param <T>       the type of item being read
+     * @return the listener to call
+     */
+    @SuppressWarnings("unchecked")
+    public static <T> ItemReadListener<T> of(List<? extends ItemReadListener<T>> listeners) {
+        if (listeners.isEmpty()) return (ItemReadListener<T>) NO_OP;
+        if (listeners.size() == 1) return listeners.get(0);
+        return new CompositeItemReadListener<>(listeners);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public void beforeRead() {
+        for (ItemReadListener<T> listener : listeners) listener.beforeRead();
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public void afterRead(T item) {
+        for (ItemReadListener<T> listener : listeners) listener.afterRead(item);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public void onReadError(Exception exception) {
+        for (ItemReadListener<T> listener : listeners) listener.onReadError(exception);
+    }
+}
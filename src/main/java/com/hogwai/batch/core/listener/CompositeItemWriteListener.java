@@ -0,0 +1,54 @@
+package com.hogwai.batch.core.listener;
+
+import java.util.List;
+
+/**
+ * {@link ItemWriteListener} that notifies a fixed set of listeners in registration order. The
+ * listeners are held in an array, so a notification allocates nothing.
+ *
+ * @param <O> the type of items being written
+ */
+public final class CompositeItemWriteListener<O> implements ItemWriteListener<O> {
+
+    private static final ItemWriteListener<?> NO_OP = new ItemWriteListener<>() {};
+
+    private final ItemWriteListener<O>[] listeners;
+
+    @SuppressWarnings("unchecked")
+    private CompositeItemWriteListener(List<? extends ItemWriteListener<O>> listeners) {
+        this.listeners = listeners.toArray(new ItemWriteListener[0]);
+    }
+
+    /**
+     * Returns a listener notifying the given listeners: a shared no-op listener if there are none,
+     * the listener itself if there is only one, a composite otherwise.
+     *
+     * @param listeners the listeners to notify
+     * @param <O>       the type of items being written
+     * @return the listener to call
+     */
+    @SuppressWarnings("unchecked")
+    public static <O> ItemWriteListener<O> of(List<? extends ItemWriteListener<O>> listeners) {
+        if (listeners.isEmpty()) return (ItemWriteListener<O>) NO_OP;
+        if (listeners.size() == 1) return listeners.get(0);
+        return new CompositeItemWriteListener<>(listeners);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public void beforeWrite(List<O> items) {
+        for (ItemWriteListener<O> listener : listeners) listener.beforeWrite(items);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public void afterWrite(List<O> items) {
+        for (ItemWriteListener<O> listener : listeners) listener.afterWrite(items);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public void onWriteError(List<O> items, Exception exception) {
+        for (ItemWriteListener<O> listener : listeners) listener.onWriteError(items, exception);
+    }
+}
@@ -0,0 +1,56 @@
+package com.hogwai.batch.core.listener;
+
+import java.util.List;
+
+/**
+ * {@link SkipListener} that notifies a fixed set of listeners in registration order. The listeners
+ * are held in an array, so a notification allocates nothing.
+ *
+ * @param <T> the input item type (used during read and process skips)
+ * @param <S> the output item type (used during write skips)
+ */
+public final class CompositeSkipListener<T, S> implements SkipListener<T, S> {
+
+    private static final SkipListener<?, ?> NO_OP = new SkipListener<>() {};
+
+    private final SkipListener<T, S>[] listeners;
+
+    @SuppressWarnings("unchecked")
+    private CompositeSkipListener(List<? extends SkipListener<T, S>> listeners) {
+        this.listeners = listeners.toArray(new SkipListener[0]);
+    }
+
+    /**
+     * Returns a listener notifying the given listeners: a shared no-op listener if there are none,
+     * the listener itself if there is only one, a composite otherwise.
+     *
+     * @param listeners the listeners to notify
+     * @param <T>       the input item type
+     * @param <S>       the output item type
+     * @return the listener to call
+     */
+    @SuppressWarnings("unchecked")
+    public static <T, S> SkipListener<T, S> of(List<? extends SkipListener<T, S>> listeners) {
+        if (listeners.isEmpty()) return (SkipListener<T, S>) NO_OP;
+        if (listeners.size() == 1) return listeners.get(0);
+        return new CompositeSkipListener<>(listeners);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public void onSkipInRead(Throwable t) {
+        for (SkipListener<T, S> listener : listeners) listener.onSkipInRead(t);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public void onSkipInProcess(T item, Throwable t) {
+        for (SkipListener<T, S> listener : listeners) listener.onSkipInProcess(item, t);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public void onSkipInWrite(S item, Throwable t) {
+        for (SkipListener<T, S> listener : listeners) listener.onSkipInWrite(item, t);
+    }
+}
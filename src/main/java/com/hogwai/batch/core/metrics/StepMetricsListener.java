@@ -0,0 +1,166 @@
+package com.hogwai.batch.core.metrics;
+
+import com.hogwai.batch.core.listener.SkipListener;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.Timer;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Publishes the progress of a chunk step to a Micrometer {@link MeterRegistry} while it runs:
+ * <ul>
+ *     <li>counters {@value #ITEMS_READ}, {@value #ITEMS_PROCESSED}, {@value #ITEMS_FILTERED},
+ *     {@value #ITEMS_WRITTEN}, and {@value #ITEMS_SKIPPED} (tagged by {@code phase});</li>
+ *     <li>timers {@value #READ}, {@value #PROCESS}, {@value #WRITE} (a single writer call), and
+ *     {@value #CHUNK} (the write and commit of a chunk), with percentile histograms.</li>
+ * </ul>
+ * Meters are registered once, when the listener is created, with the tags it is given. Failed
+ * operations are not timed.
+ * <p>
+ * The listener is created by {@code StepBuilder.ChunkStepBuilder.metrics(MeterRegistry)}, which tags
+ * the meters with the {@code step} name. The step measures the start time of each operation on the
+ * thread running it and passes it to the matching {@code record} method, so one listener may serve
+ * the concurrent, virtual-thread, and pipelined modes, and the partitions of a shared worker step,
+ * without keeping any per-thread state. Skips are counted as a {@link SkipListener}.
+ *
+ * @param <I> the input item type
+ * @param <O> the output item type
+ */
+public class StepMetricsListener<I, O> implements SkipListener<I, O> {
+
+    /** Counter of items read. */
+    public static final String ITEMS_READ = "batch.items.read";
+    /** Counter of items processed, including the filtered ones. */
+    public static final String ITEMS_PROCESSED = "batch.items.processed";
+    /** Counter of items filtered out by the processor. */
+    public static final String ITEMS_FILTERED = "batch.items.filtered";
+    /** Counter of items written. */
+    public static final String ITEMS_WRITTEN = "batch.items.written";
+    /** Counter of items skipped, tagged by {@code phase}: {@code read}, {@code process}, or {@code write}. */
+    public static final String ITEMS_SKIPPED = "batch.items.skipped";
+    /** Timer of reader calls. */
+    public static final String READ = "batch.read";
+    /** Timer of processor calls. */
+    public static final String PROCESS = "batch.process";
+    /** Timer of writer calls. */
+    public static final String WRITE = "batch.write";
+    /** Timer of chunks, from the start of their write to their commit. */
+    public static final String CHUNK = "batch.chunk";
+
+    private final MeterRegistry meterRegistry;
+    private final Counter itemsRead;
+    private final Counter itemsProcessed;
+    private final Counter itemsFiltered;
+    private final Counter itemsWritten;
+    private final Counter itemsSkippedInRead;
+    private final Counter itemsSkippedInProcess;
+    private final Counter itemsSkippedInWrite;
+    private final Timer readTimer;
+    private final Timer processTimer;
+    private final Timer writeTimer;
+    private final Timer chunkTimer;
+
+    /**
+     * Creates a listener and registers its meters with the given registry.
+     *
+     * @param meterRegistry the registry the meters are registered with
+     * @param tags          the tags of every meter, typically the {@code step} name
+     */
+    public StepMetricsListener(MeterRegistry meterRegistry, Tags tags) {
+        this.meterRegistry = meterRegistry;
+        this.itemsRead = counter(ITEMS_READ, "Items read", tags);
+        this.itemsProcessed = counter(ITEMS_PROCESSED, "Items processed", tags);
+        this.itemsFiltered = counter(ITEMS_FILTERED, "Items filtered out by the processor", tags);
+        this.itemsWritten = counter(ITEMS_WRITTEN, "Items written", tags);
+        this.itemsSkippedInRead = counter(ITEMS_SKIPPED, "Items skipped", tags.and("phase", "read"));
+        this.itemsSkippedInProcess = counter(ITEMS_SKIPPED, "Items skipped", tags.and("phase", "process"));
+        this.itemsSkippedInWrite = counter(ITEMS_SKIPPED, "Items skipped", tags.and("phase", "write"));
+        this.readTimer = timer(READ, "Reader call duration", tags);
+        this.processTimer = timer(PROCESS, "Processor call duration", tags);
+        this.writeTimer = timer(WRITE, "Writer call duration", tags);
+        this.chunkTimer = timer(CHUNK, "Chunk write and commit duration", tags);
+    }
+
+    /**
+     * Records a reader call that returned an item.
+     *
+     * @param startNanos the {@link System#nanoTime()} at which the call started
+     */
+    public void recordRead(long startNanos) {
+        readTimer.record(System.nanoTime() - startNanos, TimeUnit.NANOSECONDS);
+        itemsRead.increment();
+    }
+
+    /**
+     * Records a processor call.
+     *
+     * @param startNanos the {@link System#nanoTime()} at which the call started
+     * @param filtered   {@code true} if the processor filtered the item out
+     */
+    public void recordProcess(long startNanos, boolean filtered) {
+        processTimer.record(System.nanoTime() - startNanos, TimeUnit.NANOSECONDS);
+        itemsProcessed.increment();
+        if (filtered) itemsFiltered.increment();
+    }
+
+    /**
+     * Records a batch processor call, timed once for the whole batch.
+     *
+     * @param startNanos the {@link System#nanoTime()} at which the call started
+     * @param items      the number of items processed
+     * @param filtered   the number of items filtered out
+     */
+    public void recordBatchProcess(long startNanos, int items, int filtered) {
+        processTimer.record(System.nanoTime() - startNanos, TimeUnit.NANOSECONDS);
+        itemsProcessed.increment(items);
+        itemsFiltered.increment(filtered);
+    }
+
+    /**
+     * Records a writer call.
+     *
+     * @param startNanos the {@link System#nanoTime()} at which the call started
+     * @param written    the number of items written
+     */
+    public void recordWrite(long startNanos, int written) {
+        writeTimer.record(System.nanoTime() - startNanos, TimeUnit.NANOSECONDS);
+        itemsWritten.increment(written);
+    }
+
+    /**
+     * Records the write and commit of a chunk.
+     *
+     * @param startNanos the {@link System#nanoTime()} at which the chunk write started
+     */
+    public void recordChunk(long startNanos) {
+        chunkTimer.record(System.nanoTime() - startNanos, TimeUnit.NANOSECONDS);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public void onSkipInRead(Throwable t) {
+        itemsSkippedInRead.increment();
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public void onSkipInProcess(I item, Throwable t) {
+        itemsSkippedInProcess.increment();
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public void onSkipInWrite(O item, Throwable t) {
+        itemsSkippedInWrite.increment();
+    }
+
+    private Counter counter(String name, String description, Tags tags) {
+        return Counter.builder(name).description(description).tags(tags).register(meterRegistry);
+    }
+
+    private Timer timer(String name, String description, Tags tags) {
+        return Timer.builder(name).description(description).tags(tags).publishPercentileHistogram().register(meterRegistry);
+    }
+}
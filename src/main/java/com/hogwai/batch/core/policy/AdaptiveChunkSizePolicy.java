@@ -0,0 +1,85 @@
+package com.hogwai.batch.core.policy;
+
+import java.time.Duration;
+
+/**
+ * Commit-interval policy that sizes chunks so that writing and committing one takes about a target
+ * duration, as an alternative to a fixed chunk size.
+ * <p>
+ * After every chunk commit the step reports how many items it wrote and how long the write and
+ * commit took. The policy keeps a moving average of the time per item and sets the next chunk size
+ * to the number of items that fit in the target commit time, within the configured bounds. The
+ * size starts at the lower bound and at most doubles from one chunk to the next, while it shrinks
+ * at once when the writer slows down. As a {@link CompletionPolicy}, it completes each chunk once
+ * it holds the chunk size current when the chunk began. A single policy can be shared by the
+ * concurrent workers of a step, but not between steps.
+ */
+public class AdaptiveChunkSizePolicy implements CompletionPolicy {
+
+    /** Weight of the latest chunk in the moving average of the time per item. */
+    private static final double SMOOTHING = 0.3;
+
+    private final int minChunkSize;
+    private final int maxChunkSize;
+    private final long targetCommitNanos;
+    private double nanosPerItem;
+    private volatile int chunkSize;
+
+    /**
+     * Creates an adaptive policy.
+     *
+     * @param minChunkSize     the smallest chunk size, also used for the first chunk
+     * @param maxChunkSize     the largest chunk size
+     * @param targetCommitTime the time writing and committing a chunk should take
+     * @throws IllegalArgumentException if the bounds are not positive and ordered, or the target is not positive
+     */
+    public AdaptiveChunkSizePolicy(int minChunkSize, int maxChunkSize, Duration targetCommitTime) {
+        if (minChunkSize < 1 || maxChunkSize < minChunkSize) {
+            throw new IllegalArgumentException("chunk size bounds must satisfy 1 <= min <= max, got "
+                    + minChunkSize + " and " + maxChunkSize);
+        }
+        if (targetCommitTime.isNegative() || targetCommitTime.isZero()) {
+            throw new IllegalArgumentException("targetCommitTime must be positive, got " + targetCommitTime);
+        }
+        this.minChunkSize = minChunkSize;
+        this.maxChunkSize = maxChunkSize;
+        this.targetCommitNanos = targetCommitTime.toNanos();
+        this.chunkSize = minChunkSize;
+    }
+
+    /**
+     * Returns the number of items the next chunk should hold.
+     *
+     * @return the current chunk size, between the configured bounds
+     */
+    public int getChunkSize() {
+        return chunkSize;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public ChunkState start() {
+        return SimpleCompletionPolicy.countingTo(chunkSize);
+    }
+
+    /** @return the smallest chunk size */
+    public int getMinChunkSize() { return minChunkSize; }
+
+    /** @return the largest chunk size */
+    public int getMaxChunkSize() { return maxChunkSize; }
+
+    /**
+     * Records the write and commit of a chunk and adjusts the size of the next ones.
+     *
+     * @param itemCount   the number of items in the chunk
+     * @param commitNanos the time taken to write and commit it, in nanoseconds
+     */
+    public synchronized void chunkCommitted(int itemCount, long commitNanos) {
+        if (itemCount <= 0) return;
+        double sample = Math.max(commitNanos, 1L) / (double) itemCount;
+        nanosPerItem = nanosPerItem == 0 ? sample : SMOOTHING * sample + (1 - SMOOTHING) * nanosPerItem;
+        long fitting = (long) (targetCommitNanos / nanosPerItem);
+        long next = Math.min(fitting, 2L * chunkSize);
+        chunkSize = (int) Math.max(minChunkSize, Math.min(maxChunkSize, next));
+    }
+}
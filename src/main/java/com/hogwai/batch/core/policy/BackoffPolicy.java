@@ -1,5 +1,8 @@
 package com.hogwai.batch.core.policy;
 
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+
 /**
  * Defines a delay strategy between retry attempts.
  */
@@ -12,4 +15,24 @@ public interface BackoffPolicy {
      * @throws InterruptedException if the thread is interrupted while waiting
      */
     void backoff(int attemptCount) throws InterruptedException;
+
+    /**
+     * Schedules the delay before the next retry attempt without blocking the calling thread.
+     * <p>
+     * The default implementation runs {@link #backoff(int)} on a virtual thread. Policies with a
+     * computable delay should override it to complete the future from a timer instead.
+     *
+     * @param attemptCount the current attempt number (starting from 1)
+     * @return a future completed once the delay has elapsed
+     */
+    default CompletableFuture<Void> backoffAsync(int attemptCount) {
+        return CompletableFuture.runAsync(() -> {
+            try {
+                backoff(attemptCount);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new CompletionException(e);
+            }
+        }, task -> Thread.ofVirtual().start(task));
+    }
 }
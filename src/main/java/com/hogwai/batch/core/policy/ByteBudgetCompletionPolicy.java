@@ -0,0 +1,47 @@
+package com.hogwai.batch.core.policy;
+
+import java.util.function.ToLongFunction;
+
+/**
+ * Completion policy that completes a chunk once the estimated size of its items reaches a byte
+ * budget, bounding the memory held by chunks of large items.
+ * <p>
+ * The size of each item is given by an estimator, for instance the length of the record it was read
+ * from. The item that reaches the budget stays in the chunk, so a chunk may exceed the budget by at
+ * most one item.
+ */
+public class ByteBudgetCompletionPolicy implements CompletionPolicy {
+    private final long maxBytes;
+    private final ToLongFunction<Object> sizeEstimator;
+
+    /**
+     * Creates a completion policy with the given byte budget.
+     *
+     * @param maxBytes      the estimated size, in bytes, at which a chunk is complete
+     * @param sizeEstimator estimates the size of an item in bytes
+     * @throws IllegalArgumentException if {@code maxBytes} is not positive
+     */
+    public ByteBudgetCompletionPolicy(long maxBytes, ToLongFunction<Object> sizeEstimator) {
+        if (maxBytes < 1) throw new IllegalArgumentException("maxBytes must be positive, got " + maxBytes);
+        this.maxBytes = maxBytes;
+        this.sizeEstimator = sizeEstimator;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public ChunkState start() {
+        return new ChunkState() {
+            private long bytes;
+
+            @Override
+            public void update(Object item) {
+                bytes += sizeEstimator.applyAsLong(item);
+            }
+
+            @Override
+            public boolean isComplete() {
+                return bytes >= maxBytes;
+            }
+        };
+    }
+}
@@ -0,0 +1,17 @@
+package com.hogwai.batch.core.policy;
+
+/**
+ * Thrown instead of calling a processor or writer while its {@link CircuitBreakerPolicy} is open.
+ * Fault-tolerant steps neither retry nor skip it, so the step fails fast.
+ */
+public class CircuitBreakerOpenException extends RuntimeException {
+
+    /**
+     * Creates a new exception.
+     *
+     * @param message the detail message
+     */
+    public CircuitBreakerOpenException(String message) {
+        super(message);
+    }
+}
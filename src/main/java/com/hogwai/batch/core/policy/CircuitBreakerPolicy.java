@@ -0,0 +1,196 @@
+package com.hogwai.batch.core.policy;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.time.Duration;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Circuit breaker guarding the calls of a step to its processor and writer, so that a step stops
+ * calling a dependency that is down instead of retrying every item against it.
+ * <p>
+ * While {@link State#CLOSED closed}, the outcome of the last {@code windowSize} calls is recorded.
+ * Once the window is full and the share of failed calls reaches the failure rate threshold, the
+ * breaker {@link State#OPEN opens}: calls are rejected with a {@link CircuitBreakerOpenException},
+ * or wait while the breaker is open when {@link #setPauseWhenOpen pausing} is enabled. After the open
+ * duration the breaker is {@link State#HALF_OPEN half-open} and lets a single probe call through:
+ * it closes again if the probe succeeds, and opens for another open duration if it fails.
+ * <p>
+ * Only failures of the registered exception types are recorded as failures; other exceptions, such
+ * as validation errors of a single item, count as successful calls of a working dependency. If no
+ * type is registered, all exceptions are recorded. The breaker is thread-safe.
+ */
+public class CircuitBreakerPolicy {
+
+    private static final Logger LOG = LoggerFactory.getLogger(CircuitBreakerPolicy.class);
+
+    /**
+     * State of a circuit breaker.
+     */
+    public enum State {
+        /** Calls go through and their outcome is recorded. */
+        CLOSED,
+        /** Calls are rejected, or wait, until the open duration has elapsed. */
+        OPEN,
+        /** A single probe call goes through to decide whether to close or open again. */
+        HALF_OPEN
+    }
+
+    private final double failureRateThreshold;
+    private final long openNanos;
+    private final boolean[] window;
+    private final Set<Class<? extends Throwable>> recordedExceptions = new HashSet<>();
+    private boolean pauseWhenOpen;
+    private State state = State.CLOSED;
+    private int calls;
+    private int failures;
+    private int next;
+    private long openedAt;
+    private boolean probing;
+
+    /**
+     * Creates a closed circuit breaker.
+     *
+     * @param windowSize           the number of most recent calls the failure rate is computed on
+     * @param failureRateThreshold the share of failed calls, between {@code 0} exclusive and {@code 1}
+     *                             inclusive, at which the breaker opens
+     * @param openDuration         the time the breaker stays open before letting a probe call through
+     * @throws IllegalArgumentException if an argument is out of range
+     */
+    public CircuitBreakerPolicy(int windowSize, double failureRateThreshold, Duration openDuration) {
+        if (windowSize < 1) throw new IllegalArgumentException("windowSize must be positive, got " + windowSize);
+        if (failureRateThreshold <= 0 || failureRateThreshold > 1) {
+            throw new IllegalArgumentException("failureRateThreshold must be in (0, 1], got " + failureRateThreshold);
+        }
+        if (openDuration.isNegative() || openDuration.isZero()) {
+            throw new IllegalArgumentException("openDuration must be positive, got " + openDuration);
+        }
+        this.window = new boolean[windowSize];
+        this.failureRateThreshold = failureRateThreshold;
+        this.openNanos = openDuration.toNanos();
+    }
+
+    /**
+     * Registers an exception type whose occurrences are recorded as failures. Only registered types
+     * are recorded when at least one type is registered.
+     *
+     * @param exceptionClass the exception type to record
+     */
+    public void registerRecordedException(Class<? extends Throwable> exceptionClass) {
+        recordedExceptions.add(exceptionClass);
+    }
+
+    /**
+     * Makes calls wait while the breaker is open instead of failing, pausing the step until the
+     * dependency recovers.
+     *
+     * @param pauseWhenOpen {@code true} to wait, {@code false} to fail fast (the default)
+     */
+    public void setPauseWhenOpen(boolean pauseWhenOpen) {
+        this.pauseWhenOpen = pauseWhenOpen;
+    }
+
+    /**
+     * Returns the current state of the breaker.
+     *
+     * @return the state, moved to {@link State#HALF_OPEN} if the open duration has elapsed
+     */
+    public synchronized State getState() {
+        halfOpenIfElapsed();
+        return state;
+    }
+
+    /**
+     * Obtains the permission to make a call, to be followed by {@link #onSuccess()} or
+     * {@link #onFailure(Throwable)} once the call completes.
+     *
+     * @throws CircuitBreakerOpenException if the breaker rejects the call and pausing is disabled
+     * @throws InterruptedException        if the thread is interrupted while waiting for the breaker
+     */
+    public synchronized void acquirePermission() throws InterruptedException {
+        while (true) {
+            halfOpenIfElapsed();
+            if (state == State.CLOSED) return;
+            if (state == State.HALF_OPEN && !probing) {
+                probing = true;
+                return;
+            }
+            if (!pauseWhenOpen) {
+                throw new CircuitBreakerOpenException("Circuit breaker is " + state + ", call not permitted");
+            }
+            long waitNanos = state == State.OPEN ? openNanos - (System.nanoTime() - openedAt) : openNanos;
+            TimeUnit.NANOSECONDS.timedWait(this, Math.max(waitNanos, 1));
+        }
+    }
+
+    /**
+     * Records a successful call.
+     */
+    public synchronized void onSuccess() {
+        if (state == State.HALF_OPEN) {
+            close();
+        } else if (state == State.CLOSED) {
+            record(false);
+        }
+    }
+
+    /**
+     * Records a failed call.
+     *
+     * @param t the exception thrown by the call
+     */
+    public synchronized void onFailure(Throwable t) {
+        if (!isRecorded(t)) {
+            onSuccess();
+        } else if (state == State.HALF_OPEN) {
+            open("probe call failed");
+        } else if (state == State.CLOSED) {
+            record(true);
+            if (calls == window.length && failures >= failureRateThreshold * calls) {
+                open(failures + " of the last " + calls + " calls failed");
+            }
+        }
+    }
+
+    private boolean isRecorded(Throwable t) {
+        if (recordedExceptions.isEmpty()) return true;
+        return recordedExceptions.stream().anyMatch(cls -> cls.isInstance(t));
+    }
+
+    private void record(boolean failed) {
+        if (calls == window.length) {
+            if (window[next]) failures--;
+        } else {
+            calls++;
+        }
+        window[next] = failed;
+        if (failed) failures++;
+        next = (next + 1) % window.length;
+    }
+
+    private void halfOpenIfElapsed() {
+        if (state == State.OPEN && System.nanoTime() - openedAt >= openNanos) {
+            state = State.HALF_OPEN;
+            probing = false;
+        }
+    }
+
+    private void open(String reason) {
+        LOG.warn("Circuit breaker opened: {}", reason);
+        state = State.OPEN;
+        openedAt = System.nanoTime();
+        notifyAll();
+    }
+
+    private void close() {
+        LOG.info("Circuit breaker closed after successful probe call");
+        state = State.CLOSED;
+        calls = 0;
+        failures = 0;
+        next = 0;
+        notifyAll();
+    }
+}
@@ -0,0 +1,38 @@
+package com.hogwai.batch.core.policy;
+
+/**
+ * Decides when a chunk is complete and must be written and committed.
+ * <p>
+ * Chunk steps call {@link #start()} when they begin a chunk, and report every item added to it to
+ * the returned {@link ChunkState}, which they check after each item. A policy keeps no state
+ * between chunks, so it can be shared by the concurrent workers of a step.
+ */
+public interface CompletionPolicy {
+
+    /**
+     * Begins a new chunk.
+     *
+     * @return the state of the new chunk
+     */
+    ChunkState start();
+
+    /**
+     * Progress of a single chunk, accessed by one thread only.
+     */
+    interface ChunkState {
+
+        /**
+         * Records an item added to the chunk.
+         *
+         * @param item the item added to the chunk
+         */
+        void update(Object item);
+
+        /**
+         * Tells whether the chunk is complete.
+         *
+         * @return {@code true} if the chunk must be written before adding more items
+         */
+        boolean isComplete();
+    }
+}
@@ -0,0 +1,45 @@
+package com.hogwai.batch.core.policy;
+
+import java.util.List;
+
+/**
+ * Completion policy that completes a chunk as soon as any of its delegates does, for instance after
+ * a number of items or a timeout, whichever comes first.
+ */
+public class CompositeCompletionPolicy implements CompletionPolicy {
+    private final List<CompletionPolicy> policies;
+
+    /**
+     * Creates a composite completion policy.
+     *
+     * @param policies the delegate policies
+     * @throws IllegalArgumentException if no policy is given
+     */
+    public CompositeCompletionPolicy(List<CompletionPolicy> policies) {
+        if (policies.isEmpty()) throw new IllegalArgumentException("at least one completion policy is required");
+        this.policies = List.copyOf(policies);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public ChunkState start() {
+        ChunkState[] states = new ChunkState[policies.size()];
+        for (int i = 0; i < states.length; i++) {
+            states[i] = policies.get(i).start();
+        }
+        return new ChunkState() {
+            @Override
+            public void update(Object item) {
+                for (ChunkState state : states) state.update(item);
+            }
+
+            @Override
+            public boolean isComplete() {
+                for (ChunkState state : states) {
+                    if (state.isComplete()) return true;
+                }
+                return false;
+            }
+        };
+    }
+}
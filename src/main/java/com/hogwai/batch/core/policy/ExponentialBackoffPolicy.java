@@ -0,0 +1,83 @@
+package com.hogwai.batch.core.policy;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Backoff policy whose delay grows exponentially with the attempt number, up to a cap, and is
+ * randomized by a jitter.
+ * <p>
+ * The base delay of attempt {@code n} is {@code initialIntervalMs * multiplier^(n - 1)}, capped at
+ * {@code maxIntervalMs}. The jitter then removes a random share of it, up to {@code jitter} times
+ * the base delay: with a jitter of {@code 1} the delay is uniform between zero and the base delay,
+ * with a jitter of {@code 0} it is the base delay. Randomized delays keep the items that failed
+ * together, typically during a downstream brownout, from all retrying at the same moment.
+ */
+public class ExponentialBackoffPolicy implements BackoffPolicy {
+    private final long initialIntervalMs;
+    private final double multiplier;
+    private final long maxIntervalMs;
+    private final double jitter;
+
+    /**
+     * Creates an exponential backoff policy with full jitter.
+     *
+     * @param initialIntervalMs the base delay in milliseconds before the first retry
+     * @param multiplier        the factor applied to the base delay at each attempt
+     * @param maxIntervalMs     the maximum base delay in milliseconds
+     * @throws IllegalArgumentException if an argument is out of range
+     */
+    public ExponentialBackoffPolicy(long initialIntervalMs, double multiplier, long maxIntervalMs) {
+        this(initialIntervalMs, multiplier, maxIntervalMs, 1.0);
+    }
+
+    /**
+     * Creates an exponential backoff policy.
+     *
+     * @param initialIntervalMs the base delay in milliseconds before the first retry
+     * @param multiplier        the factor applied to the base delay at each attempt
+     * @param maxIntervalMs     the maximum base delay in milliseconds
+     * @param jitter            the maximum share of the base delay removed at random, between {@code 0} and {@code 1}
+     * @throws IllegalArgumentException if the initial interval is not positive, the multiplier is lower than
+     *                                  one, the maximum interval is lower than the initial one, or the jitter
+     *                                  is outside {@code [0, 1]}
+     */
+    public ExponentialBackoffPolicy(long initialIntervalMs, double multiplier, long maxIntervalMs, double jitter) {
+        if (initialIntervalMs < 1) {
+            throw new IllegalArgumentException("initialIntervalMs must be positive, got " + initialIntervalMs);
+        }
+        if (multiplier < 1) throw new IllegalArgumentException("multiplier must be at least 1, got " + multiplier);
+        if (maxIntervalMs < initialIntervalMs) {
+            throw new IllegalArgumentException("maxIntervalMs must be at least initialIntervalMs, got " + maxIntervalMs);
+        }
+        if (jitter < 0 || jitter > 1) throw new IllegalArgumentException("jitter must be in [0, 1], got " + jitter);
+        this.initialIntervalMs = initialIntervalMs;
+        this.multiplier = multiplier;
+        this.maxIntervalMs = maxIntervalMs;
+        this.jitter = jitter;
+    }
+
+    /**
+     * Computes the delay before the next attempt, including the random jitter.
+     *
+     * @param attemptCount the current attempt number (starting from 1)
+     * @return the delay in milliseconds
+     */
+    public long getDelayMillis(int attemptCount) {
+        double base = Math.min(maxIntervalMs, initialIntervalMs * Math.pow(multiplier, Math.max(attemptCount - 1, 0)));
+        return (long) (base - base * jitter * ThreadLocalRandom.current().nextDouble());
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public void backoff(int attemptCount) throws InterruptedException {
+        Thread.sleep(getDelayMillis(attemptCount));
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public CompletableFuture<Void> backoffAsync(int attemptCount) {
+        return new CompletableFuture<Void>().completeOnTimeout(null, getDelayMillis(attemptCount), TimeUnit.MILLISECONDS);
+    }
+}
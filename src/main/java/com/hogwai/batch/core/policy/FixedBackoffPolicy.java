@@ -1,5 +1,8 @@
 package com.hogwai.batch.core.policy;
 
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
 /**
  * Backoff policy that waits a fixed duration between retry attempts, regardless of attempt number.
  */
@@ -20,4 +23,10 @@ public class FixedBackoffPolicy implements BackoffPolicy {
     public void backoff(int attemptCount) throws InterruptedException {
         Thread.sleep(intervalMs);
     }
+
+    /** {@inheritDoc} */
+    @Override
+    public CompletableFuture<Void> backoffAsync(int attemptCount) {
+        return new CompletableFuture<Void>().completeOnTimeout(null, intervalMs, TimeUnit.MILLISECONDS);
+    }
 }
@@ -0,0 +1,41 @@
+package com.hogwai.batch.core.policy;
+
+/**
+ * Completion policy that completes a chunk once it holds a fixed number of items.
+ */
+public class SimpleCompletionPolicy implements CompletionPolicy {
+    private final int chunkSize;
+
+    /**
+     * Creates a completion policy with the given chunk size.
+     *
+     * @param chunkSize the number of items per chunk
+     * @throws IllegalArgumentException if {@code chunkSize} is not positive
+     */
+    public SimpleCompletionPolicy(int chunkSize) {
+        if (chunkSize < 1) throw new IllegalArgumentException("chunkSize must be positive, got " + chunkSize);
+        this.chunkSize = chunkSize;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public ChunkState start() {
+        return countingTo(chunkSize);
+    }
+
+    static ChunkState countingTo(int chunkSize) {
+        return new ChunkState() {
+            private int count;
+
+            @Override
+            public void update(Object item) {
+                count++;
+            }
+
+            @Override
+            public boolean isComplete() {
+                return count >= chunkSize;
+            }
+        };
+    }
+}
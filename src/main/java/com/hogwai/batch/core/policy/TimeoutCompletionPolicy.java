@@ -0,0 +1,43 @@
+package com.hogwai.batch.core.policy;
+
+import java.time.Duration;
+
+/**
+ * Completion policy that completes a chunk once a maximum time has elapsed since it began, so that
+ * items from a slow reader are not held uncommitted for long.
+ * <p>
+ * The timeout is checked as items are added: a chunk whose timeout elapses while the reader waits
+ * for input is written with the next item read, or at the end of the input.
+ */
+public class TimeoutCompletionPolicy implements CompletionPolicy {
+    private final long timeoutNanos;
+
+    /**
+     * Creates a completion policy with the given chunk timeout.
+     *
+     * @param timeout the maximum time between the start of a chunk and its completion
+     * @throws IllegalArgumentException if {@code timeout} is not positive
+     */
+    public TimeoutCompletionPolicy(Duration timeout) {
+        if (timeout.isNegative() || timeout.isZero()) {
+            throw new IllegalArgumentException("timeout must be positive, got " + timeout);
+        }
+        this.timeoutNanos = timeout.toNanos();
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public ChunkState start() {
+        long start = System.nanoTime();
+        return new ChunkState() {
+            @Override
+            public void update(Object item) {
+            }
+
+            @Override
+            public boolean isComplete() {
+                return System.nanoTime() - start >= timeoutNanos;
+            }
+        };
+    }
+}
@@ -0,0 +1,71 @@
+package com.hogwai.batch.core.remote;
+
+import com.hogwai.batch.core.ItemProcessor;
+import com.hogwai.batch.core.ItemWriter;
+import com.hogwai.batch.core.runtime.StepContribution;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Worker side of remote chunking: processes the items of a chunk received from the master step with
+ * an {@link ItemProcessor} and writes the results with an {@link ItemWriter}, as a chunk-oriented
+ * step would. The processor and writer must be thread-safe if several master connections are served
+ * at once.
+ *
+ * @param <I> the input item type
+ * @param <O> the output item type
+ * @see ChunkWorkerServer
+ */
+public class ChunkProcessor<I, O> {
+
+    private final ItemProcessor<? super I, ? extends O> processor;
+    private final ItemWriter<O> writer;
+
+    /**
+     * Creates a chunk processor.
+     *
+     * @param processor the item processor, or {@code null} to pass items through
+     * @param writer    the item writer
+     */
+    public ChunkProcessor(ItemProcessor<? super I, ? extends O> processor, ItemWriter<O> writer) {
+        this.processor = processor;
+        this.writer = writer;
+    }
+
+    /**
+     * Processes and writes the items of a chunk. Items for which the processor returns {@code null}
+     * are filtered out and counted as such. Any exception or error fails the whole chunk, except
+     * for a {@link VirtualMachineError}, such as an {@link OutOfMemoryError}, which leaves the worker
+     * unusable: it is rethrown, and {@link ChunkWorkerServer} reports it to the master before closing
+     * the connection.
+     *
+     * @param request the chunk received from the master
+     * @return the response to send back, with the counts of the chunk or its failure
+     * @throws VirtualMachineError if the virtual machine failed while handling the chunk
+     */
+    @SuppressWarnings("unchecked")
+    public ChunkResponse process(ChunkRequest<? extends I> request) {
+        StepContribution contribution = new StepContribution();
+        try {
+            List<O> outputs = new ArrayList<>(request.items().size());
+            for (I item : request.items()) {
+                O output = processor != null ? processor.process(item) : (O) item;
+                if (output == null) {
+                    contribution.incrementFilterCount();
+                } else {
+                    outputs.add(output);
+                }
+            }
+            if (!outputs.isEmpty()) {
+                writer.write(outputs);
+                contribution.incrementWriteCount(outputs.size());
+            }
+            return ChunkResponse.written(request.sequence(), contribution);
+        } catch (VirtualMachineError e) {
+            throw e;
+        } catch (Throwable t) {
+            return ChunkResponse.failed(request.sequence(), t);
+        }
+    }
+}
@@ -0,0 +1,14 @@
+package com.hogwai.batch.core.remote;
+
+import java.io.Serializable;
+import java.util.List;
+
+/**
+ * A chunk of items sent by the master step to a remote worker.
+ *
+ * @param sequence the number of the chunk within the master step, used to match the response
+ * @param items    the items read by the master, which must be serializable
+ * @param <T>      the item type
+ */
+public record ChunkRequest<T>(long sequence, List<T> items) implements Serializable {
+}
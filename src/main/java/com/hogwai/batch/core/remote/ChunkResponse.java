@@ -0,0 +1,44 @@
+package com.hogwai.batch.core.remote;
+
+import com.hogwai.batch.core.runtime.StepContribution;
+
+import java.io.Serializable;
+
+/**
+ * The outcome of a chunk processed by a remote worker, sent back to the master step.
+ *
+ * @param sequence     the sequence number of the chunk request
+ * @param contribution the write, filter, and skip counts of the chunk, or {@code null} if it failed
+ * @param failure      a description of the exception that failed the chunk, or {@code null} if it
+ *                     was written
+ */
+public record ChunkResponse(long sequence, StepContribution contribution, String failure) implements Serializable {
+
+    /**
+     * Creates the response of a written chunk.
+     *
+     * @param sequence     the sequence number of the chunk request
+     * @param contribution the counts of the chunk
+     * @return the response
+     */
+    public static ChunkResponse written(long sequence, StepContribution contribution) {
+        return new ChunkResponse(sequence, contribution, null);
+    }
+
+    /**
+     * Creates the response of a failed chunk. Only a description of the exception is sent, since
+     * its class may not be available to the master.
+     *
+     * @param sequence the sequence number of the chunk request
+     * @param failure  the exception that failed the chunk
+     * @return the response
+     */
+    public static ChunkResponse failed(long sequence, Throwable failure) {
+        return new ChunkResponse(sequence, null, failure.toString());
+    }
+
+    /** @return {@code true} if the chunk was written */
+    public boolean isSuccessful() {
+        return failure == null;
+    }
+}
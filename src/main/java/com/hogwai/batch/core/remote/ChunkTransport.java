@@ -0,0 +1,31 @@
+package com.hogwai.batch.core.remote;
+
+import java.io.IOException;
+
+/**
+ * Carries chunks from a master step to remote workers and their responses back. Implementations
+ * must be safe for use by several chunk workers of the master step at once, each call being served
+ * by one remote worker.
+ *
+ * @see SocketChunkTransport
+ */
+public interface ChunkTransport extends AutoCloseable {
+
+    /**
+     * Sends a chunk to a remote worker and waits for the worker to have processed and written it.
+     *
+     * @param request the chunk to send
+     * @return the worker's response
+     * @throws IOException          if the chunk could not be delivered or the response received
+     * @throws InterruptedException if the thread is interrupted while waiting for a worker
+     */
+    ChunkResponse send(ChunkRequest<?> request) throws IOException, InterruptedException;
+
+    /**
+     * Releases the connections to the workers.
+     *
+     * @throws IOException if a connection could not be closed
+     */
+    @Override
+    default void close() throws IOException {}
+}
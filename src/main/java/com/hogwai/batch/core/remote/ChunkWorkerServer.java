@@ -0,0 +1,161 @@
+package com.hogwai.batch.core.remote;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.EOFException;
+import java.io.IOException;
+import java.net.SocketAddress;
+import java.net.StandardProtocolFamily;
+import java.net.UnixDomainSocketAddress;
+import java.nio.channels.ClosedChannelException;
+import java.nio.channels.ServerSocketChannel;
+import java.nio.channels.SocketChannel;
+import java.nio.file.Files;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Worker side of remote chunking over sockets: accepts connections from {@link SocketChunkTransport}
+ * masters on a TCP or Unix-domain socket address and hands every chunk received to a
+ * {@link ChunkProcessor}, sending back its response. Each connection is served on its own virtual
+ * thread and processes one chunk at a time.
+ * <p>
+ * A worker process typically starts a server and keeps running until it is killed:
+ * <pre>{@code
+ * try (var server = new ChunkWorkerServer<>(address, new ChunkProcessor<>(processor, writer))) {
+ *     server.start();
+ *     Thread.currentThread().join();
+ * }
+ * }</pre>
+ * A {@link VirtualMachineError} thrown while handling a chunk is reported to the master as a failed
+ * chunk, then rethrown, which closes the connection.
+ * <p>
+ * Chunks are exchanged with Java serialization, so the server must only be reachable by trusted
+ * masters: bind it to the loopback interface, a Unix-domain socket, or a private network.
+ *
+ * @param <I> the item type received from the master
+ */
+public class ChunkWorkerServer<I> implements AutoCloseable {
+
+    private static final Logger LOG = LoggerFactory.getLogger(ChunkWorkerServer.class);
+
+    private final SocketAddress address;
+    private final ChunkProcessor<I, ?> processor;
+    private final Set<ObjectConnection> connections = ConcurrentHashMap.newKeySet();
+    private volatile ServerSocketChannel server;
+
+    /**
+     * Creates a server, not yet listening.
+     *
+     * @param address   the address to listen on: an {@link java.net.InetSocketAddress}, with port
+     *                  {@code 0} for an ephemeral port, or a {@link UnixDomainSocketAddress}
+     * @param processor the processor handling the chunks received
+     */
+    public ChunkWorkerServer(SocketAddress address, ChunkProcessor<I, ?> processor) {
+        this.address = address;
+        this.processor = processor;
+    }
+
+    /**
+     * Starts listening and accepting masters in the background.
+     *
+     * @return this server
+     * @throws IOException           if the address cannot be bound
+     * @throws IllegalStateException if the server was already started
+     */
+    public synchronized ChunkWorkerServer<I> start() throws IOException {
+        if (server != null) throw new IllegalStateException("Worker server already started");
+        ServerSocketChannel channel = address instanceof UnixDomainSocketAddress
+                ? ServerSocketChannel.open(StandardProtocolFamily.UNIX)
+                : ServerSocketChannel.open();
+        try {
+            channel.bind(address);
+        } catch (IOException e) {
+            channel.close();
+            throw e;
+        }
+        server = channel;
+        LOG.info("Chunk worker listening on {}", channel.getLocalAddress());
+        Thread.ofVirtual().start(this::acceptConnections);
+        return this;
+    }
+
+    /**
+     * Returns the address the server listens on, with the actual port if an ephemeral one was requested.
+     *
+     * @return the bound address
+     * @throws IOException           if the address cannot be obtained
+     * @throws IllegalStateException if the server is not started
+     */
+    public SocketAddress getLocalAddress() throws IOException {
+        if (server == null) throw new IllegalStateException("Worker server not started");
+        return server.getLocalAddress();
+    }
+
+    /**
+     * Stops listening and closes the connections of all masters. The socket file of a Unix-domain
+     * address is deleted.
+     *
+     * @throws IOException if the server socket could not be closed
+     */
+    @Override
+    public synchronized void close() throws IOException {
+        if (server == null) return;
+        server.close();
+        for (ObjectConnection connection : connections) {
+            connection.close();
+        }
+        if (address instanceof UnixDomainSocketAddress unix) {
+            Files.deleteIfExists(unix.getPath());
+        }
+    }
+
+    private void acceptConnections() {
+        try {
+            while (true) {
+                SocketChannel channel = server.accept();
+                Thread.ofVirtual().start(() -> serve(channel));
+            }
+        } catch (ClosedChannelException e) {
+            // closed by close()
+        } catch (IOException e) {
+            LOG.error("Chunk worker stopped accepting connections", e);
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private void serve(SocketChannel channel) {
+        ObjectConnection connection = null;
+        try {
+            connection = new ObjectConnection(channel);
+            connections.add(connection);
+            while (true) {
+                ChunkRequest<I> request = (ChunkRequest<I>) connection.receive();
+                ChunkResponse response;
+                try {
+                    response = processor.process(request);
+                } catch (VirtualMachineError e) {
+                    try {
+                        connection.send(ChunkResponse.failed(request.sequence(), e));
+                    } catch (IOException sendFailure) {
+                        e.addSuppressed(sendFailure);
+                    }
+                    throw e;
+                }
+                connection.send(response);
+            }
+        } catch (EOFException | ClosedChannelException e) {
+            // master disconnected or server closed
+        } catch (IOException | ClassCastException e) {
+            LOG.warn("Chunk worker connection failed", e);
+        } finally {
+            if (connection != null) connections.remove(connection);
+            try {
+                channel.close();
+            } catch (IOException e) {
+                LOG.debug("Could not close chunk worker connection", e);
+            }
+        }
+    }
+}
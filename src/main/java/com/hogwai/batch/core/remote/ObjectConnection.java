@@ -0,0 +1,62 @@
+package com.hogwai.batch.core.remote;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.nio.channels.Channels;
+import java.nio.channels.SocketChannel;
+
+/**
+ * A socket connection exchanging serialized messages, used by one thread at a time. Both ends write
+ * the serialization stream header as soon as they are created, so opening a connection on each side
+ * does not block.
+ */
+final class ObjectConnection implements Closeable {
+
+    private final SocketChannel channel;
+    private final ObjectOutputStream out;
+    private final ObjectInputStream in;
+
+    ObjectConnection(SocketChannel channel) throws IOException {
+        this.channel = channel;
+        try {
+            this.out = new ObjectOutputStream(new BufferedOutputStream(Channels.newOutputStream(channel)));
+            out.flush();
+            this.in = new ObjectInputStream(new BufferedInputStream(Channels.newInputStream(channel)));
+        } catch (IOException e) {
+            channel.close();
+            throw e;
+        }
+    }
+
+    /**
+     * Sends a message. The stream is reset afterwards, so that objects are not retained between
+     * messages and a modified object is sent again in full.
+     */
+    void send(Object message) throws IOException {
+        out.writeObject(message);
+        out.reset();
+        out.flush();
+    }
+
+    /**
+     * Receives the next message.
+     *
+     * @throws java.io.EOFException if the other end closed the connection
+     */
+    Object receive() throws IOException {
+        try {
+            return in.readObject();
+        } catch (ClassNotFoundException e) {
+            throw new IOException("Received message of unknown class " + e.getMessage(), e);
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        channel.close();
+    }
+}
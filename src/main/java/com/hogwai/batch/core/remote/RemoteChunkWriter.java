@@ -0,0 +1,74 @@
+package com.hogwai.batch.core.remote;
+
+import com.hogwai.batch.core.ContributingItemWriter;
+import com.hogwai.batch.core.runtime.StepContribution;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Master side of remote chunking: the writer of a chunk-oriented step that sends every chunk read
+ * to a remote worker through a {@link ChunkTransport} and waits for the worker to have processed
+ * and written it. The step reads items and commits chunks as usual; the write, filter, and skip
+ * counts reported by the worker are added to the step's contribution.
+ * <pre>{@code
+ * try (ChunkTransport transport = SocketChunkTransport.connect(workerAddresses)) {
+ *     Step step = new StepBuilder("importStep")
+ *             .<Order, Order>chunk(500)
+ *             .reader(orderReader)
+ *             .writer(new RemoteChunkWriter<>(transport))
+ *             .concurrency(workerAddresses.size())
+ *             .build();
+ * }
+ * }</pre>
+ * A single chunk worker keeps one remote worker busy at a time, so the step concurrency should
+ * match the number of workers. A chunk that fails on its worker, or whose worker is lost, fails the
+ * step; a restart resumes at the first item that no chunk worker had committed, as for any
+ * multi-threaded step.
+ *
+ * @param <T> the item type, which must be serializable
+ * @see ChunkWorkerServer
+ */
+public class RemoteChunkWriter<T> implements ContributingItemWriter<T> {
+
+    private final ChunkTransport transport;
+    private final AtomicLong sequence = new AtomicLong();
+
+    /**
+     * Creates a writer sending chunks through the given transport.
+     *
+     * @param transport the transport to the workers, closed by the caller
+     */
+    public RemoteChunkWriter(ChunkTransport transport) {
+        this.transport = transport;
+    }
+
+    /**
+     * Sends the chunk to a worker and adds the counts it reports to the contribution.
+     *
+     * @param items        the chunk of items to send
+     * @param contribution the contribution of the current chunk worker
+     * @throws UncheckedIOException  if the chunk could not be sent or its response received
+     * @throws IllegalStateException if the chunk failed on the worker, or if the thread is interrupted
+     *                               while waiting for the worker
+     */
+    @Override
+    public void write(List<T> items, StepContribution contribution) {
+        ChunkRequest<T> request = new ChunkRequest<>(sequence.incrementAndGet(), List.copyOf(items));
+        ChunkResponse response;
+        try {
+            response = transport.send(request);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Chunk " + request.sequence() + " could not be sent to a worker", e);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while waiting for chunk " + request.sequence(), e);
+        }
+        if (!response.isSuccessful()) {
+            throw new IllegalStateException("Chunk " + request.sequence() + " failed on worker: " + response.failure());
+        }
+        contribution.aggregate(response.contribution());
+    }
+}
@@ -0,0 +1,119 @@
+package com.hogwai.batch.core.remote;
+
+import java.io.IOException;
+import java.net.SocketAddress;
+import java.nio.channels.SocketChannel;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+
+/**
+ * {@link ChunkTransport} over TCP or Unix-domain sockets, holding one connection to each
+ * {@link ChunkWorkerServer}. A chunk is sent on an idle connection, waiting for one if all workers
+ * are busy, so the number of chunks in flight is bounded by the number of workers.
+ * <p>
+ * A connection that fails while a chunk is in flight is closed and not used again, and the chunk
+ * fails: the worker may or may not have written it, so it is not sent to another worker. Sending
+ * fails once all the connections are closed.
+ */
+public class SocketChunkTransport implements ChunkTransport {
+
+    private final List<ObjectConnection> connections;
+    private final Deque<ObjectConnection> idle;
+    private int live;
+
+    private SocketChunkTransport(List<ObjectConnection> connections) {
+        this.connections = connections;
+        this.idle = new ArrayDeque<>(connections);
+        this.live = connections.size();
+    }
+
+    /**
+     * Connects to the given workers.
+     *
+     * @param workers the addresses of the worker servers, TCP or Unix-domain
+     * @return a transport with one connection per worker
+     * @throws IOException              if a worker cannot be reached; connections already opened are closed
+     * @throws IllegalArgumentException if no worker is given
+     */
+    public static SocketChunkTransport connect(List<? extends SocketAddress> workers) throws IOException {
+        if (workers.isEmpty()) throw new IllegalArgumentException("At least one worker is required");
+        List<ObjectConnection> connections = new ArrayList<>(workers.size());
+        try {
+            for (SocketAddress worker : workers) {
+                connections.add(new ObjectConnection(SocketChannel.open(worker)));
+            }
+        } catch (IOException e) {
+            for (ObjectConnection connection : connections) {
+                try {
+                    connection.close();
+                } catch (IOException suppressed) {
+                    e.addSuppressed(suppressed);
+                }
+            }
+            throw e;
+        }
+        return new SocketChunkTransport(connections);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public ChunkResponse send(ChunkRequest<?> request) throws IOException, InterruptedException {
+        ObjectConnection connection = acquire();
+        try {
+            connection.send(request);
+            ChunkResponse response = (ChunkResponse) connection.receive();
+            if (response.sequence() != request.sequence()) {
+                throw new IOException("Received response to chunk " + response.sequence()
+                        + " instead of chunk " + request.sequence());
+            }
+            release(connection);
+            return response;
+        } catch (IOException | RuntimeException e) {
+            discard(connection);
+            throw e;
+        }
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public synchronized void close() throws IOException {
+        IOException failure = null;
+        for (ObjectConnection connection : connections) {
+            try {
+                connection.close();
+            } catch (IOException e) {
+                if (failure == null) failure = e; else failure.addSuppressed(e);
+            }
+        }
+        idle.clear();
+        live = 0;
+        notifyAll();
+        if (failure != null) throw failure;
+    }
+
+    private synchronized ObjectConnection acquire() throws IOException, InterruptedException {
+        while (idle.isEmpty()) {
+            if (live == 0) throw new IOException("No connection to a chunk worker left");
+            wait();
+        }
+        return idle.poll();
+    }
+
+    private synchronized void release(ObjectConnection connection) {
+        if (live == 0) return;
+        idle.push(connection);
+        notifyAll();
+    }
+
+    private synchronized void discard(ObjectConnection connection) {
+        try {
+            connection.close();
+        } catch (IOException e) {
+            // the connection is dropped anyway
+        }
+        if (live > 0) live--;
+        notifyAll();
+    }
+}
@@ -1,6 +1,8 @@
 package com.hogwai.batch.core.runtime;
 
+import java.util.Collections;
 import java.util.Map;
+import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
 
 /**
@@ -79,4 +81,11 @@ public class ExecutionContext {
      * @param other the context to copy from
      */
     public void putAll(ExecutionContext other) { map.putAll(other.map); }
+
+    /**
+     * Returns an unmodifiable view of the entries of this context, e.g. to persist them.
+     *
+     * @return the entries of this context
+     */
+    public Set<Map.Entry<String, Object>> entrySet() { return Collections.unmodifiableMap(map).entrySet(); }
 }
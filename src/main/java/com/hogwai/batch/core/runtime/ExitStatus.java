@@ -1,12 +1,14 @@
 package com.hogwai.batch.core.runtime;
 
+import java.io.Serializable;
+
 /**
  * Represents the outcome of a step or job execution as an exit code with an optional description.
  *
  * @param exitCode        the machine-readable exit code (e.g. "COMPLETED", "FAILED")
  * @param exitDescription a human-readable description of the exit status
  */
-public record ExitStatus(String exitCode, String exitDescription) {
+public record ExitStatus(String exitCode, String exitDescription) implements Serializable {
     /** Exit status indicating successful completion. */
     public static final ExitStatus COMPLETED = new ExitStatus("COMPLETED", "");
     public static final String FAILED_LABEL = "FAILED";
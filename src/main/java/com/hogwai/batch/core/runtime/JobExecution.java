@@ -3,9 +3,9 @@ package com.hogwai.batch.core.runtime;
 import com.hogwai.batch.core.config.JobParameters;
 
 import java.time.Instant;
-import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
 
 /**
  * Tracks the runtime state of a job execution, including status, timing, and child step executions.
@@ -22,7 +22,8 @@ public class JobExecution {
     private volatile Instant startTime;
     private volatile Instant endTime;
     private final ExecutionContext executionContext = new ExecutionContext();
-    private final List<StepExecution> stepExecutions = new ArrayList<>();
+    // steps of a split flow register concurrently while others read the list
+    private final List<StepExecution> stepExecutions = new CopyOnWriteArrayList<>();
 
     /**
      * Creates a new job execution.
@@ -63,7 +64,28 @@ public class JobExecution {
     public BatchStatus getStatus() { return status; }
 
     /** @param status the batch status to set */
-    public void setStatus(BatchStatus status) { this.status = status; }
+    public synchronized void setStatus(BatchStatus status) { this.status = status; }
+
+    /**
+     * Marks this execution as {@link BatchStatus#STOPPING} if it is still running. The check and the
+     * update are atomic with respect to {@link #setStatus}, so a stop cannot overwrite a final status.
+     *
+     * @return {@code true} if the execution is stopping, {@code false} if it is not running
+     */
+    public synchronized boolean requestStop() {
+        if (status == BatchStatus.STARTING || status == BatchStatus.STARTED) {
+            status = BatchStatus.STOPPING;
+        }
+        return status == BatchStatus.STOPPING;
+    }
+
+    /**
+     * Returns whether this execution was asked to stop, in which case its steps end at their next
+     * chunk boundary and no further step starts.
+     *
+     * @return {@code true} if the status is {@link BatchStatus#STOPPING}
+     */
+    public boolean isStopping() { return status == BatchStatus.STOPPING; }
 
     /** @return the current exit status */
     public ExitStatus getExitStatus() { return exitStatus; }
@@ -0,0 +1,17 @@
+package com.hogwai.batch.core.runtime;
+
+/**
+ * Thrown by the job launcher when a job execution was asked to stop, to end it as
+ * {@link BatchStatus#STOPPED STOPPED} rather than failed.
+ */
+public class JobInterruptedException extends Exception {
+
+    /**
+     * Creates a new exception with the given message.
+     *
+     * @param message the detail message
+     */
+    public JobInterruptedException(String message) {
+        super(message);
+    }
+}
@@ -1,10 +1,17 @@
 package com.hogwai.batch.core.runtime;
 
+import java.io.Serializable;
+
 /**
  * Accumulates read, write, filter, and skip metrics during chunk processing.
- * Applied to the parent {@link StepExecution} after each chunk completes.
+ * Applied to the parent {@link StepExecution} after each chunk commit; every application adds only
+ * the counts recorded since the previous one.
+ * Safe for use by several item-processing threads at once. Serializable so that remote workers
+ * can report the contribution of the chunks they process.
  */
-public class StepContribution {
+public class StepContribution implements Serializable {
+    private static final long serialVersionUID = 1L;
+
     private long readCount;
     private long writeCount;
     private long filterCount;
@@ -13,56 +20,98 @@ public class StepContribution {
     private long skipCountInWrite;
     private ExitStatus exitStatus = ExitStatus.COMPLETED;
 
+    private transient long appliedReadCount;
+    private transient long appliedWriteCount;
+    private transient long appliedFilterCount;
+    private transient long appliedSkipCount;
+
     /** Increments the read count by one. */
-    public void incrementReadCount() { readCount++; }
+    public synchronized void incrementReadCount() { readCount++; }
 
     /**
      * Increments the write count by the given amount.
      *
      * @param count the number of items written
      */
-    public void incrementWriteCount(long count) { writeCount += count; }
+    public synchronized void incrementWriteCount(long count) { writeCount += count; }
 
     /** Increments the filter count by one. */
-    public void incrementFilterCount() { filterCount++; }
+    public synchronized void incrementFilterCount() { filterCount++; }
 
     /** Increments the skip-during-read count by one. */
-    public void incrementSkipCountInRead() { skipCountInRead++; }
+    public synchronized void incrementSkipCountInRead() { skipCountInRead++; }
 
     /** Increments the skip-during-process count by one. */
-    public void incrementSkipCountInProcess() { skipCountInProcess++; }
+    public synchronized void incrementSkipCountInProcess() { skipCountInProcess++; }
 
     /** Increments the skip-during-write count by one. */
-    public void incrementSkipCountInWrite() { skipCountInWrite++; }
+    public synchronized void incrementSkipCountInWrite() { skipCountInWrite++; }
+
+    /**
+     * Adds the counts of another contribution to this one, e.g. the contribution reported by a
+     * remote worker for a chunk. The exit status is left unchanged.
+     *
+     * @param other the contribution whose counts are added
+     */
+    public void aggregate(StepContribution other) {
+        long[] counts;
+        synchronized (other) {
+            counts = new long[] {other.readCount, other.writeCount, other.filterCount,
+                    other.skipCountInRead, other.skipCountInProcess, other.skipCountInWrite};
+        }
+        synchronized (this) {
+            readCount += counts[0];
+            writeCount += counts[1];
+            filterCount += counts[2];
+            skipCountInRead += counts[3];
+            skipCountInProcess += counts[4];
+            skipCountInWrite += counts[5];
+        }
+    }
+
+    /**
+     * Returns the read, write, filter, and skip counts recorded since the previous call, and marks
+     * them as applied to the step execution.
+     */
+    synchronized long[] takeUnapplied() {
+        long skipCount = getSkipCount();
+        long[] counts = {readCount - appliedReadCount, writeCount - appliedWriteCount,
+                filterCount - appliedFilterCount, skipCount - appliedSkipCount};
+        appliedReadCount = readCount;
+        appliedWriteCount = writeCount;
+        appliedFilterCount = filterCount;
+        appliedSkipCount = skipCount;
+        return counts;
+    }
 
     /** @return the total number of items read */
-    public long getReadCount() { return readCount; }
+    public synchronized long getReadCount() { return readCount; }
 
     /** @return the total number of items written */
-    public long getWriteCount() { return writeCount; }
+    public synchronized long getWriteCount() { return writeCount; }
 
     /** @return the total number of items filtered out */
-    public long getFilterCount() { return filterCount; }
+    public synchronized long getFilterCount() { return filterCount; }
 
     /** @return the total number of skipped items across all phases */
-    public long getSkipCount() { return skipCountInRead + skipCountInProcess + skipCountInWrite; }
+    public synchronized long getSkipCount() { return skipCountInRead + skipCountInProcess + skipCountInWrite; }
 
     /** @return the number of items skipped during the read phase */
-    public long getSkipCountInRead() { return skipCountInRead; }
+    public synchronized long getSkipCountInRead() { return skipCountInRead; }
 
     /** @return the number of items skipped during the process phase */
-    public long getSkipCountInProcess() { return skipCountInProcess; }
+    public synchronized long getSkipCountInProcess() { return skipCountInProcess; }
 
     /** @return the number of items skipped during the write phase */
-    public long getSkipCountInWrite() { return skipCountInWrite; }
+    public synchronized long getSkipCountInWrite() { return skipCountInWrite; }
 
     /** @return the current exit status for this contribution */
-    public ExitStatus getExitStatus() { return exitStatus; }
+    public synchronized ExitStatus getExitStatus() { return exitStatus; }
 
     /**
      * Sets the exit status for this contribution.
      *
      * @param exitStatus the exit status to set
      */
-    public void setExitStatus(ExitStatus exitStatus) { this.exitStatus = exitStatus; }
+    public synchronized void setExitStatus(ExitStatus exitStatus) { this.exitStatus = exitStatus; }
 }
@@ -4,6 +4,7 @@ import java.time.Instant;
 
 /**
  * Tracks the runtime state and metrics of a single step execution within a job.
+ * Counters may be updated concurrently by the workers of a multi-threaded step.
  *
  * @see StepContribution
  * @see JobExecution
@@ -18,12 +19,12 @@ public class StepExecution {
     private volatile Instant endTime;
     private final ExecutionContext executionContext = new ExecutionContext();
 
-    private long readCount;
-    private long writeCount;
-    private long commitCount;
-    private long rollbackCount;
-    private long filterCount;
-    private long skipCount;
+    private volatile long readCount;
+    private volatile long writeCount;
+    private volatile long commitCount;
+    private volatile long rollbackCount;
+    private volatile long filterCount;
+    private volatile long skipCount;
 
     /**
      * Creates a new step execution.
@@ -43,20 +44,50 @@ public class StepExecution {
      * adding counts and updating the exit status.
      *
      * @param contribution the contribution to apply
+     * @see #applyCounts(StepContribution)
      */
     public void apply(StepContribution contribution) {
-        this.readCount += contribution.getReadCount();
-        this.writeCount += contribution.getWriteCount();
-        this.filterCount += contribution.getFilterCount();
-        this.skipCount += contribution.getSkipCount();
+        applyCounts(contribution);
         this.exitStatus = contribution.getExitStatus();
     }
 
+    /**
+     * Adds the counts a {@link StepContribution} recorded since it was last applied, leaving the exit
+     * status unchanged. Chunk steps call it at every commit, before persisting this execution, so
+     * that the saved counts cover the committed chunks even if the step fails later.
+     *
+     * @param contribution the contribution whose new counts are added
+     */
+    public void applyCounts(StepContribution contribution) {
+        long[] counts = contribution.takeUnapplied();
+        synchronized (this) {
+            this.readCount += counts[0];
+            this.writeCount += counts[1];
+            this.filterCount += counts[2];
+            this.skipCount += counts[3];
+        }
+    }
+
+    /**
+     * Adds the counts of another step execution to this one, e.g. to roll up the
+     * executions of the partitions of a partitioned step. The exit status is left unchanged.
+     *
+     * @param other the step execution whose counts are added
+     */
+    public synchronized void aggregate(StepExecution other) {
+        this.readCount += other.getReadCount();
+        this.writeCount += other.getWriteCount();
+        this.commitCount += other.getCommitCount();
+        this.rollbackCount += other.getRollbackCount();
+        this.filterCount += other.getFilterCount();
+        this.skipCount += other.getSkipCount();
+    }
+
     /** Increments the commit count by one. */
-    public void incrementCommitCount() { commitCount++; }
+    public synchronized void incrementCommitCount() { commitCount++; }
 
     /** Increments the rollback count by one. */
-    public void incrementRollbackCount() { rollbackCount++; }
+    public synchronized void incrementRollbackCount() { rollbackCount++; }
 
     /** @return the unique execution identifier */
     public long getId() { return id; }
@@ -67,6 +98,14 @@ public class StepExecution {
     /** @return the parent job execution */
     public JobExecution getJobExecution() { return jobExecution; }
 
+    /**
+     * Returns whether the parent job execution was asked to stop. Steps check it at chunk
+     * boundaries and then end as {@link BatchStatus#STOPPED}, with their read position saved.
+     *
+     * @return {@code true} if the step should stop after its current chunk
+     */
+    public boolean isStopRequested() { return jobExecution != null && jobExecution.isStopping(); }
+
     /** @return the current batch status */
     public BatchStatus getStatus() { return status; }
 
@@ -119,4 +158,22 @@ public class StepExecution {
 
     /** @return the total number of skipped items */
     public long getSkipCount() { return skipCount; }
+
+    /** @param readCount the read count to set, e.g. when restoring a persisted execution */
+    public void setReadCount(long readCount) { this.readCount = readCount; }
+
+    /** @param writeCount the write count to set, e.g. when restoring a persisted execution */
+    public void setWriteCount(long writeCount) { this.writeCount = writeCount; }
+
+    /** @param commitCount the commit count to set, e.g. when restoring a persisted execution */
+    public void setCommitCount(long commitCount) { this.commitCount = commitCount; }
+
+    /** @param rollbackCount the rollback count to set, e.g. when restoring a persisted execution */
+    public void setRollbackCount(long rollbackCount) { this.rollbackCount = rollbackCount; }
+
+    /** @param filterCount the filter count to set, e.g. when restoring a persisted execution */
+    public void setFilterCount(long filterCount) { this.filterCount = filterCount; }
+
+    /** @param skipCount the skip count to set, e.g. when restoring a persisted execution */
+    public void setSkipCount(long skipCount) { this.skipCount = skipCount; }
 }
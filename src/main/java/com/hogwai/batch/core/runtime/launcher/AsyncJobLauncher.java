@@ -0,0 +1,99 @@
+package com.hogwai.batch.core.runtime.launcher;
+
+import com.hogwai.batch.core.config.JobParameters;
+import com.hogwai.batch.core.definition.Job;
+import com.hogwai.batch.core.jfr.JobExecutionEvent;
+import com.hogwai.batch.core.runtime.BatchStatus;
+import com.hogwai.batch.core.runtime.ExitStatus;
+import com.hogwai.batch.core.runtime.JobExecution;
+import com.hogwai.batch.core.runtime.repository.JobRepository;
+import io.micronaut.scheduling.TaskExecutors;
+import jakarta.inject.Named;
+import jakarta.inject.Singleton;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.time.Instant;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+
+/**
+ * {@link JobLauncher} that runs jobs on a task executor and returns as soon as their execution is
+ * created, in the {@link BatchStatus#STARTED STARTED} state.
+ * <p>
+ * The job instance is resolved, and a failed or stopped execution restarted, on the calling thread,
+ * exactly as with {@link SimpleJobLauncher}; the steps then run on the executor. Use
+ * {@link #start(Job, JobParameters)} to also get a future completing with the job, or poll the
+ * status of the returned execution. Jobs that fail are logged, since nobody may be waiting on them.
+ * <p>
+ * As a bean, the launcher runs jobs on Micronaut's {@value TaskExecutors#BLOCKING} executor, which
+ * uses virtual threads when available, so launching many jobs does not hold a platform thread each.
+ */
+@Singleton
+public class AsyncJobLauncher implements JobLauncher {
+
+    private static final Logger LOG = LoggerFactory.getLogger(AsyncJobLauncher.class);
+    private final JobRepository jobRepository;
+    private final SimpleJobLauncher launcher;
+    private final Executor taskExecutor;
+
+    /**
+     * Creates a new launcher backed by the given repository.
+     *
+     * @param jobRepository the repository for persisting execution metadata
+     * @param taskExecutor  the executor running the jobs
+     */
+    public AsyncJobLauncher(JobRepository jobRepository, @Named(TaskExecutors.BLOCKING) Executor taskExecutor) {
+        this.jobRepository = jobRepository;
+        this.launcher = new SimpleJobLauncher(jobRepository);
+        this.taskExecutor = taskExecutor;
+    }
+
+    /**
+     * Launches the specified job on the task executor and returns without waiting for it.
+     *
+     * @param job           the job to execute
+     * @param jobParameters the parameters for this execution
+     * @return the started job execution
+     * @throws RejectedExecutionException if the executor does not accept the job
+     */
+    @Override
+    public JobExecution run(Job job, JobParameters jobParameters) {
+        return start(job, jobParameters).execution();
+    }
+
+    /**
+     * Launches the specified job on the task executor and returns a handle on its execution.
+     *
+     * @param job           the job to execute
+     * @param jobParameters the parameters for this execution
+     * @return the started job execution and a future completing with the job
+     * @throws RejectedExecutionException if the executor does not accept the job, which is then
+     *                                    recorded as failed
+     */
+    public JobHandle start(Job job, JobParameters jobParameters) {
+        JobExecutionEvent event = new JobExecutionEvent();
+        event.begin();
+        JobExecution execution = launcher.createExecution(job, jobParameters, event);
+        CompletableFuture<JobExecution> completion = new CompletableFuture<>();
+        try {
+            taskExecutor.execute(() -> {
+                try {
+                    launcher.execute(job, execution, event);
+                    completion.complete(execution);
+                } catch (Throwable e) {
+                    LOG.error("Job {} execution {} failed", job.getName(), execution.getId(), e);
+                    completion.completeExceptionally(e);
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            execution.setStatus(BatchStatus.FAILED);
+            execution.setExitStatus(ExitStatus.FAILED);
+            execution.setEndTime(Instant.now());
+            jobRepository.update(execution);
+            throw e;
+        }
+        return new JobHandle(execution, completion);
+    }
+}
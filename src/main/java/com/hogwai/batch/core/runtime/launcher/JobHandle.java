@@ -0,0 +1,14 @@
+package com.hogwai.batch.core.runtime.launcher;
+
+import com.hogwai.batch.core.runtime.JobExecution;
+
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Handle on a job launched asynchronously by an {@link AsyncJobLauncher}.
+ *
+ * @param execution  the job execution, already created and updated as the job runs
+ * @param completion completes with the execution when the job completes, or exceptionally with
+ *                   the failure of the job
+ */
+public record JobHandle(JobExecution execution, CompletableFuture<JobExecution> completion) {}
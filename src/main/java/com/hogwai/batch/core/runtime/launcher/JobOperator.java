@@ -0,0 +1,19 @@
+package com.hogwai.batch.core.runtime.launcher;
+
+/**
+ * Controls job executions that are already running.
+ */
+public interface JobOperator {
+
+    /**
+     * Asks a running job execution to stop. The running step ends at its next chunk boundary
+     * with its progress saved, no further step starts, and the execution ends as
+     * {@link com.hogwai.batch.core.runtime.BatchStatus#STOPPED STOPPED}, so it can be restarted.
+     * This method does not wait for the execution to end.
+     *
+     * @param executionId the job execution identifier
+     * @return {@code true} if the execution is stopping, {@code false} if it had already ended
+     * @throws IllegalArgumentException if no job execution has this identifier
+     */
+    boolean stop(long executionId);
+}
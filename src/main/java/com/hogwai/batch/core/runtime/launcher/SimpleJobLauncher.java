@@ -3,12 +3,16 @@ package com.hogwai.batch.core.runtime.launcher;
 import com.hogwai.batch.core.config.JobParameters;
 import com.hogwai.batch.core.definition.Flow;
 import com.hogwai.batch.core.definition.FlowStep;
+import com.hogwai.batch.core.definition.GraphJob;
 import com.hogwai.batch.core.definition.Job;
 import com.hogwai.batch.core.definition.Step;
+import com.hogwai.batch.core.jfr.JobExecutionEvent;
+import com.hogwai.batch.core.jfr.StepExecutionEvent;
 import com.hogwai.batch.core.runtime.BatchStatus;
 import com.hogwai.batch.core.runtime.ExitStatus;
 import com.hogwai.batch.core.runtime.JobExecution;
 import com.hogwai.batch.core.runtime.JobInstance;
+import com.hogwai.batch.core.runtime.JobInterruptedException;
 import com.hogwai.batch.core.runtime.StepExecution;
 import com.hogwai.batch.core.runtime.repository.JobRepository;
 import io.micronaut.context.annotation.Primary;
@@ -17,10 +21,39 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.time.Instant;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletionService;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorCompletionService;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 
 /**
  * Default {@link JobLauncher} implementation that executes steps sequentially
  * and manages the job execution lifecycle via a {@link JobRepository}.
+ * <p>
+ * If the last execution of the job instance identified by the job name and parameters
+ * {@link BatchStatus#FAILED failed} or was {@link BatchStatus#STOPPED stopped}, the run restarts it:
+ * steps that completed are skipped, and the others start from the execution context they last
+ * persisted, which lets chunk steps resume after their last committed chunk. Otherwise a new job
+ * instance is created.
+ * <p>
+ * The steps of a {@link GraphJob} run in parallel instead: each step starts as soon as the steps it
+ * depends on have completed, within the job's concurrency limit. Once a step fails no further step
+ * is started, the running ones are awaited, and the job fails with the first step failure.
+ * <p>
+ * A job execution asked to stop through a {@link JobOperator} ends as {@link BatchStatus#STOPPED}: its
+ * running step stops at its next chunk boundary, no further step starts, and {@code run} returns
+ * normally. A restart resumes it like a failed execution.
+ * <p>
+ * Job and step executions are recorded as {@link JobExecutionEvent} and {@link StepExecutionEvent}
+ * JFR events.
  */
 @Singleton
 @Primary
@@ -41,18 +74,58 @@ public class SimpleJobLauncher implements JobLauncher {
     /** {@inheritDoc} */
     @Override
     public JobExecution run(Job job, JobParameters jobParameters) throws Exception {
-        JobInstance jobInstance = jobRepository.createJobInstance(job.getName(), jobParameters);
+        JobExecutionEvent event = new JobExecutionEvent();
+        event.begin();
+        JobExecution execution = createExecution(job, jobParameters, event);
+        execute(job, execution, event);
+        return execution;
+    }
+
+    /**
+     * Creates the execution of a job, in a new job instance or restarting the last execution of the
+     * existing one when it failed or was stopped.
+     */
+    JobExecution createExecution(Job job, JobParameters jobParameters, JobExecutionEvent event) {
+        JobInstance jobInstance = jobRepository.getJobInstance(job.getName(), jobParameters);
+        JobExecution lastExecution = jobInstance != null ? jobRepository.getLastJobExecution(jobInstance) : null;
+        boolean restart = lastExecution != null && isRestartable(lastExecution.getStatus());
+        if (restart) {
+            LOG.info("Restarting job {} after execution {} ended {}",
+                    job.getName(), lastExecution.getId(), lastExecution.getStatus());
+        } else {
+            jobInstance = jobRepository.createJobInstance(job.getName(), jobParameters);
+        }
         JobExecution execution = jobRepository.createJobExecution(jobInstance, jobParameters);
+        if (restart) {
+            execution.getExecutionContext().putAll(lastExecution.getExecutionContext());
+        }
         execution.setStatus(BatchStatus.STARTED);
+        event.setJobName(job.getName());
+        event.setJobExecutionId(execution.getId());
+        event.setRestart(restart);
+        return execution;
+    }
 
+    /**
+     * Runs the steps of a created job execution and records its outcome.
+     */
+    void execute(Job job, JobExecution execution, JobExecutionEvent event) throws Exception {
         try {
             job.getListeners().forEach(l -> l.beforeJob(execution));
 
-            for (Step step : job.getSteps()) {
-                executeStep(step, execution);
+            if (job instanceof GraphJob graphJob) {
+                executeGraph(graphJob, execution);
+            } else {
+                for (Step step : job.getSteps()) {
+                    executeStep(step, execution);
+                }
             }
             execution.setStatus(BatchStatus.COMPLETED);
             execution.setExitStatus(ExitStatus.COMPLETED);
+        } catch (JobInterruptedException e) {
+            LOG.info("Job {} stopped: {}", job.getName(), e.getMessage());
+            execution.setStatus(BatchStatus.STOPPED);
+            execution.setExitStatus(ExitStatus.STOPPED);
         } catch (Exception e) {
             execution.setStatus(BatchStatus.FAILED);
             execution.setExitStatus(ExitStatus.FAILED);
@@ -61,24 +134,36 @@ public class SimpleJobLauncher implements JobLauncher {
             job.getListeners().forEach(l -> l.afterJob(execution));
             execution.setEndTime(Instant.now());
             jobRepository.update(execution);
+            event.setStatus(execution.getStatus().name());
+            event.commit();
         }
-        return execution;
     }
 
     private void executeStep(Step step, JobExecution jobExecution) throws Exception {
+        checkNotStopping(step, jobExecution);
         if (step instanceof FlowStep flowStep) {
-            executeFlow(flowStep.getFlow(), jobExecution);
+            ExitStatus exitStatus = executeFlow(flowStep.getFlow(), jobExecution);
+            if (ExitStatus.STOPPED_LABEL.equals(exitStatus.exitCode())) {
+                throw new JobInterruptedException("Flow " + step.getName() + " stopped");
+            }
             return;
         }
-        StepExecution stepExecution = jobRepository.createStepExecution(jobExecution, step.getName());
-        stepExecution.setStartTime(Instant.now());
-        stepExecution.setStatus(BatchStatus.STARTED);
+        StepExecution previous = previousExecution(step, jobExecution);
+        if (previous != null && previous.getStatus() == BatchStatus.COMPLETED) {
+            LOG.info("Step {} already completed, skipping", step.getName());
+            return;
+        }
+        StepExecutionEvent event = new StepExecutionEvent();
+        event.begin();
+        StepExecution stepExecution = startStepExecution(step, jobExecution, previous);
 
         try {
             LOG.info("Executing step: {}", step.getName());
             step.execute(stepExecution);
-            stepExecution.setStatus(BatchStatus.COMPLETED);
-            stepExecution.setExitStatus(ExitStatus.COMPLETED);
+            if (stepExecution.getStatus() != BatchStatus.STOPPED) {
+                stepExecution.setStatus(BatchStatus.COMPLETED);
+                stepExecution.setExitStatus(ExitStatus.COMPLETED);
+            }
         } catch (Exception e) {
             stepExecution.setStatus(BatchStatus.FAILED);
             stepExecution.setExitStatus(ExitStatus.FAILED);
@@ -86,27 +171,147 @@ public class SimpleJobLauncher implements JobLauncher {
         } finally {
             stepExecution.setEndTime(Instant.now());
             jobRepository.update(stepExecution);
+            commit(event, stepExecution);
+        }
+        if (stepExecution.getStatus() == BatchStatus.STOPPED) {
+            throw new JobInterruptedException("Step " + step.getName() + " stopped");
         }
     }
 
-    private void executeFlow(Flow flow, JobExecution jobExecution) throws Exception {
-        flow.execute(step -> {
-            StepExecution stepExecution = jobRepository.createStepExecution(jobExecution, step.getName());
-            stepExecution.setStartTime(Instant.now());
-            stepExecution.setStatus(BatchStatus.STARTED);
+    /**
+     * Prevents a step from starting once the job execution was asked to stop.
+     */
+    private static void checkNotStopping(Step step, JobExecution jobExecution) throws JobInterruptedException {
+        if (jobExecution.isStopping()) {
+            throw new JobInterruptedException("Job execution " + jobExecution.getId() + " stopped before step " + step.getName());
+        }
+    }
+
+    private void executeGraph(GraphJob job, JobExecution jobExecution) throws Exception {
+        List<Step> steps = job.getSteps();
+        if (steps.isEmpty()) return;
+        Map<String, Integer> waiting = new HashMap<>();
+        Map<String, List<Step>> downstream = new HashMap<>();
+        Deque<Step> ready = new ArrayDeque<>();
+        for (Step step : steps) {
+            List<String> upstream = job.getDependencies(step.getName());
+            waiting.put(step.getName(), upstream.size());
+            for (String dependency : upstream) {
+                downstream.computeIfAbsent(dependency, k -> new ArrayList<>()).add(step);
+            }
+            if (upstream.isEmpty()) ready.add(step);
+        }
+
+        int limit = Math.min(job.getMaxConcurrency(), steps.size());
+        ExecutorService ownedExecutor = job.getTaskExecutor() == null ? Executors.newFixedThreadPool(limit) : null;
+        CompletionService<Step> completion =
+                new ExecutorCompletionService<>(ownedExecutor != null ? ownedExecutor : job.getTaskExecutor());
+        Exception failure = null;
+        int running = 0;
+        try {
+            while (running > 0 || failure == null && !ready.isEmpty()) {
+                while (failure == null && running < limit && !ready.isEmpty()) {
+                    Step step = ready.poll();
+                    completion.submit(() -> {
+                        executeStep(step, jobExecution);
+                        return step;
+                    });
+                    running++;
+                }
+                Future<Step> done = completion.take();
+                running--;
+                try {
+                    Step step = done.get();
+                    for (Step next : downstream.getOrDefault(step.getName(), List.of())) {
+                        if (waiting.merge(next.getName(), -1, Integer::sum) == 0) ready.add(next);
+                    }
+                } catch (ExecutionException e) {
+                    Exception cause = e.getCause() instanceof Exception ex ? ex : new IllegalStateException(e.getCause());
+                    if (failure == null) {
+                        failure = cause;
+                    } else if (failure instanceof JobInterruptedException && !(cause instanceof JobInterruptedException)) {
+                        // a step failure takes precedence over a stop
+                        cause.addSuppressed(failure);
+                        failure = cause;
+                    } else {
+                        failure.addSuppressed(cause);
+                    }
+                }
+            }
+        } finally {
+            if (ownedExecutor != null) ownedExecutor.shutdown();
+        }
+        if (failure != null) throw failure;
+    }
+
+    private ExitStatus executeFlow(Flow flow, JobExecution jobExecution) throws Exception {
+        return flow.execute(step -> {
+            checkNotStopping(step, jobExecution);
+            StepExecution previous = previousExecution(step, jobExecution);
+            if (previous != null && previous.getStatus() == BatchStatus.COMPLETED) {
+                LOG.info("Flow step {} already completed, skipping", step.getName());
+                return previous;
+            }
+            StepExecutionEvent event = new StepExecutionEvent();
+            event.begin();
+            StepExecution stepExecution = startStepExecution(step, jobExecution, previous);
             try {
                 LOG.info("Executing flow step: {}", step.getName());
                 step.execute(stepExecution);
-                stepExecution.setStatus(BatchStatus.COMPLETED);
-                stepExecution.setExitStatus(ExitStatus.COMPLETED);
+                if (stepExecution.getStatus() != BatchStatus.STOPPED) {
+                    stepExecution.setStatus(BatchStatus.COMPLETED);
+                    stepExecution.setExitStatus(ExitStatus.COMPLETED);
+                }
             } catch (Exception e) {
                 stepExecution.setStatus(BatchStatus.FAILED);
                 stepExecution.setExitStatus(ExitStatus.FAILED);
             } finally {
                 stepExecution.setEndTime(Instant.now());
                 jobRepository.update(stepExecution);
+                commit(event, stepExecution);
             }
             return stepExecution;
         });
     }
+
+    /**
+     * Creates and persists the execution of a step, restoring the execution context of its
+     * previous execution when restarting.
+     */
+    private StepExecution startStepExecution(Step step, JobExecution jobExecution, StepExecution previous) {
+        StepExecution stepExecution = jobRepository.createStepExecution(jobExecution, step.getName());
+        if (previous != null) {
+            stepExecution.getExecutionContext().putAll(previous.getExecutionContext());
+        }
+        stepExecution.setStartTime(Instant.now());
+        stepExecution.setStatus(BatchStatus.STARTED);
+        jobRepository.update(stepExecution);
+        return stepExecution;
+    }
+
+    /**
+     * Returns the execution of a step in a previous run of the job instance, if it is being restarted.
+     */
+    private StepExecution previousExecution(Step step, JobExecution jobExecution) {
+        StepExecution last = jobRepository.getLastStepExecution(jobExecution.getJobInstance(), step.getName());
+        return last != null && last.getJobExecution().getId() != jobExecution.getId() ? last : null;
+    }
+
+    private static void commit(StepExecutionEvent event, StepExecution stepExecution) {
+        event.setJobName(stepExecution.getJobExecution().getJobInstance().jobName());
+        event.setStepName(stepExecution.getStepName());
+        event.setStepExecutionId(stepExecution.getId());
+        event.setStatus(stepExecution.getStatus().name());
+        event.setReadCount(stepExecution.getReadCount());
+        event.setWriteCount(stepExecution.getWriteCount());
+        event.setFilterCount(stepExecution.getFilterCount());
+        event.setSkipCount(stepExecution.getSkipCount());
+        event.setCommitCount(stepExecution.getCommitCount());
+        event.setRollbackCount(stepExecution.getRollbackCount());
+        event.commit();
+    }
+
+    private static boolean isRestartable(BatchStatus status) {
+        return status == BatchStatus.FAILED || status == BatchStatus.STOPPED;
+    }
 }
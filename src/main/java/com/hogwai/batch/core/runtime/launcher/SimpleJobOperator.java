@@ -0,0 +1,44 @@
+package com.hogwai.batch.core.runtime.launcher;
+
+import com.hogwai.batch.core.runtime.BatchStatus;
+import com.hogwai.batch.core.runtime.JobExecution;
+import com.hogwai.batch.core.runtime.repository.JobRepository;
+import jakarta.inject.Singleton;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Default {@link JobOperator} that flags job executions found in a {@link JobRepository}.
+ * <p>
+ * Stopping is cooperative: the execution is marked {@link BatchStatus#STOPPING} and its steps
+ * check the flag between chunks. The flag is set on the execution held by the repository, so only
+ * executions launched in the same process can be stopped.
+ */
+@Singleton
+public class SimpleJobOperator implements JobOperator {
+
+    private static final Logger LOG = LoggerFactory.getLogger(SimpleJobOperator.class);
+    private final JobRepository jobRepository;
+
+    /**
+     * Creates a new operator backed by the given repository.
+     *
+     * @param jobRepository the repository holding the job executions
+     */
+    public SimpleJobOperator(JobRepository jobRepository) {
+        this.jobRepository = jobRepository;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public boolean stop(long executionId) {
+        JobExecution execution = jobRepository.getJobExecution(executionId);
+        if (execution == null) {
+            throw new IllegalArgumentException("No job execution with id " + executionId);
+        }
+        if (!execution.requestStop()) return false;
+        jobRepository.update(execution);
+        LOG.info("Stopping job {} execution {}", execution.getJobInstance().jobName(), executionId);
+        return true;
+    }
+}
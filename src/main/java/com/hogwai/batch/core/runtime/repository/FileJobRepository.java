@@ -0,0 +1,511 @@
+package com.hogwai.batch.core.runtime.repository;
+
+import com.hogwai.batch.core.config.JobParameters;
+import com.hogwai.batch.core.runtime.BatchStatus;
+import com.hogwai.batch.core.runtime.ExecutionContext;
+import com.hogwai.batch.core.runtime.ExitStatus;
+import com.hogwai.batch.core.runtime.JobExecution;
+import com.hogwai.batch.core.runtime.JobInstance;
+import com.hogwai.batch.core.runtime.StepExecution;
+import io.micronaut.context.annotation.Replaces;
+import io.micronaut.context.annotation.Requires;
+import io.micronaut.context.annotation.Value;
+import jakarta.annotation.PreDestroy;
+import jakarta.inject.Inject;
+import jakarta.inject.Singleton;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.time.Instant;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Durable {@link JobRepository} that appends every change to a local text file, one record per line,
+ * and rebuilds its state from that file on startup. Job instances, job executions, and step
+ * executions are written in full, together with their {@link ExecutionContext}, each time they are
+ * created or updated; the last record of an execution wins. When the repository is opened, the file
+ * is compacted to the last record of each execution, so it does not grow with every chunk commit.
+ * <p>
+ * Execution context values are limited to strings, longs, integers, doubles, and booleans: updating
+ * an execution whose context holds another type fails with an {@link IllegalArgumentException}
+ * naming the key, and nothing is written. The file is
+ * owned by a single process: executions still running when the file is loaded are considered
+ * abandoned by a crashed process and marked {@link BatchStatus#FAILED}, so that they can be restarted.
+ * <p>
+ * Enabled by setting {@code batch.repository.file.path}; set {@code batch.repository.file.sync}
+ * to {@code true} to force every record to disk rather than only to the operating system.
+ */
+@Singleton
+@Requires(property = "batch.repository.file.path")
+@Replaces(InMemoryJobRepository.class)
+public class FileJobRepository implements JobRepository, AutoCloseable {
+
+    private static final Logger LOG = LoggerFactory.getLogger(FileJobRepository.class);
+    private static final String INSTANCE = "I";
+    private static final String JOB_EXECUTION = "J";
+    private static final String STEP_EXECUTION = "S";
+    private static final String SEPARATOR = "\t";
+
+    private final Path path;
+    private final boolean sync;
+    private final Map<Long, JobInstance> instances = new LinkedHashMap<>();
+    private final Map<Long, JobParameters> instanceParameters = new HashMap<>();
+    private final Map<Long, JobExecution> executions = new LinkedHashMap<>();
+    private final Map<Long, StepExecution> stepExecutions = new HashMap<>();
+    private FileChannel channel;
+    private long recordCount;
+    private long instanceCounter = 1;
+    private long executionCounter = 1;
+    private long stepExecutionCounter = 1;
+
+    /**
+     * Creates a repository backed by the configured file.
+     *
+     * @param path the repository file, created if missing
+     * @param sync whether every record is forced to disk
+     * @throws UncheckedIOException if the file cannot be read or opened
+     */
+    @Inject
+    public FileJobRepository(@Value("${batch.repository.file.path}") String path,
+                             @Value("${batch.repository.file.sync:false}") boolean sync) {
+        this(Path.of(path), sync);
+    }
+
+    /**
+     * Creates a repository backed by the given file.
+     *
+     * @param path the repository file, created if missing
+     * @param sync whether every record is forced to disk
+     * @throws UncheckedIOException if the file cannot be read or opened
+     */
+    public FileJobRepository(Path path, boolean sync) {
+        this.path = path;
+        this.sync = sync;
+        try {
+            if (path.getParent() != null) Files.createDirectories(path.getParent());
+            channel = FileChannel.open(path, StandardOpenOption.CREATE, StandardOpenOption.READ,
+                    StandardOpenOption.WRITE);
+            truncatePartialRecord();
+            load();
+            compact();
+            channel.position(channel.size());
+            failAbandonedExecutions();
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to open job repository " + path, e);
+        }
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public synchronized JobInstance createJobInstance(String jobName, JobParameters jobParameters) {
+        JobInstance instance = new JobInstance(instanceCounter++, jobName);
+        instances.put(instance.id(), instance);
+        instanceParameters.put(instance.id(), jobParameters);
+        append(instanceRecord(instance));
+        return instance;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public synchronized JobExecution createJobExecution(JobInstance jobInstance, JobParameters jobParameters) {
+        JobExecution execution = new JobExecution(executionCounter++, jobInstance, jobParameters);
+        execution.setStartTime(Instant.now());
+        execution.setStatus(BatchStatus.STARTED);
+        executions.put(execution.getId(), execution);
+        update(execution);
+        return execution;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public synchronized StepExecution createStepExecution(JobExecution jobExecution, String stepName) {
+        StepExecution stepExecution = jobExecution.createStepExecution(stepExecutionCounter++, stepName);
+        stepExecutions.put(stepExecution.getId(), stepExecution);
+        update(stepExecution);
+        return stepExecution;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public synchronized void update(JobExecution execution) {
+        executions.put(execution.getId(), execution);
+        append(jobExecutionRecord(execution));
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public synchronized void update(StepExecution stepExecution) {
+        stepExecutions.put(stepExecution.getId(), stepExecution);
+        append(stepExecutionRecord(stepExecution));
+    }
+
+    private String instanceRecord(JobInstance instance) {
+        return record(INSTANCE, Long.toString(instance.id()), escape(instance.jobName()),
+                encode(instanceParameters.get(instance.id()).getParameters()));
+    }
+
+    private static String jobExecutionRecord(JobExecution execution) {
+        return record(JOB_EXECUTION,
+                Long.toString(execution.getId()),
+                Long.toString(execution.getJobInstance().id()),
+                execution.getStatus().name(),
+                escape(execution.getExitStatus().exitCode()),
+                escape(execution.getExitStatus().exitDescription()),
+                encode(execution.getStartTime()),
+                encode(execution.getEndTime()),
+                encode(execution.getJobParameters().getParameters()),
+                encode(execution.getExecutionContext()));
+    }
+
+    private static String stepExecutionRecord(StepExecution stepExecution) {
+        return record(STEP_EXECUTION,
+                Long.toString(stepExecution.getId()),
+                Long.toString(stepExecution.getJobExecution().getId()),
+                escape(stepExecution.getStepName()),
+                stepExecution.getStatus().name(),
+                escape(stepExecution.getExitStatus().exitCode()),
+                escape(stepExecution.getExitStatus().exitDescription()),
+                encode(stepExecution.getStartTime()),
+                encode(stepExecution.getEndTime()),
+                Long.toString(stepExecution.getReadCount()),
+                Long.toString(stepExecution.getWriteCount()),
+                Long.toString(stepExecution.getCommitCount()),
+                Long.toString(stepExecution.getRollbackCount()),
+                Long.toString(stepExecution.getFilterCount()),
+                Long.toString(stepExecution.getSkipCount()),
+                encode(stepExecution.getExecutionContext()));
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public synchronized JobInstance getJobInstance(String jobName, JobParameters jobParameters) {
+        JobInstance found = null;
+        for (JobInstance instance : instances.values()) {
+            if (instance.jobName().equals(jobName) && jobParameters.equals(instanceParameters.get(instance.id()))) {
+                found = instance;
+            }
+        }
+        return found;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public synchronized JobExecution getJobExecution(long executionId) {
+        return executions.get(executionId);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public synchronized JobExecution getLastJobExecution(JobInstance jobInstance) {
+        JobExecution last = null;
+        for (JobExecution execution : executions.values()) {
+            if (execution.getJobInstance().id() == jobInstance.id()
+                    && (last == null || execution.getId() > last.getId())) {
+                last = execution;
+            }
+        }
+        return last;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public synchronized StepExecution getLastStepExecution(JobInstance jobInstance, String stepName) {
+        StepExecution last = null;
+        for (JobExecution execution : executions.values()) {
+            if (execution.getJobInstance().id() != jobInstance.id()) continue;
+            for (StepExecution stepExecution : execution.getStepExecutions()) {
+                if (stepExecution.getStepName().equals(stepName)
+                        && (last == null || stepExecution.getId() > last.getId())) {
+                    last = stepExecution;
+                }
+            }
+        }
+        return last;
+    }
+
+    /**
+     * Closes the repository file.
+     *
+     * @throws UncheckedIOException if the file cannot be closed
+     */
+    @Override
+    @PreDestroy
+    public synchronized void close() {
+        try {
+            channel.close();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static String record(String... fields) {
+        return String.join(SEPARATOR, fields) + "\n";
+    }
+
+    private void append(String record) {
+        byte[] line = record.getBytes(StandardCharsets.UTF_8);
+        try {
+            ByteBuffer buffer = ByteBuffer.wrap(line);
+            while (buffer.hasRemaining()) {
+                channel.write(buffer);
+            }
+            if (sync) channel.force(false);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to write to job repository " + path, e);
+        }
+    }
+
+    /**
+     * Drops a last record left incomplete by a crash during a write, so that new records are not
+     * appended to it.
+     */
+    private void truncatePartialRecord() throws IOException {
+        long size = channel.size();
+        if (size == 0) return;
+        ByteBuffer single = ByteBuffer.allocate(1);
+        long end = size;
+        while (end > 0) {
+            single.clear();
+            channel.read(single, end - 1);
+            if (single.get(0) == '\n') break;
+            end--;
+        }
+        if (end < size) {
+            LOG.warn("Discarding incomplete last record of job repository {}", path);
+            channel.truncate(end);
+        }
+    }
+
+    private void load() throws IOException {
+        try (BufferedReader reader = Files.newBufferedReader(path, StandardCharsets.UTF_8)) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                if (line.isEmpty()) continue;
+                recordCount++;
+                String[] fields = line.split(SEPARATOR, -1);
+                switch (fields[0]) {
+                    case INSTANCE -> loadInstance(fields);
+                    case JOB_EXECUTION -> loadJobExecution(fields);
+                    case STEP_EXECUTION -> loadStepExecution(fields);
+                    default -> throw new IllegalStateException("Unknown record type in " + path + ": " + fields[0]);
+                }
+            }
+        }
+    }
+
+    /**
+     * Rewrites the file with only the latest record of each instance and execution, since every
+     * chunk commit appends a full step record. The compacted file is written next to the original
+     * and atomically moved over it, so a crash leaves one of the two complete files.
+     */
+    private void compact() throws IOException {
+        long liveCount = instances.size() + executions.size() + stepExecutions.size();
+        if (recordCount == liveCount) return;
+
+        Path compacted = path.resolveSibling(path.getFileName() + ".compact");
+        try (BufferedWriter writer = Files.newBufferedWriter(compacted, StandardCharsets.UTF_8)) {
+            for (JobInstance instance : instances.values()) {
+                writer.write(instanceRecord(instance));
+            }
+            for (JobExecution execution : executions.values()) {
+                writer.write(jobExecutionRecord(execution));
+            }
+            for (StepExecution stepExecution : new TreeMap<>(stepExecutions).values()) {
+                writer.write(stepExecutionRecord(stepExecution));
+            }
+        }
+        try (FileChannel written = FileChannel.open(compacted, StandardOpenOption.WRITE)) {
+            written.force(true);
+        }
+        channel.close();
+        Files.move(compacted, path, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        channel = FileChannel.open(path, StandardOpenOption.READ, StandardOpenOption.WRITE);
+        LOG.info("Compacted job repository {} from {} to {} records", path, recordCount, liveCount);
+        recordCount = liveCount;
+    }
+
+    private void loadInstance(String[] fields) {
+        long id = Long.parseLong(fields[1]);
+        instances.put(id, new JobInstance(id, unescape(fields[2])));
+        instanceParameters.put(id, decodeParameters(fields[3]));
+        instanceCounter = Math.max(instanceCounter, id + 1);
+    }
+
+    private void loadJobExecution(String[] fields) {
+        long id = Long.parseLong(fields[1]);
+        JobExecution execution = executions.get(id);
+        if (execution == null) {
+            JobInstance instance = instances.get(Long.parseLong(fields[2]));
+            execution = new JobExecution(id, instance, decodeParameters(fields[8]));
+            executions.put(id, execution);
+        }
+        execution.setStatus(BatchStatus.valueOf(fields[3]));
+        execution.setExitStatus(new ExitStatus(unescape(fields[4]), unescape(fields[5])));
+        execution.setStartTime(decodeInstant(fields[6]));
+        execution.setEndTime(decodeInstant(fields[7]));
+        decodeContext(fields[9], execution.getExecutionContext());
+        executionCounter = Math.max(executionCounter, id + 1);
+    }
+
+    private void loadStepExecution(String[] fields) {
+        long id = Long.parseLong(fields[1]);
+        StepExecution stepExecution = stepExecutions.get(id);
+        if (stepExecution == null) {
+            JobExecution execution = executions.get(Long.parseLong(fields[2]));
+            stepExecution = execution.createStepExecution(id, unescape(fields[3]));
+            stepExecutions.put(id, stepExecution);
+        }
+        stepExecution.setStatus(BatchStatus.valueOf(fields[4]));
+        stepExecution.setExitStatus(new ExitStatus(unescape(fields[5]), unescape(fields[6])));
+        stepExecution.setStartTime(decodeInstant(fields[7]));
+        stepExecution.setEndTime(decodeInstant(fields[8]));
+        stepExecution.setReadCount(Long.parseLong(fields[9]));
+        stepExecution.setWriteCount(Long.parseLong(fields[10]));
+        stepExecution.setCommitCount(Long.parseLong(fields[11]));
+        stepExecution.setRollbackCount(Long.parseLong(fields[12]));
+        stepExecution.setFilterCount(Long.parseLong(fields[13]));
+        stepExecution.setSkipCount(Long.parseLong(fields[14]));
+        decodeContext(fields[15], stepExecution.getExecutionContext());
+        stepExecutionCounter = Math.max(stepExecutionCounter, id + 1);
+    }
+
+    private void failAbandonedExecutions() {
+        ExitStatus abandoned = new ExitStatus(ExitStatus.FAILED_LABEL, "Abandoned by a previous process");
+        for (StepExecution stepExecution : List.copyOf(stepExecutions.values())) {
+            if (isRunning(stepExecution.getStatus())) {
+                stepExecution.setStatus(BatchStatus.FAILED);
+                stepExecution.setExitStatus(abandoned);
+                update(stepExecution);
+            }
+        }
+        for (JobExecution execution : List.copyOf(executions.values())) {
+            if (isRunning(execution.getStatus())) {
+                LOG.warn("Marking abandoned job execution {} of {} as FAILED",
+                        execution.getId(), execution.getJobInstance().jobName());
+                execution.setStatus(BatchStatus.FAILED);
+                execution.setExitStatus(abandoned);
+                update(execution);
+            }
+        }
+    }
+
+    private static boolean isRunning(BatchStatus status) {
+        return status == BatchStatus.STARTING || status == BatchStatus.STARTED || status == BatchStatus.STOPPING;
+    }
+
+    private static String encode(Instant instant) {
+        return instant == null ? "" : instant.toString();
+    }
+
+    private static Instant decodeInstant(String value) {
+        return value.isEmpty() ? null : Instant.parse(value);
+    }
+
+    private static String encode(ExecutionContext context) {
+        Map<String, Object> values = new LinkedHashMap<>();
+        context.entrySet().forEach(e -> values.put(e.getKey(), e.getValue()));
+        return encode(values);
+    }
+
+    /**
+     * Encodes a map as comma-separated {@code key=type:value} entries, the type being one of
+     * {@code S} (string), {@code L} (long), {@code I} (integer), {@code D} (double), {@code B} (boolean).
+     */
+    private static String encode(Map<String, Object> values) {
+        StringBuilder encoded = new StringBuilder();
+        for (Map.Entry<String, Object> entry : values.entrySet()) {
+            if (!encoded.isEmpty()) encoded.append(',');
+            encoded.append(escape(entry.getKey())).append('=').append(typeOf(entry)).append(':')
+                   .append(escape(String.valueOf(entry.getValue())));
+        }
+        return encoded.toString();
+    }
+
+    private static char typeOf(Map.Entry<String, Object> entry) {
+        Object value = entry.getValue();
+        if (value instanceof String) return 'S';
+        if (value instanceof Long) return 'L';
+        if (value instanceof Integer) return 'I';
+        if (value instanceof Double) return 'D';
+        if (value instanceof Boolean) return 'B';
+        throw new IllegalArgumentException("Unsupported value type " + value.getClass().getName()
+                + " for key " + entry.getKey());
+    }
+
+    private static Map<String, Object> decode(String encoded) {
+        Map<String, Object> values = new LinkedHashMap<>();
+        if (encoded.isEmpty()) return values;
+        for (String entry : encoded.split(",")) {
+            int equals = entry.indexOf('=');
+            String raw = unescape(entry.substring(equals + 3));
+            Object value = switch (entry.charAt(equals + 1)) {
+                case 'S' -> raw;
+                case 'L' -> Long.parseLong(raw);
+                case 'I' -> Integer.parseInt(raw);
+                case 'D' -> Double.parseDouble(raw);
+                case 'B' -> Boolean.parseBoolean(raw);
+                default -> throw new IllegalStateException("Unknown value type in entry " + entry);
+            };
+            values.put(unescape(entry.substring(0, equals)), value);
+        }
+        return values;
+    }
+
+    private static void decodeContext(String encoded, ExecutionContext context) {
+        decode(encoded).forEach(context::put);
+    }
+
+    private static JobParameters decodeParameters(String encoded) {
+        JobParameters.JobParametersBuilder builder = JobParameters.builder();
+        decode(encoded).forEach((key, value) -> {
+            if (value instanceof Long l) builder.addLong(key, l);
+            else builder.addString(key, String.valueOf(value));
+        });
+        return builder.toJobParameters();
+    }
+
+    /** Percent-encodes the characters used as separators in records. */
+    private static String escape(String value) {
+        if (value == null) return "";
+        StringBuilder escaped = null;
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            boolean special = c == '%' || c == '\t' || c == '\n' || c == '\r' || c == ',' || c == '=';
+            if (special && escaped == null) escaped = new StringBuilder(value.substring(0, i));
+            if (escaped == null) continue;
+            if (special) escaped.append('%').append(String.format("%02X", (int) c));
+            else escaped.append(c);
+        }
+        return escaped == null ? value : escaped.toString();
+    }
+
+    private static String unescape(String value) {
+        if (value.indexOf('%') < 0) return value;
+        StringBuilder unescaped = new StringBuilder(value.length());
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if (c == '%') {
+                unescaped.append((char) Integer.parseInt(value.substring(i + 1, i + 3), 16));
+                i += 2;
+            } else {
+                unescaped.append(c);
+            }
+        }
+        return unescaped.toString();
+    }
+}
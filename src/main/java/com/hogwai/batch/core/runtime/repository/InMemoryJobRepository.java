@@ -9,6 +9,7 @@ import io.micronaut.context.annotation.Primary;
 import jakarta.inject.Singleton;
 
 import java.time.Instant;
+import java.util.Comparator;
 import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.atomic.AtomicLong;
@@ -24,6 +25,7 @@ public class InMemoryJobRepository implements JobRepository {
     private final AtomicLong executionCounter = new AtomicLong(1);
     private final AtomicLong stepExecutionCounter = new AtomicLong(1);
     private final Map<Long, JobInstance> instances = new ConcurrentHashMap<>();
+    private final Map<Long, JobParameters> instanceParameters = new ConcurrentHashMap<>();
     private final Map<Long, JobExecution> executions = new ConcurrentHashMap<>();
 
     /** {@inheritDoc} */
@@ -31,6 +33,7 @@ public class InMemoryJobRepository implements JobRepository {
     public JobInstance createJobInstance(String jobName, JobParameters jobParameters) {
         JobInstance instance = new JobInstance(instanceCounter.getAndIncrement(), jobName);
         instances.put(instance.id(), instance);
+        instanceParameters.put(instance.id(), jobParameters);
         return instance;
     }
 
@@ -62,13 +65,38 @@ public class InMemoryJobRepository implements JobRepository {
         // In-memory: already updated by reference
     }
 
-    /**
-     * Retrieves a job execution by its identifier.
-     *
-     * @param executionId the execution identifier
-     * @return the job execution, or {@code null} if not found
-     */
-    public JobExecution getJobExecution(Long executionId) {
+    /** {@inheritDoc} */
+    @Override
+    public JobInstance getJobInstance(String jobName, JobParameters jobParameters) {
+        return instances.values().stream()
+                        .filter(i -> i.jobName().equals(jobName) && jobParameters.equals(instanceParameters.get(i.id())))
+                        .max(Comparator.comparingLong(JobInstance::id))
+                        .orElse(null);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public JobExecution getJobExecution(long executionId) {
         return executions.get(executionId);
     }
+
+    /** {@inheritDoc} */
+    @Override
+    public JobExecution getLastJobExecution(JobInstance jobInstance) {
+        return executions.values().stream()
+                         .filter(e -> e.getJobInstance().id() == jobInstance.id())
+                         .max(Comparator.comparingLong(JobExecution::getId))
+                         .orElse(null);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public StepExecution getLastStepExecution(JobInstance jobInstance, String stepName) {
+        return executions.values().stream()
+                         .filter(e -> e.getJobInstance().id() == jobInstance.id())
+                         .flatMap(e -> e.getStepExecutions().stream())
+                         .filter(se -> se.getStepName().equals(stepName))
+                         .max(Comparator.comparingLong(StepExecution::getId))
+                         .orElse(null);
+    }
 }
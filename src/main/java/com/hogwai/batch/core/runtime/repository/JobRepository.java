@@ -6,7 +6,8 @@ import com.hogwai.batch.core.runtime.JobInstance;
 import com.hogwai.batch.core.runtime.StepExecution;
 
 /**
- * Persistence interface for creating and updating job and step execution metadata.
+ * Persistence interface for creating, updating, and looking up job and step execution metadata.
+ * The lookup methods let a launcher find the last execution of a job instance in order to restart it.
  */
 public interface JobRepository {
 
@@ -50,4 +51,38 @@ public interface JobRepository {
      * @param stepExecution the step execution to update
      */
     void update(StepExecution stepExecution);
+
+    /**
+     * Finds the job instance created for the given job name and parameters.
+     *
+     * @param jobName       the name of the job
+     * @param jobParameters the parameters identifying the instance
+     * @return the most recent matching job instance, or {@code null} if none exists
+     */
+    JobInstance getJobInstance(String jobName, JobParameters jobParameters);
+
+    /**
+     * Retrieves a job execution by its identifier.
+     *
+     * @param executionId the execution identifier
+     * @return the job execution, or {@code null} if not found
+     */
+    JobExecution getJobExecution(long executionId);
+
+    /**
+     * Retrieves the most recent execution of a job instance.
+     *
+     * @param jobInstance the job instance
+     * @return the last job execution, or {@code null} if the instance has never been executed
+     */
+    JobExecution getLastJobExecution(JobInstance jobInstance);
+
+    /**
+     * Retrieves the most recent execution of a step across all executions of a job instance.
+     *
+     * @param jobInstance the job instance
+     * @param stepName    the name of the step
+     * @return the last step execution, or {@code null} if the step has never been executed
+     */
+    StepExecution getLastStepExecution(JobInstance jobInstance, String stepName);
 }
@@ -2,8 +2,8 @@ package com.hogwai.example.simple;
 
 import com.hogwai.batch.core.config.JobParameters;
 import com.hogwai.batch.core.definition.Job;
-import com.hogwai.batch.core.runtime.JobExecution;
-import com.hogwai.batch.core.runtime.launcher.JobLauncher;
+import com.hogwai.batch.core.runtime.launcher.AsyncJobLauncher;
+import com.hogwai.batch.core.runtime.launcher.JobHandle;
 import io.micronaut.context.ApplicationContext;
 import io.micronaut.context.event.StartupEvent;
 import io.micronaut.runtime.event.annotation.EventListener;
@@ -19,11 +19,11 @@ public class BatchRunner {
     private static final Logger LOG = LoggerFactory.getLogger(BatchRunner.class);
 
 
-    private final JobLauncher jobLauncher;
+    private final AsyncJobLauncher jobLauncher;
     private final Job importJob;
     private final ApplicationContext ctx;
 
-    public BatchRunner(JobLauncher jobLauncher,
+    public BatchRunner(AsyncJobLauncher jobLauncher,
                        @Named("importJob") Job importJob,
                        ApplicationContext ctx) {
         this.jobLauncher = jobLauncher;
@@ -38,16 +38,13 @@ public class BatchRunner {
                                             .addLong("run.id", System.currentTimeMillis())
                                             .toJobParameters();
 
-        try {
-            JobExecution exec = jobLauncher.run(importJob, params);
+        JobHandle handle = jobLauncher.start(importJob, params);
+        LOG.info("Job {} started as execution {}", importJob.getName(), handle.execution().getId());
 
-            LOG.info("Job {} ended with status {}", importJob.getName(), exec.getStatus());
-        } catch (Exception e) {
-            String msg = "Error while running job %s: ".formatted(importJob.getName());
-            LOG.error(msg, e);
-            throw new RuntimeException(e);
-        } finally {
+        // failures are logged by the launcher
+        handle.completion().whenComplete((exec, e) -> {
+            LOG.info("Job {} ended with status {}", importJob.getName(), handle.execution().getStatus());
             ctx.close();
-        }
+        });
     }
 }
@@ -1,44 +1,70 @@
 package com.hogwai.example.simple.config;
 
 import com.hogwai.batch.core.ItemReader;
+import com.hogwai.batch.core.ItemStream;
+import com.hogwai.batch.core.item.file.DelimitedLineTokenizer;
+import com.hogwai.batch.core.item.file.FieldSetMapper;
+import com.hogwai.batch.core.item.file.FlatFileItemReader;
+import com.hogwai.batch.core.item.file.IntrospectedFieldSetMapper;
+import com.hogwai.batch.core.item.file.MappedFileItemReader;
+import com.hogwai.batch.core.runtime.ExecutionContext;
 import com.hogwai.example.simple.model.Person;
-import com.opencsv.bean.CsvToBean;
-import com.opencsv.bean.CsvToBeanBuilder;
 import io.micronaut.context.annotation.Value;
 import io.micronaut.core.io.ResourceLoader;
 import jakarta.inject.Singleton;
 
 import java.io.FileNotFoundException;
-import java.io.IOException;
 import java.io.InputStreamReader;
+import java.net.URISyntaxException;
+import java.net.URL;
 import java.nio.charset.StandardCharsets;
-import java.util.Iterator;
+import java.nio.file.Path;
 
 @Singleton
-public class CsvPersonReader implements ItemReader<Person> {
-    private final Iterator<Person> iterator;
+public class CsvPersonReader implements ItemReader<Person>, ItemStream {
+    private static final FieldSetMapper<Person> PERSON_MAPPER = new IntrospectedFieldSetMapper<>(Person.class);
+
+    private final ItemReader<Person> delegate;
+    private final ItemStream stream;
 
     public CsvPersonReader(ResourceLoader resourceLoader,
-                           @Value("${csv.path}") String csvPath) throws FileNotFoundException {
-        iterator = resourceLoader.getResourceAsStream(csvPath)
-                                 .map(stream -> {
-                                     try (var reader = new InputStreamReader(stream, StandardCharsets.UTF_8)) {
-                                         CsvToBean<Person> csvToBean = new CsvToBeanBuilder<Person>(reader)
-                                                 .withType(Person.class)
-                                                 .withIgnoreLeadingWhiteSpace(true)
-                                                 .withSeparator(';')
-                                                 .build();
-                                         return csvToBean.parse();
-                                     } catch (IOException e) {
-                                         throw new RuntimeException(e);
-                                     }
-                                 })
-                                 .orElseThrow(() -> new FileNotFoundException("File not found"))
-                                 .iterator();
+                           @Value("${csv.path}") String csvPath) throws FileNotFoundException, URISyntaxException {
+        URL resource = resourceLoader.getResource(csvPath)
+                                     .orElseThrow(() -> new FileNotFoundException("File not found"));
+        // Files on disk are memory-mapped; resources packaged in a jar are streamed
+        if ("file".equals(resource.getProtocol())) {
+            MappedFileItemReader<Person> reader = new MappedFileItemReader<>(
+                    Path.of(resource.toURI()), StandardCharsets.UTF_8, ';', PERSON_MAPPER, true);
+            delegate = reader;
+            stream = reader;
+        } else {
+            FlatFileItemReader<Person> reader = new FlatFileItemReader<>(
+                    () -> new InputStreamReader(resource.openStream(), StandardCharsets.UTF_8),
+                    new DelimitedLineTokenizer(';', true),
+                    PERSON_MAPPER,
+                    true);
+            delegate = reader;
+            stream = reader;
+        }
+    }
+
+    @Override
+    public void open(ExecutionContext executionContext) {
+        stream.open(executionContext);
+    }
+
+    @Override
+    public void update(ExecutionContext executionContext) {
+        stream.update(executionContext);
+    }
+
+    @Override
+    public void close() {
+        stream.close();
     }
 
     @Override
     public Person read() {
-        return iterator.hasNext() ? iterator.next() : null;
+        return delegate.read();
     }
 }
@@ -7,6 +7,8 @@ import com.hogwai.batch.core.definition.Step;
 import com.hogwai.batch.core.listener.JobExecutionListener;
 import com.hogwai.batch.core.runtime.JobExecution;
 import com.hogwai.example.simple.model.Person;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
 import io.micronaut.context.annotation.Bean;
 import io.micronaut.context.annotation.Factory;
 import jakarta.inject.Named;
@@ -43,13 +45,15 @@ public class JobConfig {
     public Step importStep(
             CsvPersonReader reader,
             UppercaseProcessor processor,
-            ConsoleWriter writer
+            ConsoleWriter writer,
+            MeterRegistry meterRegistry
     ) {
         return new StepBuilder("importStep")
                 .<Person, Person>chunk(2)
                 .reader(reader)
                 .processor(processor)
                 .writer(writer)
+                .metrics(meterRegistry, Tags.of("job", "importJob"))
                 .build();
     }
 }
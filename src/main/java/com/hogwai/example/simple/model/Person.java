@@ -1,16 +1,14 @@
 package com.hogwai.example.simple.model;
 
-import com.opencsv.bean.CsvBindByName;
+import io.micronaut.core.annotation.Introspected;
 
+@Introspected
 public class Person {
 
-    @CsvBindByName(column = "id")
     private String id;
 
-    @CsvBindByName(column = "name")
     private String name;
 
-    @CsvBindByName(column = "email")
     private String email;
 
     // Constructeur par défaut
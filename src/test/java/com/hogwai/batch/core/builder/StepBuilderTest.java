@@ -1,7 +1,11 @@
 package com.hogwai.batch.core.builder;
 
 import com.hogwai.batch.core.definition.Step;
+import com.hogwai.batch.core.remote.RemoteChunkWriter;
 import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
 import static org.assertj.core.api.Assertions.*;
 
 class StepBuilderTest {
@@ -38,4 +42,34 @@ class StepBuilderTest {
 
         assertThat(step.getName()).isEqualTo("step");
     }
+
+    @Test
+    void shouldRejectBatchProcessorCombinedWithItemProcessor() {
+        assertThatThrownBy(() ->
+            new StepBuilder("step")
+                .<String, String>chunk(10)
+                .reader(() -> null)
+                .processor(String::trim)
+                .batchProcessor(items -> List.copyOf(items))
+                .writer(items -> {})
+                .build()
+        ).isInstanceOf(IllegalStateException.class)
+         .hasMessageContaining("mutually exclusive");
+    }
+
+    @Test
+    void shouldRejectRemoteChunkWriterInFaultTolerantStep() {
+        RemoteChunkWriter<String> writer = new RemoteChunkWriter<>(request -> {
+            throw new IllegalStateException("not sent");
+        });
+
+        assertThatThrownBy(() ->
+            new StepBuilder("step")
+                .<String, String>chunk(10)
+                .reader(() -> null)
+                .writer(writer)
+                .faultTolerant()
+        ).isInstanceOf(IllegalStateException.class)
+         .hasMessageContaining("remote chunk writers are not supported by fault-tolerant steps");
+    }
 }
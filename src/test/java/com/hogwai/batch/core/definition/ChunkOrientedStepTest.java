@@ -1,12 +1,18 @@
 package com.hogwai.batch.core.definition;
 
+import com.hogwai.batch.core.ItemReader;
+import com.hogwai.batch.core.ItemStream;
+import com.hogwai.batch.core.runtime.ExecutionContext;
 import com.hogwai.batch.core.runtime.JobExecution;
 import com.hogwai.batch.core.runtime.StepExecution;
 import org.junit.jupiter.api.Test;
 
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.Iterator;
 import java.util.List;
+import java.util.concurrent.locks.LockSupport;
+import java.util.stream.IntStream;
 
 import static org.assertj.core.api.Assertions.*;
 
@@ -118,4 +124,222 @@ class ChunkOrientedStepTest {
         assertThat(written).containsExactly("keep", "keep2");
         assertThat(stepExec.getFilterCount()).isEqualTo(1);
     }
+
+    @Test
+    void shouldProcessAllItemsWithConcurrentWorkers() throws Exception {
+        Iterator<Integer> data = IntStream.rangeClosed(1, 1000).boxed().iterator();
+        List<Integer> written = Collections.synchronizedList(new ArrayList<>());
+
+        ChunkOrientedStep<Integer, Integer> step = new ChunkOrientedStep<>(
+                "step1", 10,
+                () -> data.hasNext() ? data.next() : null,
+                i -> i % 10 == 0 ? null : i,
+                written::addAll,
+                List.of(), List.of()
+        );
+        step.setConcurrency(4);
+
+        StepExecution stepExec = createStepExecution();
+        step.execute(stepExec);
+
+        assertThat(written).hasSize(900).doesNotHaveDuplicates();
+        assertThat(stepExec.getReadCount()).isEqualTo(1000);
+        assertThat(stepExec.getFilterCount()).isEqualTo(100);
+        assertThat(stepExec.getWriteCount()).isEqualTo(900);
+    }
+
+    @Test
+    void shouldPropagateWorkerFailure() {
+        Iterator<Integer> data = IntStream.rangeClosed(1, 100).boxed().iterator();
+
+        ChunkOrientedStep<Integer, Integer> step = new ChunkOrientedStep<>(
+                "step1", 5,
+                () -> data.hasNext() ? data.next() : null,
+                i -> {
+                    if (i == 42) throw new IllegalStateException("boom");
+                    return i;
+                },
+                items -> {},
+                List.of(), List.of()
+        );
+        step.setConcurrency(3);
+
+        assertThatThrownBy(() -> step.execute(createStepExecution()))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessage("boom");
+    }
+
+    @Test
+    void shouldKeepInputOrderWithVirtualThreadProcessing() throws Exception {
+        Iterator<Integer> data = IntStream.rangeClosed(1, 50).boxed().iterator();
+        List<Integer> written = new ArrayList<>();
+
+        ChunkOrientedStep<Integer, Integer> step = new ChunkOrientedStep<>(
+                "step1", 20,
+                () -> data.hasNext() ? data.next() : null,
+                i -> {
+                    LockSupport.parkNanos((50 - i) * 1_000_000L);
+                    return i % 5 == 0 ? null : i;
+                },
+                written::addAll,
+                List.of(), List.of()
+        );
+        step.setVirtualThreadProcessing(8);
+
+        StepExecution stepExec = createStepExecution();
+        step.execute(stepExec);
+
+        assertThat(written).isSorted().hasSize(40);
+        assertThat(stepExec.getReadCount()).isEqualTo(50);
+        assertThat(stepExec.getFilterCount()).isEqualTo(10);
+        assertThat(stepExec.getCommitCount()).isEqualTo(3);
+    }
+
+    @Test
+    void shouldCallBatchProcessorOncePerChunk() throws Exception {
+        Iterator<Integer> data = IntStream.rangeClosed(1, 25).boxed().iterator();
+        List<List<Integer>> batches = new ArrayList<>();
+        List<Integer> written = new ArrayList<>();
+
+        ChunkOrientedStep<Integer, Integer> step = new ChunkOrientedStep<>(
+                "step1", 10,
+                () -> data.hasNext() ? data.next() : null,
+                null,
+                written::addAll,
+                List.of(), List.of()
+        );
+        step.setBatchProcessor(items -> {
+            batches.add(List.copyOf(items));
+            return items.stream().map(i -> i % 5 == 0 ? null : i * 10).toList();
+        });
+
+        StepExecution stepExec = createStepExecution();
+        step.execute(stepExec);
+
+        assertThat(batches).extracting(List::size).containsExactly(10, 10, 5);
+        assertThat(written).hasSize(20).startsWith(10, 20, 30, 40, 60);
+        assertThat(stepExec.getFilterCount()).isEqualTo(5);
+        assertThat(stepExec.getCommitCount()).isEqualTo(3);
+    }
+
+    @Test
+    void shouldRejectBatchProcessorOutputsOfWrongSize() {
+        Iterator<Integer> data = List.of(1, 2, 3).iterator();
+
+        ChunkOrientedStep<Integer, Integer> step = new ChunkOrientedStep<>(
+                "step1", 10,
+                () -> data.hasNext() ? data.next() : null,
+                null,
+                items -> {},
+                List.of(), List.of()
+        );
+        step.setBatchProcessor(items -> List.of(1));
+
+        assertThatThrownBy(() -> step.execute(createStepExecution()))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessageContaining("returned 1 outputs for 3 items");
+    }
+
+    @Test
+    void shouldOpenUpdateAndCloseStreams() throws Exception {
+        List<String> calls = new ArrayList<>();
+        CountingReader reader = new CountingReader(5, calls);
+        List<Integer> written = new ArrayList<>();
+
+        ChunkOrientedStep<Integer, Integer> step = new ChunkOrientedStep<>(
+                "step1", 2, reader, null, written::addAll, List.of(), List.of());
+
+        StepExecution stepExec = createStepExecution();
+        step.execute(stepExec);
+
+        assertThat(written).containsExactly(1, 2, 3, 4, 5);
+        assertThat(calls).containsExactly("open", "update", "update", "update", "close");
+        assertThat(stepExec.getExecutionContext().getLong("counter.position")).isEqualTo(5);
+        assertThat(stepExec.getExecutionContext().containsKey(ChunkProgress.READ_COUNT_KEY)).isFalse();
+    }
+
+    @Test
+    void shouldResumeStreamFromSavedState() throws Exception {
+        CountingReader reader = new CountingReader(5, new ArrayList<>());
+        List<Integer> written = new ArrayList<>();
+
+        ChunkOrientedStep<Integer, Integer> step = new ChunkOrientedStep<>(
+                "step1", 2, reader, null, written::addAll, List.of(), List.of());
+
+        StepExecution stepExec = createStepExecution();
+        stepExec.getExecutionContext().putLong("counter.position", 2);
+        step.execute(stepExec);
+
+        assertThat(written).containsExactly(3, 4, 5);
+        assertThat(stepExec.getReadCount()).isEqualTo(3);
+    }
+
+    @Test
+    void shouldTrackSharedStreamReaderByCountWithConcurrentWorkers() throws Exception {
+        List<String> calls = Collections.synchronizedList(new ArrayList<>());
+        CountingReader reader = new CountingReader(100, calls);
+
+        ChunkOrientedStep<Integer, Integer> step = new ChunkOrientedStep<>(
+                "step1", 5, reader, null, items -> {}, List.of(), List.of());
+        step.setConcurrency(4);
+
+        StepExecution stepExec = createStepExecution();
+        step.execute(stepExec);
+
+        assertThat(calls).containsExactly("open", "close");
+        assertThat(stepExec.getExecutionContext().getLong(ChunkProgress.READ_COUNT_KEY)).isEqualTo(100);
+        assertThat(stepExec.getExecutionContext().containsKey("counter.position")).isFalse();
+    }
+
+    @Test
+    void shouldResumeConcurrentWorkersAfterCommittedItems() throws Exception {
+        CountingReader reader = new CountingReader(100, new ArrayList<>());
+        List<Integer> written = Collections.synchronizedList(new ArrayList<>());
+
+        ChunkOrientedStep<Integer, Integer> step = new ChunkOrientedStep<>(
+                "step1", 5, reader, null, written::addAll, List.of(), List.of());
+        step.setConcurrency(4);
+
+        StepExecution stepExec = createStepExecution();
+        stepExec.getExecutionContext().putLong(ChunkProgress.READ_COUNT_KEY, 60);
+        step.execute(stepExec);
+
+        assertThat(written).hasSize(40).allMatch(i -> i > 60);
+        assertThat(stepExec.getExecutionContext().getLong(ChunkProgress.READ_COUNT_KEY)).isEqualTo(100);
+    }
+
+    private static class CountingReader implements ItemReader<Integer>, ItemStream {
+
+        private final int count;
+        private final List<String> calls;
+        private int position;
+
+        CountingReader(int count, List<String> calls) {
+            this.count = count;
+            this.calls = calls;
+        }
+
+        @Override
+        public Integer read() {
+            return position < count ? ++position : null;
+        }
+
+        @Override
+        public void open(ExecutionContext executionContext) {
+            calls.add("open");
+            Long saved = executionContext.getLong("counter.position");
+            position = saved != null ? saved.intValue() : 0;
+        }
+
+        @Override
+        public void update(ExecutionContext executionContext) {
+            calls.add("update");
+            executionContext.putLong("counter.position", position);
+        }
+
+        @Override
+        public void close() {
+            calls.add("close");
+        }
+    }
 }
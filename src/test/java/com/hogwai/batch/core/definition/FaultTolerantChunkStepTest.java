@@ -1,16 +1,23 @@
 package com.hogwai.batch.core.definition;
 
 import com.hogwai.batch.core.builder.StepBuilder;
+import com.hogwai.batch.core.listener.SkipListener;
+import com.hogwai.batch.core.policy.CircuitBreakerOpenException;
+import com.hogwai.batch.core.policy.CircuitBreakerPolicy;
+import com.hogwai.batch.core.policy.FixedBackoffPolicy;
 import com.hogwai.batch.core.policy.SimpleRetryPolicy;
 import com.hogwai.batch.core.policy.SimpleSkipPolicy;
 import com.hogwai.batch.core.runtime.JobExecution;
 import com.hogwai.batch.core.runtime.StepExecution;
 import org.junit.jupiter.api.Test;
 
+import java.time.Duration;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.Iterator;
 import java.util.List;
 import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
 
 import static org.assertj.core.api.Assertions.*;
 
@@ -93,4 +100,298 @@ class FaultTolerantChunkStepTest {
         assertThatThrownBy(() -> step.execute(stepExec))
                 .isInstanceOf(IllegalArgumentException.class);
     }
+
+    @Test
+    void shouldSkipAndRetryWithVirtualThreadProcessing() throws Exception {
+        Iterator<String> data = List.of("a", "bad", "b", "flaky", "c").iterator();
+        List<String> written = new ArrayList<>();
+        AtomicInteger flakyAttempts = new AtomicInteger();
+
+        Step step = new StepBuilder("virtualStep")
+                .<String, String>chunk(10)
+                .reader(() -> data.hasNext() ? data.next() : null)
+                .processor(item -> {
+                    if ("bad".equals(item)) throw new IllegalArgumentException("bad item");
+                    if ("flaky".equals(item) && flakyAttempts.incrementAndGet() < 2) {
+                        throw new IllegalStateException("transient");
+                    }
+                    return item.toUpperCase();
+                })
+                .writer(written::addAll)
+                .virtualThreadProcessing(4)
+                .faultTolerant()
+                .retryPolicy(retryOnly(IllegalStateException.class))
+                .skipPolicy(new SimpleSkipPolicy(1))
+                .build();
+
+        StepExecution stepExec = createStepExecution();
+        step.execute(stepExec);
+
+        assertThat(written).containsExactly("A", "B", "FLAKY", "C");
+        assertThat(stepExec.getSkipCount()).isEqualTo(1);
+    }
+
+    @Test
+    void shouldKeepProcessingOtherItemsDuringBackoffWithVirtualThreadProcessing() throws Exception {
+        Iterator<String> data = List.of("flaky", "a", "b", "c").iterator();
+        List<String> processed = Collections.synchronizedList(new ArrayList<>());
+        List<String> written = new ArrayList<>();
+        AtomicInteger flakyAttempts = new AtomicInteger();
+
+        Step step = new StepBuilder("backoffStep")
+                .<String, String>chunk(10)
+                .reader(() -> data.hasNext() ? data.next() : null)
+                .processor(item -> {
+                    processed.add(item);
+                    if ("flaky".equals(item) && flakyAttempts.incrementAndGet() < 2) {
+                        throw new IllegalStateException("transient");
+                    }
+                    return item.toUpperCase();
+                })
+                .writer(written::addAll)
+                .virtualThreadProcessing(1)
+                .faultTolerant()
+                .retryPolicy(retryOnly(IllegalStateException.class))
+                .backoffPolicy(new FixedBackoffPolicy(200))
+                .build();
+
+        step.execute(createStepExecution());
+
+        assertThat(processed).containsExactly("flaky", "a", "b", "c", "flaky");
+        assertThat(written).containsExactly("FLAKY", "A", "B", "C");
+    }
+
+    @Test
+    void shouldFailFastOnceCircuitBreakerOpens() {
+        AtomicInteger processorCalls = new AtomicInteger();
+
+        Step step = new StepBuilder("breakerStep")
+                .<Integer, Integer>chunk(10)
+                .reader(new AtomicInteger()::incrementAndGet)
+                .processor(item -> {
+                    processorCalls.incrementAndGet();
+                    throw new IllegalStateException("down");
+                })
+                .writer(items -> {})
+                .faultTolerant()
+                .retryPolicy(retryOnly(IllegalStateException.class))
+                .skipPolicy(new SimpleSkipPolicy(100))
+                .circuitBreaker(new CircuitBreakerPolicy(4, 0.5, Duration.ofMinutes(1)))
+                .build();
+
+        assertThatThrownBy(() -> step.execute(createStepExecution()))
+                .isInstanceOf(CircuitBreakerOpenException.class);
+        assertThat(processorCalls).hasValue(4);
+    }
+
+    @Test
+    void shouldNotScanChunkWhileCircuitBreakerIsOpen() {
+        Iterator<String> data = List.of("a", "b", "c", "d").iterator();
+        AtomicInteger writeCalls = new AtomicInteger();
+
+        Step step = new StepBuilder("breakerWriteStep")
+                .<String, String>chunk(4)
+                .reader(() -> data.hasNext() ? data.next() : null)
+                .writer(items -> {
+                    writeCalls.incrementAndGet();
+                    throw new IllegalStateException("down");
+                })
+                .faultTolerant()
+                .retryPolicy(retryOnly(IllegalStateException.class))
+                .skipPolicy(new SimpleSkipPolicy(10))
+                .circuitBreaker(new CircuitBreakerPolicy(2, 1.0, Duration.ofMinutes(1)))
+                .build();
+
+        assertThatThrownBy(() -> step.execute(createStepExecution()))
+                .isInstanceOf(CircuitBreakerOpenException.class);
+        assertThat(writeCalls).hasValue(2);
+    }
+
+    @Test
+    void shouldReleaseCircuitBreakerProbeWhenCallThrowsError() throws Exception {
+        CircuitBreakerPolicy breaker = new CircuitBreakerPolicy(1, 1.0, Duration.ofMillis(10));
+        Step failing = breakerStep(breaker, new IllegalStateException("down"));
+        Step erroring = breakerStep(breaker, new AssertionError("probe"));
+        Step healthy = breakerStep(breaker, null);
+
+        assertThatThrownBy(() -> failing.execute(createStepExecution())).hasMessage("down");
+        Thread.sleep(20);
+        assertThatThrownBy(() -> erroring.execute(createStepExecution())).isInstanceOf(AssertionError.class);
+        assertThat(breaker.getState()).isEqualTo(CircuitBreakerPolicy.State.OPEN);
+        Thread.sleep(20);
+        healthy.execute(createStepExecution());
+
+        assertThat(breaker.getState()).isEqualTo(CircuitBreakerPolicy.State.CLOSED);
+    }
+
+    @Test
+    void shouldRetryBatchProcessorAsWhole() throws Exception {
+        Iterator<String> data = List.of("a", "b", "c").iterator();
+        List<String> written = new ArrayList<>();
+        AtomicInteger calls = new AtomicInteger();
+
+        Step step = new StepBuilder("batchRetryStep")
+                .<String, String>chunk(10)
+                .reader(() -> data.hasNext() ? data.next() : null)
+                .batchProcessor(items -> {
+                    if (calls.incrementAndGet() < 3) throw new IllegalStateException("transient");
+                    return items.stream().map(String::toUpperCase).toList();
+                })
+                .writer(written::addAll)
+                .faultTolerant()
+                .retryPolicy(retryOnly(IllegalStateException.class))
+                .build();
+
+        step.execute(createStepExecution());
+
+        assertThat(calls).hasValue(3);
+        assertThat(written).containsExactly("A", "B", "C");
+    }
+
+    @Test
+    void shouldIsolateFailingItemsOfBatchProcessorByBisection() throws Exception {
+        Iterator<Integer> data = IntStream.rangeClosed(1, 8).boxed().iterator();
+        List<Integer> written = new ArrayList<>();
+        List<Integer> skipped = new ArrayList<>();
+        AtomicInteger calls = new AtomicInteger();
+
+        Step step = new StepBuilder("batchSkipStep")
+                .<Integer, Integer>chunk(8)
+                .reader(() -> data.hasNext() ? data.next() : null)
+                .batchProcessor(items -> {
+                    calls.incrementAndGet();
+                    if (items.contains(6)) throw new IllegalArgumentException("bad item");
+                    return items.stream().<Integer>map(i -> i == 2 ? null : i).toList();
+                })
+                .writer(written::addAll)
+                .faultTolerant()
+                .skipPolicy(new SimpleSkipPolicy(5))
+                .skipListener(new SkipListener<>() {
+                    @Override
+                    public void onSkipInProcess(Integer item, Throwable t) {
+                        skipped.add(item);
+                    }
+                })
+                .build();
+
+        StepExecution stepExec = createStepExecution();
+        step.execute(stepExec);
+
+        assertThat(written).containsExactly(1, 3, 4, 5, 7, 8);
+        assertThat(skipped).containsExactly(6);
+        assertThat(stepExec.getFilterCount()).isEqualTo(1);
+        assertThat(stepExec.getSkipCount()).isEqualTo(1);
+        assertThat(calls).hasValue(7);
+    }
+
+    @Test
+    void shouldIsolateFailingItemsInWriteByBisection() throws Exception {
+        Iterator<Integer> data = IntStream.rangeClosed(1, 16).boxed().iterator();
+        List<Integer> written = new ArrayList<>();
+        List<Integer> committedSizes = new ArrayList<>();
+        List<Integer> skipped = new ArrayList<>();
+
+        Step step = new StepBuilder("scanStep")
+                .<Integer, Integer>chunk(16)
+                .reader(() -> data.hasNext() ? data.next() : null)
+                .writer(items -> {
+                    if (items.contains(5) || items.contains(12)) throw new IllegalArgumentException("bad row");
+                    written.addAll(items);
+                    committedSizes.add(items.size());
+                })
+                .faultTolerant()
+                .skipPolicy(new SimpleSkipPolicy(5))
+                .skipListener(new SkipListener<>() {
+                    @Override
+                    public void onSkipInWrite(Integer item, Throwable t) {
+                        skipped.add(item);
+                    }
+                })
+                .build();
+
+        StepExecution stepExec = createStepExecution();
+        step.execute(stepExec);
+
+        assertThat(written).hasSize(14).doesNotContain(5, 12).isSorted();
+        assertThat(skipped).containsExactly(5, 12);
+        assertThat(stepExec.getWriteCount()).isEqualTo(14);
+        assertThat(stepExec.getSkipCount()).isEqualTo(2);
+        assertThat(stepExec.getCommitCount()).isEqualTo(1);
+        assertThat(committedSizes).containsExactly(4, 1, 2, 2, 1, 4);
+        assertThat(stepExec.getRollbackCount()).isEqualTo(9);
+    }
+
+    @Test
+    void shouldRetryChunkWriteBeforeScanning() throws Exception {
+        Iterator<String> data = List.of("a", "b", "c").iterator();
+        List<String> written = new ArrayList<>();
+        AtomicInteger writeAttempts = new AtomicInteger();
+
+        Step step = new StepBuilder("retryWriteStep")
+                .<String, String>chunk(10)
+                .reader(() -> data.hasNext() ? data.next() : null)
+                .writer(items -> {
+                    if (writeAttempts.incrementAndGet() < 3) throw new IllegalStateException("transient");
+                    written.addAll(items);
+                })
+                .faultTolerant()
+                .retryPolicy(retryOnly(IllegalStateException.class))
+                .skipPolicy(new SimpleSkipPolicy(5))
+                .build();
+
+        StepExecution stepExec = createStepExecution();
+        step.execute(stepExec);
+
+        assertThat(written).containsExactly("a", "b", "c");
+        assertThat(writeAttempts).hasValue(3);
+        assertThat(stepExec.getRollbackCount()).isEqualTo(2);
+        assertThat(stepExec.getSkipCount()).isZero();
+    }
+
+    @Test
+    void shouldFailWriteWithoutScanningWhenNotSkippable() {
+        Iterator<String> data = List.of("a", "b", "c").iterator();
+        AtomicInteger writeAttempts = new AtomicInteger();
+        SimpleSkipPolicy skipPolicy = new SimpleSkipPolicy(5);
+        skipPolicy.registerSkippableException(IllegalArgumentException.class);
+
+        Step step = new StepBuilder("failWriteStep")
+                .<String, String>chunk(10)
+                .reader(() -> data.hasNext() ? data.next() : null)
+                .writer(items -> {
+                    writeAttempts.incrementAndGet();
+                    throw new IllegalStateException("down");
+                })
+                .faultTolerant()
+                .skipPolicy(skipPolicy)
+                .build();
+
+        StepExecution stepExec = createStepExecution();
+        assertThatThrownBy(() -> step.execute(stepExec))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessage("down");
+        assertThat(writeAttempts).hasValue(1);
+    }
+
+    private Step breakerStep(CircuitBreakerPolicy breaker, Throwable failure) {
+        Iterator<Integer> data = List.of(1).iterator();
+        return new StepBuilder("breakerProbeStep")
+                .<Integer, Integer>chunk(1)
+                .reader(() -> data.hasNext() ? data.next() : null)
+                .processor(item -> {
+                    if (failure instanceof RuntimeException e) throw e;
+                    if (failure instanceof Error e) throw e;
+                    return item;
+                })
+                .writer(items -> {})
+                .faultTolerant()
+                .circuitBreaker(breaker)
+                .build();
+    }
+
+    private SimpleRetryPolicy retryOnly(Class<? extends Throwable> exceptionClass) {
+        SimpleRetryPolicy retryPolicy = new SimpleRetryPolicy(3);
+        retryPolicy.registerRetryableException(exceptionClass);
+        return retryPolicy;
+    }
 }
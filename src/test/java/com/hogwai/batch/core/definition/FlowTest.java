@@ -5,13 +5,20 @@ import com.hogwai.batch.core.builder.FlowBuilder;
 import com.hogwai.batch.core.builder.JobBuilder;
 import com.hogwai.batch.core.builder.StepBuilder;
 import com.hogwai.batch.core.config.JobParameters;
+import com.hogwai.batch.core.runtime.ExitStatus;
 import com.hogwai.batch.core.runtime.JobExecution;
+import com.hogwai.batch.core.runtime.StepExecution;
 import com.hogwai.batch.core.runtime.launcher.SimpleJobLauncher;
 import com.hogwai.batch.core.runtime.repository.InMemoryJobRepository;
 import org.junit.jupiter.api.Test;
 
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
 
 import static org.assertj.core.api.Assertions.*;
 
@@ -108,4 +115,101 @@ class FlowTest {
 
         assertThat(executed).containsExactly("A", "FALLBACK");
     }
+
+    @Test
+    void shouldRunSplitFlowsConcurrently() throws Exception {
+        CountDownLatch bothStarted = new CountDownLatch(2);
+        List<String> executed = Collections.synchronizedList(new ArrayList<>());
+
+        Flow countries = new FlowBuilder("countries").start(awaitingStep("loadCountries", bothStarted, executed)).build();
+        Flow currencies = new FlowBuilder("currencies").start(awaitingStep("loadCurrencies", bothStarted, executed)).build();
+
+        Step report = new StepBuilder("report").tasklet((c, ctx) -> {
+            executed.add("report"); return RepeatStatus.FINISHED;
+        }).build();
+
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        try {
+            Flow flow = new FlowBuilder("references")
+                    .split(executor)
+                    .add(countries, currencies)
+                    .on("COMPLETED").to(report)
+                    .end()
+                    .build();
+
+            Job job = new JobBuilder("splitJob").start(flow).build();
+            JobExecution exec = new SimpleJobLauncher(new InMemoryJobRepository())
+                    .run(job, JobParameters.builder().toJobParameters());
+
+            assertThat(executed).containsExactlyInAnyOrder("loadCountries", "loadCurrencies", "report");
+            assertThat(executed.get(2)).isEqualTo("report");
+            assertThat(exec.getStepExecutions()).extracting(StepExecution::getStepName)
+                    .containsExactlyInAnyOrder("loadCountries", "loadCurrencies", "report");
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    @Test
+    void shouldCombineSplitExitStatuses() throws Exception {
+        List<String> executed = Collections.synchronizedList(new ArrayList<>());
+
+        Step ok = new StepBuilder("ok").tasklet((c, ctx) -> {
+            executed.add("OK"); return RepeatStatus.FINISHED;
+        }).build();
+        Step failing = new StepBuilder("failing").tasklet((c, ctx) -> {
+            executed.add("FAIL");
+            throw new RuntimeException("intentional failure");
+        }).build();
+        Step recovery = new StepBuilder("recovery").tasklet((c, ctx) -> {
+            executed.add("RECOVERY"); return RepeatStatus.FINISHED;
+        }).build();
+        Step never = new StepBuilder("never").tasklet((c, ctx) -> {
+            executed.add("NEVER"); return RepeatStatus.FINISHED;
+        }).build();
+
+        Flow split = new FlowBuilder("split")
+                .split(null)
+                .add(new FlowBuilder("a").start(ok).build(), new FlowBuilder("b").start(failing).build())
+                .build();
+        assertThat(split.execute(step -> {
+            StepExecution stepExecution = new StepExecution(0, step.getName(), null);
+            step.execute(stepExecution);
+            stepExecution.setExitStatus(ExitStatus.COMPLETED);
+            return stepExecution;
+        })).isEqualTo(ExitStatus.FAILED);
+
+        executed.clear();
+        Flow flow = new FlowBuilder("main")
+                .split(null)
+                .add(new FlowBuilder("a").start(ok).build(), new FlowBuilder("b").start(failing).build())
+                .on("COMPLETED").to(never)
+                .on("FAILED").to(recovery)
+                .end()
+                .build();
+        Job job = new JobBuilder("combinedJob").start(flow).build();
+        new SimpleJobLauncher(new InMemoryJobRepository()).run(job, JobParameters.builder().toJobParameters());
+
+        assertThat(executed).containsExactlyInAnyOrder("OK", "FAIL", "RECOVERY");
+        assertThat(executed).doesNotContain("NEVER");
+    }
+
+    @Test
+    void shouldRejectSplitAfterStart() {
+        Step stepA = new StepBuilder("stepA").tasklet((c, ctx) -> RepeatStatus.FINISHED).build();
+
+        assertThatThrownBy(() -> new FlowBuilder("flow").start(stepA).split(null))
+                .isInstanceOf(IllegalStateException.class);
+    }
+
+    private static Step awaitingStep(String name, CountDownLatch bothStarted, List<String> executed) {
+        return new StepBuilder(name).tasklet((c, ctx) -> {
+            bothStarted.countDown();
+            if (!bothStarted.await(5, TimeUnit.SECONDS)) {
+                throw new IllegalStateException("split flows did not run concurrently");
+            }
+            executed.add(name);
+            return RepeatStatus.FINISHED;
+        }).build();
+    }
 }
@@ -0,0 +1,146 @@
+package com.hogwai.batch.core.definition;
+
+import com.hogwai.batch.core.RepeatStatus;
+import com.hogwai.batch.core.builder.JobBuilder;
+import com.hogwai.batch.core.builder.StepBuilder;
+import com.hogwai.batch.core.config.JobParameters;
+import com.hogwai.batch.core.runtime.BatchStatus;
+import com.hogwai.batch.core.runtime.JobExecution;
+import com.hogwai.batch.core.runtime.StepExecution;
+import com.hogwai.batch.core.runtime.launcher.SimpleJobLauncher;
+import com.hogwai.batch.core.runtime.repository.InMemoryJobRepository;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.*;
+
+class GraphJobTest {
+
+    @Test
+    void shouldOrderStepsAfterTheirDependencies() {
+        Step load = step("load", new ArrayList<>());
+        Step extractA = step("extractA", new ArrayList<>());
+        Step extractB = step("extractB", new ArrayList<>());
+        Step transform = step("transform", new ArrayList<>());
+
+        GraphJob job = new JobBuilder("etl")
+                .step(load, transform)
+                .step(transform, extractA, extractB)
+                .step(extractA)
+                .step(extractB)
+                .build();
+
+        assertThat(job.getSteps()).containsExactly(extractA, extractB, transform, load);
+        assertThat(job.getDependencies("transform")).containsExactly("extractA", "extractB");
+        assertThat(job.getDependencies("extractA")).isEmpty();
+    }
+
+    @Test
+    void shouldRejectCyclesAndUnknownSteps() {
+        Step a = step("a", new ArrayList<>());
+        Step b = step("b", new ArrayList<>());
+        Step c = step("c", new ArrayList<>());
+
+        assertThatThrownBy(() -> new JobBuilder("cyclic").step(a, b).step(b, a).step(c).build())
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessageContaining("Cyclic");
+        assertThatThrownBy(() -> new JobBuilder("unknown").step(a, c).build())
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("unknown step c");
+        assertThatThrownBy(() -> new JobBuilder("sequential").start(a).step(b))
+                .isInstanceOf(IllegalStateException.class);
+    }
+
+    @Test
+    void shouldRunReadyStepsInParallelWithinLimit() throws Exception {
+        List<String> executed = Collections.synchronizedList(new ArrayList<>());
+        CountDownLatch rootsStarted = new CountDownLatch(2);
+        AtomicInteger running = new AtomicInteger();
+        AtomicInteger maxRunning = new AtomicInteger();
+
+        Step extractA = trackedStep("extractA", rootsStarted, running, maxRunning, executed);
+        Step extractB = trackedStep("extractB", rootsStarted, running, maxRunning, executed);
+        Step extractC = trackedStep("extractC", rootsStarted, running, maxRunning, executed);
+        Step transform = step("transform", executed);
+
+        GraphJob job = new JobBuilder("etl")
+                .step(extractA)
+                .step(extractB)
+                .step(extractC)
+                .step(transform, extractA, extractB, extractC)
+                .maxConcurrency(2)
+                .build();
+
+        JobExecution exec = new SimpleJobLauncher(new InMemoryJobRepository())
+                .run(job, JobParameters.builder().toJobParameters());
+
+        assertThat(exec.getStatus()).isEqualTo(BatchStatus.COMPLETED);
+        assertThat(maxRunning.get()).isEqualTo(2);
+        assertThat(executed).hasSize(4);
+        assertThat(executed.get(3)).isEqualTo("transform");
+        assertThat(exec.getStepExecutions()).extracting(StepExecution::getStepName)
+                .containsExactlyInAnyOrder("extractA", "extractB", "extractC", "transform");
+    }
+
+    @Test
+    void shouldStopSchedulingAfterFailureAndResumeOnRestart() throws Exception {
+        List<String> executed = Collections.synchronizedList(new ArrayList<>());
+        AtomicBoolean fail = new AtomicBoolean(true);
+
+        Step extract = step("extract", executed);
+        Step validate = new StepBuilder("validate").tasklet((c, ctx) -> {
+            executed.add("validate");
+            if (fail.get()) throw new IllegalStateException("invalid input");
+            return RepeatStatus.FINISHED;
+        }).build();
+        Step load = step("load", executed);
+
+        GraphJob job = new JobBuilder("etl")
+                .step(extract)
+                .step(validate)
+                .step(load, extract, validate)
+                .build();
+
+        InMemoryJobRepository repo = new InMemoryJobRepository();
+        SimpleJobLauncher launcher = new SimpleJobLauncher(repo);
+        JobParameters params = JobParameters.builder().toJobParameters();
+
+        assertThatThrownBy(() -> launcher.run(job, params))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessage("invalid input");
+        assertThat(executed).containsExactlyInAnyOrder("extract", "validate");
+
+        executed.clear();
+        fail.set(false);
+        JobExecution restarted = launcher.run(job, params);
+
+        assertThat(restarted.getStatus()).isEqualTo(BatchStatus.COMPLETED);
+        assertThat(executed).containsExactly("validate", "load");
+    }
+
+    private static Step step(String name, List<String> executed) {
+        return new StepBuilder(name).tasklet((c, ctx) -> {
+            executed.add(name);
+            return RepeatStatus.FINISHED;
+        }).build();
+    }
+
+    private static Step trackedStep(String name, CountDownLatch rootsStarted, AtomicInteger running,
+                                    AtomicInteger maxRunning, List<String> executed) {
+        return new StepBuilder(name).tasklet((c, ctx) -> {
+            maxRunning.accumulateAndGet(running.incrementAndGet(), Math::max);
+            rootsStarted.countDown();
+            rootsStarted.await(5, TimeUnit.SECONDS);
+            executed.add(name);
+            running.decrementAndGet();
+            return RepeatStatus.FINISHED;
+        }).build();
+    }
+}
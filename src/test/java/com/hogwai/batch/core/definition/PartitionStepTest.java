@@ -0,0 +1,156 @@
+package com.hogwai.batch.core.definition;
+
+import com.hogwai.batch.core.RepeatStatus;
+import com.hogwai.batch.core.builder.JobBuilder;
+import com.hogwai.batch.core.builder.StepBuilder;
+import com.hogwai.batch.core.config.JobParameters;
+import com.hogwai.batch.core.listener.StepExecutionListener;
+import com.hogwai.batch.core.runtime.BatchStatus;
+import com.hogwai.batch.core.runtime.ExecutionContext;
+import com.hogwai.batch.core.runtime.JobExecution;
+import com.hogwai.batch.core.runtime.StepExecution;
+import com.hogwai.batch.core.runtime.launcher.SimpleJobLauncher;
+import com.hogwai.batch.core.runtime.launcher.SimpleJobOperator;
+import com.hogwai.batch.core.runtime.repository.InMemoryJobRepository;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.*;
+
+class PartitionStepTest {
+
+    private final Partitioner rangePartitioner = gridSize -> {
+        Map<String, ExecutionContext> partitions = new LinkedHashMap<>();
+        for (int i = 0; i < gridSize; i++) {
+            ExecutionContext context = new ExecutionContext();
+            context.putLong("min", i * 10L + 1);
+            context.putLong("max", (i + 1) * 10L);
+            partitions.put("partition" + i, context);
+        }
+        return partitions;
+    };
+
+    @Test
+    void shouldRunWorkerOncePerPartitionAndAggregateCounts() throws Exception {
+        InMemoryJobRepository repo = new InMemoryJobRepository();
+        List<Long> written = Collections.synchronizedList(new ArrayList<>());
+
+        Step partitioned = new StepBuilder("partitioned", repo)
+                .partitioner(rangePartitioner)
+                .gridSize(4)
+                .stepFactory(context -> {
+                    long[] next = {context.getLong("min")};
+                    long max = context.getLong("max");
+                    return new StepBuilder("worker")
+                            .<Long, Long>chunk(3)
+                            .reader(() -> next[0] <= max ? next[0]++ : null)
+                            .writer(written::addAll)
+                            .build();
+                })
+                .build();
+
+        Job job = new JobBuilder("partitionJob").start(partitioned).build();
+        JobExecution exec = new SimpleJobLauncher(repo).run(job, JobParameters.builder().toJobParameters());
+
+        assertThat(exec.getStatus()).isEqualTo(BatchStatus.COMPLETED);
+        assertThat(written).hasSize(40).doesNotHaveDuplicates();
+
+        StepExecution parent = exec.getStepExecutions().getFirst();
+        assertThat(parent.getStepName()).isEqualTo("partitioned");
+        assertThat(parent.getReadCount()).isEqualTo(40);
+        assertThat(parent.getWriteCount()).isEqualTo(40);
+        assertThat(parent.getCommitCount()).isEqualTo(16);
+
+        assertThat(exec.getStepExecutions()).hasSize(5);
+        assertThat(exec.getStepExecutions().subList(1, 5))
+                .extracting(StepExecution::getStepName)
+                .containsExactly("worker:partition0", "worker:partition1", "worker:partition2", "worker:partition3");
+        assertThat(exec.getStepExecutions().get(2).getExecutionContext().getLong("min")).isEqualTo(11L);
+    }
+
+    @Test
+    void shouldStopPartitionsAndResumeThemOnRestart() throws Exception {
+        InMemoryJobRepository repo = new InMemoryJobRepository();
+        SimpleJobOperator operator = new SimpleJobOperator(repo);
+        AtomicLong executionId = new AtomicLong();
+        AtomicBoolean stopOnce = new AtomicBoolean(true);
+        List<Long> written = Collections.synchronizedList(new ArrayList<>());
+
+        Step partitioned = new StepBuilder("partitioned", repo)
+                .partitioner(rangePartitioner)
+                .gridSize(4)
+                .stepFactory(context -> {
+                    long[] next = {context.getLong("min")};
+                    long max = context.getLong("max");
+                    return new StepBuilder("worker")
+                            .<Long, Long>chunk(3)
+                            .reader(() -> next[0] <= max ? next[0]++ : null)
+                            .writer(items -> {
+                                written.addAll(items);
+                                if (stopOnce.getAndSet(false)) operator.stop(executionId.get());
+                            })
+                            .build();
+                })
+                .listener(new StepExecutionListener() {
+                    @Override
+                    public void beforeStep(StepExecution stepExecution) {
+                        executionId.set(stepExecution.getJobExecution().getId());
+                    }
+                })
+                .build();
+        Job job = new JobBuilder("partitionJob").start(partitioned).build();
+        JobParameters params = JobParameters.builder().toJobParameters();
+
+        JobExecution stopped = new SimpleJobLauncher(repo).run(job, params);
+
+        assertThat(stopped.getStatus()).isEqualTo(BatchStatus.STOPPED);
+        assertThat(stopped.getStepExecutions().getFirst().getStatus()).isEqualTo(BatchStatus.STOPPED);
+        assertThat(stopped.getStepExecutions()).extracting(StepExecution::getStatus).contains(BatchStatus.STOPPED)
+                .doesNotContain(BatchStatus.FAILED, BatchStatus.STARTED);
+        assertThat(written).hasSizeLessThan(40);
+
+        JobExecution restarted = new SimpleJobLauncher(repo).run(job, params);
+
+        assertThat(restarted.getStatus()).isEqualTo(BatchStatus.COMPLETED);
+        assertThat(written).hasSize(40).doesNotHaveDuplicates();
+    }
+
+    @Test
+    void shouldFailWhenAPartitionFails() {
+        InMemoryJobRepository repo = new InMemoryJobRepository();
+
+        Step worker = new StepBuilder("worker").tasklet((contribution, context) -> {
+            if (context.getLong("min") == 11L) throw new IllegalStateException("boom");
+            return RepeatStatus.FINISHED;
+        }).build();
+
+        Step partitioned = new StepBuilder("partitioned", repo)
+                .partitioner(rangePartitioner)
+                .gridSize(3)
+                .step(worker)
+                .build();
+
+        Job job = new JobBuilder("partitionJob").start(partitioned).build();
+
+        assertThatThrownBy(() -> new SimpleJobLauncher(repo).run(job, JobParameters.builder().toJobParameters()))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessageContaining("worker:partition1");
+    }
+
+    @Test
+    void shouldRequireJobRepository() {
+        assertThatThrownBy(() -> new StepBuilder("partitioned")
+                .partitioner(rangePartitioner)
+                .step(new StepBuilder("worker").tasklet((c, ctx) -> RepeatStatus.FINISHED).build())
+                .build())
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessageContaining("jobRepository is required");
+    }
+}
@@ -0,0 +1,138 @@
+package com.hogwai.batch.core.definition;
+
+import com.hogwai.batch.core.ContributingItemWriter;
+import com.hogwai.batch.core.builder.StepBuilder;
+import com.hogwai.batch.core.runtime.BatchStatus;
+import com.hogwai.batch.core.runtime.ExitStatus;
+import com.hogwai.batch.core.runtime.JobExecution;
+import com.hogwai.batch.core.runtime.StepExecution;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.*;
+
+class PipelinedChunkStepTest {
+
+    private StepExecution createStepExecution() {
+        JobExecution jobExec = new JobExecution(1L, null, null);
+        return new StepExecution(1L, "pipelinedStep", jobExec);
+    }
+
+    @Test
+    void shouldWriteChunksInOrderWithSingleWriter() throws Exception {
+        Iterator<Integer> data = List.of(1, 2, 3, 4, 5).iterator();
+        List<List<Integer>> chunks = new ArrayList<>();
+
+        Step step = new StepBuilder("pipelined")
+                .<Integer, Integer>chunk(2)
+                .reader(() -> data.hasNext() ? data.next() : null)
+                .processor(i -> i * 10)
+                .writer(items -> chunks.add(new ArrayList<>(items)))
+                .pipelined()
+                .queueCapacity(1)
+                .build();
+
+        StepExecution stepExec = createStepExecution();
+        step.execute(stepExec);
+
+        assertThat(chunks).containsExactly(List.of(10, 20), List.of(30, 40), List.of(50));
+        assertThat(stepExec.getReadCount()).isEqualTo(5);
+        assertThat(stepExec.getWriteCount()).isEqualTo(5);
+        assertThat(stepExec.getCommitCount()).isEqualTo(3);
+    }
+
+    @Test
+    void shouldProcessAndWriteWithSeveralThreadsPerStage() throws Exception {
+        Iterator<Integer> data = IntStream.rangeClosed(1, 1000).boxed().iterator();
+        List<Integer> written = Collections.synchronizedList(new ArrayList<>());
+
+        Step step = new StepBuilder("pipelined")
+                .<Integer, Integer>chunk(7)
+                .reader(() -> data.hasNext() ? data.next() : null)
+                .processor(i -> i % 2 == 0 ? null : i)
+                .writer(written::addAll)
+                .pipelined()
+                .processConcurrency(3)
+                .writeConcurrency(2)
+                .build();
+
+        StepExecution stepExec = createStepExecution();
+        step.execute(stepExec);
+
+        assertThat(written).hasSize(500).doesNotHaveDuplicates();
+        assertThat(stepExec.getFilterCount()).isEqualTo(500);
+        assertThat(stepExec.getWriteCount()).isEqualTo(500);
+    }
+
+    @Test
+    void shouldAddCountsReportedByContributingWriter() throws Exception {
+        Iterator<Integer> data = IntStream.rangeClosed(1, 10).boxed().iterator();
+        ContributingItemWriter<Integer> writer = (items, contribution) -> {
+            long kept = items.stream().filter(i -> i % 5 != 0).count();
+            contribution.incrementWriteCount(kept);
+            for (long i = kept; i < items.size(); i++) contribution.incrementFilterCount();
+        };
+
+        Step step = new StepBuilder("pipelined")
+                .<Integer, Integer>chunk(4)
+                .reader(() -> data.hasNext() ? data.next() : null)
+                .writer(writer)
+                .pipelined()
+                .build();
+
+        StepExecution stepExec = createStepExecution();
+        step.execute(stepExec);
+
+        assertThat(stepExec.getWriteCount()).isEqualTo(8);
+        assertThat(stepExec.getFilterCount()).isEqualTo(2);
+        assertThat(stepExec.getCommitCount()).isEqualTo(3);
+    }
+
+    @Test
+    void shouldStopReadingAndWriteChunksAlreadyReadWhenJobIsStopping() throws Exception {
+        JobExecution jobExec = new JobExecution(1L, null, null);
+        jobExec.setStatus(BatchStatus.STARTED);
+        StepExecution stepExec = new StepExecution(1L, "pipelinedStep", jobExec);
+        Iterator<Integer> data = IntStream.rangeClosed(1, 100).boxed().iterator();
+        List<Integer> written = new ArrayList<>();
+
+        Step step = new StepBuilder("pipelined")
+                .<Integer, Integer>chunk(2)
+                .reader(() -> {
+                    Integer item = data.hasNext() ? data.next() : null;
+                    if (item != null && item == 4) jobExec.requestStop();
+                    return item;
+                })
+                .writer(written::addAll)
+                .pipelined()
+                .build();
+
+        step.execute(stepExec);
+
+        assertThat(written).containsExactly(1, 2, 3, 4);
+        assertThat(stepExec.getReadCount()).isEqualTo(4);
+        assertThat(stepExec.getStatus()).isEqualTo(BatchStatus.STOPPED);
+        assertThat(stepExec.getExitStatus()).isEqualTo(ExitStatus.STOPPED);
+    }
+
+    @Test
+    void shouldFailWhenWriterFails() {
+        Iterator<Integer> data = IntStream.rangeClosed(1, 1000).boxed().iterator();
+
+        Step step = new StepBuilder("pipelined")
+                .<Integer, Integer>chunk(10)
+                .reader(() -> data.hasNext() ? data.next() : null)
+                .writer(items -> { throw new IllegalStateException("write failed"); })
+                .pipelined()
+                .build();
+
+        assertThatThrownBy(() -> step.execute(createStepExecution()))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessage("write failed");
+    }
+}
@@ -0,0 +1,59 @@
+package com.hogwai.batch.core.definition;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+
+class ReadWatermarkTest {
+
+    @Test
+    void shouldSaveFirstItemNotCommittedByAnyWorker() {
+        ReadWatermark watermark = new ReadWatermark(0);
+        ReadWatermark.Reads first = new ReadWatermark.Reads();
+        ReadWatermark.Reads second = new ReadWatermark.Reads();
+        List<Long> saved = new ArrayList<>();
+
+        watermark.read(first);
+        watermark.read(second);
+        watermark.read(first);
+        watermark.read(second);
+        watermark.read(first);
+        watermark.commit(first, saved::add);
+        watermark.commit(second, saved::add);
+
+        assertThat(saved).containsExactly(1L, 5L);
+    }
+
+    @Test
+    void shouldCarryReadsOverUntilCommitted() {
+        ReadWatermark watermark = new ReadWatermark(10);
+        ReadWatermark.Reads filtered = new ReadWatermark.Reads();
+        ReadWatermark.Reads other = new ReadWatermark.Reads();
+        List<Long> saved = new ArrayList<>();
+
+        watermark.read(filtered);
+        watermark.read(other);
+        watermark.commit(other, saved::add);
+        watermark.read(filtered);
+        watermark.commit(filtered, saved::add);
+
+        assertThat(saved).containsExactly(10L, 13L);
+    }
+
+    @Test
+    void shouldKeepCountingPastCompaction() {
+        ReadWatermark watermark = new ReadWatermark(0);
+        ReadWatermark.Reads reads = new ReadWatermark.Reads();
+        List<Long> saved = new ArrayList<>();
+
+        for (int chunk = 0; chunk < 100; chunk++) {
+            for (int i = 0; i < 100; i++) watermark.read(reads);
+            watermark.commit(reads, saved::add);
+        }
+
+        assertThat(saved).hasSize(100).last().isEqualTo(10_000L);
+    }
+}
@@ -0,0 +1,162 @@
+package com.hogwai.batch.core.item.async;
+
+import com.hogwai.batch.core.ItemStream;
+import com.hogwai.batch.core.ItemWriter;
+import com.hogwai.batch.core.builder.StepBuilder;
+import com.hogwai.batch.core.definition.Step;
+import com.hogwai.batch.core.policy.SimpleSkipPolicy;
+import com.hogwai.batch.core.runtime.ExecutionContext;
+import com.hogwai.batch.core.runtime.JobExecution;
+import com.hogwai.batch.core.runtime.StepExecution;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.*;
+
+class AsyncItemProcessorTest {
+
+    private StepExecution createStepExecution() {
+        JobExecution jobExec = new JobExecution(1L, null, null);
+        return new StepExecution(1L, "asyncStep", jobExec);
+    }
+
+    @Test
+    void shouldProcessChunkItemsConcurrentlyAndWriteInReadOrder() throws Exception {
+        Iterator<Integer> data = IntStream.rangeClosed(1, 8).boxed().iterator();
+        List<List<Integer>> chunks = new ArrayList<>();
+        CountDownLatch allStarted = new CountDownLatch(4);
+
+        Step step = new StepBuilder("asyncStep")
+                .<Integer, Future<Integer>>chunk(4)
+                .reader(() -> data.hasNext() ? data.next() : null)
+                .processor(new AsyncItemProcessor<>(i -> {
+                    allStarted.countDown();
+                    try {
+                        // Completes only if the four items of a chunk are in flight together
+                        if (!allStarted.await(5, TimeUnit.SECONDS)) throw new IllegalStateException("not concurrent");
+                        TimeUnit.MILLISECONDS.sleep((5 - i % 4) * 10L);
+                    } catch (InterruptedException e) {
+                        throw new IllegalStateException(e);
+                    }
+                    return i * 10;
+                }))
+                .writer(new AsyncItemWriter<>(items -> chunks.add(List.copyOf(items))))
+                .build();
+
+        StepExecution stepExec = createStepExecution();
+        step.execute(stepExec);
+
+        assertThat(chunks).containsExactly(List.of(10, 20, 30, 40), List.of(50, 60, 70, 80));
+        assertThat(stepExec.getWriteCount()).isEqualTo(8);
+        assertThat(stepExec.getCommitCount()).isEqualTo(2);
+    }
+
+    @Test
+    void shouldDropFilteredItems() {
+        List<String> written = new ArrayList<>();
+        AsyncItemProcessor<String, String> processor =
+                new AsyncItemProcessor<>(s -> s.isBlank() ? null : s.trim(), Runnable::run);
+        AsyncItemWriter<String> writer = new AsyncItemWriter<>(written::addAll);
+
+        writer.write(List.of(processor.process(" a "), processor.process(" "), processor.process("b")));
+
+        assertThat(written).containsExactly("a", "b");
+    }
+
+    @Test
+    void shouldCountFilteredItemsAsFilteredInStep() throws Exception {
+        Iterator<String> data = List.of(" a ", " ", "b", "", "c").iterator();
+        List<String> written = new ArrayList<>();
+
+        Step step = new StepBuilder("asyncFilterStep")
+                .<String, Future<String>>chunk(2)
+                .reader(() -> data.hasNext() ? data.next() : null)
+                .processor(new AsyncItemProcessor<>(s -> s.isBlank() ? null : s.trim()))
+                .writer(new AsyncItemWriter<>(written::addAll))
+                .build();
+
+        StepExecution stepExec = createStepExecution();
+        step.execute(stepExec);
+
+        assertThat(written).containsExactly("a", "b", "c");
+        assertThat(stepExec.getReadCount()).isEqualTo(5);
+        assertThat(stepExec.getWriteCount()).isEqualTo(3);
+        assertThat(stepExec.getFilterCount()).isEqualTo(2);
+    }
+
+    @Test
+    void shouldRethrowProcessingFailureWhenWriting() {
+        List<String> written = new ArrayList<>();
+        AsyncItemWriter<String> writer = new AsyncItemWriter<>(written::addAll);
+        Future<String> failed = CompletableFuture.failedFuture(new IllegalArgumentException("bad item"));
+
+        assertThatThrownBy(() -> writer.write(List.of(CompletableFuture.completedFuture("a"), failed)))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("bad item");
+        assertThat(written).isEmpty();
+    }
+
+    @Test
+    void shouldSkipItemsWhoseProcessingFailedInFaultTolerantStep() throws Exception {
+        Iterator<Integer> data = IntStream.rangeClosed(1, 6).boxed().iterator();
+        List<Integer> written = new ArrayList<>();
+
+        Step step = new StepBuilder("asyncSkipStep")
+                .<Integer, Future<Integer>>chunk(6)
+                .reader(() -> data.hasNext() ? data.next() : null)
+                .processor(new AsyncItemProcessor<>(i -> {
+                    if (i == 4) throw new IllegalArgumentException("bad item");
+                    return i;
+                }))
+                .writer(new AsyncItemWriter<>(written::addAll))
+                .faultTolerant()
+                .skipPolicy(new SimpleSkipPolicy(5))
+                .build();
+
+        StepExecution stepExec = createStepExecution();
+        step.execute(stepExec);
+
+        assertThat(written).containsExactly(1, 2, 3, 5, 6);
+        assertThat(stepExec.getSkipCount()).isEqualTo(1);
+        assertThat(stepExec.getWriteCount()).isEqualTo(5);
+    }
+
+    @Test
+    void shouldForwardStreamCallbacksToDelegates() {
+        List<String> calls = new ArrayList<>();
+        class StreamWriter implements ItemWriter<String>, ItemStream {
+            @Override
+            public void write(List<String> items) {}
+
+            @Override
+            public void open(ExecutionContext executionContext) {
+                calls.add("open");
+            }
+
+            @Override
+            public void update(ExecutionContext executionContext) {
+                calls.add("update");
+            }
+
+            @Override
+            public void close() {
+                calls.add("close");
+            }
+        }
+        AsyncItemWriter<String> writer = new AsyncItemWriter<>(new StreamWriter());
+
+        writer.open(new ExecutionContext());
+        writer.update(new ExecutionContext());
+        writer.close();
+
+        assertThat(calls).containsExactly("open", "update", "close");
+    }
+}
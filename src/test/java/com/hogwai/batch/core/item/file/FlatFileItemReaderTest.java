@@ -0,0 +1,123 @@
+package com.hogwai.batch.core.item.file;
+
+import com.hogwai.batch.core.runtime.ExecutionContext;
+import org.junit.jupiter.api.Test;
+
+import java.io.StringReader;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.*;
+
+class FlatFileItemReaderTest {
+
+    record Person(long id, String name) {}
+
+    private final FieldSetMapper<Person> byName = fs -> new Person(fs.readLong("id"), fs.readString("name"));
+
+    @Test
+    void shouldMapRecordsByHeaderNames() {
+        FlatFileItemReader<Person> reader = new FlatFileItemReader<>(
+                () -> new StringReader("id;name\n1;Alice\n\n2;Bob\n"),
+                new DelimitedLineTokenizer(';'), byName, true);
+
+        assertThat(readAll(reader)).containsExactly(new Person(1, "Alice"), new Person(2, "Bob"));
+        assertThat(reader.getLineCount()).isEqualTo(4);
+        assertThat(reader.read()).isNull();
+    }
+
+    @Test
+    void shouldOpenLazilyAndCloseWhenExhausted() {
+        AtomicInteger opened = new AtomicInteger();
+        AtomicBoolean closed = new AtomicBoolean();
+        FlatFileItemReader<String> reader = new FlatFileItemReader<>(() -> {
+            opened.incrementAndGet();
+            return new StringReader("a\nb") {
+                @Override
+                public void close() {
+                    closed.set(true);
+                }
+            };
+        }, new DelimitedLineTokenizer(','), fs -> fs.readString(0), false);
+
+        assertThat(opened).hasValue(0);
+        assertThat(reader.read()).isEqualTo("a");
+        assertThat(reader.read()).isEqualTo("b");
+        assertThat(closed).isFalse();
+        assertThat(reader.read()).isNull();
+        assertThat(closed).isTrue();
+        assertThat(opened).hasValue(1);
+    }
+
+    @Test
+    void shouldHandleQuotedFields() {
+        DelimitedLineTokenizer tokenizer = new DelimitedLineTokenizer(',');
+
+        assertThat(tokenizer.tokenize("1,\"Doe, John\",\"say \"\"hi\"\"\","))
+                .containsExactly("1", "Doe, John", "say \"hi\"", "");
+    }
+
+    @Test
+    void shouldIgnoreLeadingWhitespaceWhenConfigured() {
+        assertThat(new DelimitedLineTokenizer(';', true).tokenize("1; Alice;  \"Bob\""))
+                .containsExactly("1", "Alice", "Bob");
+        assertThat(new DelimitedLineTokenizer(';').tokenize("1; Alice"))
+                .containsExactly("1", " Alice");
+    }
+
+    @Test
+    void shouldRejectUnterminatedQuote() {
+        assertThatThrownBy(() -> new DelimitedLineTokenizer(',').tokenize("1,\"open"))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void shouldRejectUnknownColumn() {
+        FlatFileItemReader<String> reader = new FlatFileItemReader<>(
+                () -> new StringReader("id\n1"), new DelimitedLineTokenizer(','), fs -> fs.readString("name"), true);
+
+        assertThatThrownBy(reader::read)
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("name");
+    }
+
+    @Test
+    void shouldSkipConsumedLinesWhenReopened() {
+        ExecutionContext context = new ExecutionContext();
+        FlatFileItemReader<Person> reader = new FlatFileItemReader<>(
+                () -> new StringReader("id;name\n1;Alice\n2;Bob\n3;Carol\n4;Dave\n"),
+                new DelimitedLineTokenizer(';'), byName, true);
+        reader.setName("people");
+
+        reader.open(context);
+        reader.read();
+        reader.read();
+        reader.update(context);
+        reader.close();
+        assertThat(context.getLong("people.lineCount")).isEqualTo(3);
+
+        reader.open(context);
+        assertThat(readAll(reader)).containsExactly(new Person(3, "Carol"), new Person(4, "Dave"));
+    }
+
+    @Test
+    void shouldReadFromStartWithoutSavedState() {
+        FlatFileItemReader<String> reader = new FlatFileItemReader<>(
+                () -> new StringReader("a\nb"), new DelimitedLineTokenizer(','), fs -> fs.readString(0), false);
+
+        assertThat(reader.read()).isEqualTo("a");
+        reader.open(new ExecutionContext());
+        assertThat(readAll(reader)).containsExactly("a", "b");
+    }
+
+    private static <T> List<T> readAll(FlatFileItemReader<T> reader) {
+        List<T> items = new ArrayList<>();
+        T item;
+        while ((item = reader.read()) != null) {
+            items.add(item);
+        }
+        return items;
+    }
+}
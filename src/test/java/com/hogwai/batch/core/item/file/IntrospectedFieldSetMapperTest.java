@@ -0,0 +1,55 @@
+package com.hogwai.batch.core.item.file;
+
+import io.micronaut.core.annotation.Introspected;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.*;
+
+class IntrospectedFieldSetMapperTest {
+
+    @Introspected
+    public static class Account {
+        private String owner;
+        private int balance;
+
+        public String getOwner() { return owner; }
+
+        public void setOwner(String owner) { this.owner = owner; }
+
+        public int getBalance() { return balance; }
+
+        public void setBalance(int balance) { this.balance = balance; }
+    }
+
+    @Introspected
+    public record Transfer(long id, String reference) {}
+
+    private static final String[] HEADER = {"balance", "unknown", "owner"};
+
+    @Test
+    void shouldSetPropertiesByHeaderName() {
+        IntrospectedFieldSetMapper<Account> mapper = new IntrospectedFieldSetMapper<>(Account.class);
+
+        Account account = mapper.mapFieldSet(new DefaultFieldSet(new String[]{"120", "ignored", "Alice"}, HEADER));
+
+        assertThat(account.getOwner()).isEqualTo("Alice");
+        assertThat(account.getBalance()).isEqualTo(120);
+    }
+
+    @Test
+    void shouldPassConstructorArgumentsByPosition() {
+        IntrospectedFieldSetMapper<Transfer> mapper = new IntrospectedFieldSetMapper<>(Transfer.class, "id", "reference");
+
+        assertThat(mapper.mapFieldSet(new DefaultFieldSet(new String[]{"7", "TX-7"})))
+                .isEqualTo(new Transfer(7, "TX-7"));
+    }
+
+    @Test
+    void shouldRequireColumnNames() {
+        IntrospectedFieldSetMapper<Account> mapper = new IntrospectedFieldSetMapper<>(Account.class);
+
+        assertThatThrownBy(() -> mapper.mapFieldSet(new DefaultFieldSet(new String[]{"1", "Bob"})))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessageContaining("Column names are required");
+    }
+}
@@ -0,0 +1,142 @@
+package com.hogwai.batch.core.item.file;
+
+import com.hogwai.batch.core.runtime.ExecutionContext;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.*;
+
+class MappedFileItemReaderTest {
+
+    @TempDir
+    Path tempDir;
+
+    private final FieldSetMapper<Long> idMapper = fs -> {
+        assertThat(fs.readString("name")).isEqualTo("name" + fs.readLong("id"));
+        return fs.readLong("id");
+    };
+
+    @Test
+    void shouldReadAllLinesByColumnName() throws IOException {
+        Path file = write("id;name\r\n1;name1\r\n\r\n2;name2");
+
+        MappedFileItemReader<Long> reader = new MappedFileItemReader<>(file, StandardCharsets.UTF_8, ';', idMapper, true);
+
+        assertThat(readAll(reader)).containsExactly(1L, 2L);
+        assertThat(reader.read()).isNull();
+    }
+
+    @Test
+    void shouldRemapWindowsAcrossLineBoundaries() throws IOException {
+        Path file = write(lines(200));
+
+        MappedFileItemReader<Long> reader = new MappedFileItemReader<>(file, StandardCharsets.UTF_8, ';',
+                idMapper, true, null, 32);
+
+        assertThat(readAll(reader)).hasSize(200).startsWith(1L).endsWith(200L);
+    }
+
+    @Test
+    void shouldFailWhenLineExceedsWindow() throws IOException {
+        Path file = write(lines(1));
+
+        MappedFileItemReader<Long> reader = new MappedFileItemReader<>(file, StandardCharsets.UTF_8, ';',
+                idMapper, true, null, 4);
+
+        assertThatThrownBy(reader::read)
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessageContaining("exceeds the mapping window");
+    }
+
+    @Test
+    void shouldReadEveryLineExactlyOnceAcrossRanges() throws IOException {
+        Path file = write(lines(1000));
+
+        List<FileRange> ranges = FileRange.split(file, 7);
+        List<Long> ids = new ArrayList<>();
+        for (FileRange range : ranges) {
+            ids.addAll(readAll(new MappedFileItemReader<>(file, StandardCharsets.UTF_8, ';', idMapper, true, range)));
+        }
+
+        assertThat(ranges).hasSize(7);
+        assertThat(ranges.getFirst().start()).isZero();
+        assertThat(ranges.getLast().end()).isEqualTo(Files.size(file));
+        assertThat(ids).hasSize(1000).doesNotHaveDuplicates();
+    }
+
+    @Test
+    void shouldStoreRangesInPartitionContexts() throws IOException {
+        Path file = write(lines(100));
+
+        Map<String, ExecutionContext> partitions = new FileRangePartitioner(file).partition(4);
+
+        assertThat(partitions).containsOnlyKeys("range0", "range1", "range2", "range3");
+        assertThat(FileRangePartitioner.range(partitions.get("range0")).start()).isZero();
+        assertThat(FileRangePartitioner.range(partitions.get("range3")).end()).isEqualTo(Files.size(file));
+    }
+
+    @Test
+    void shouldParseNumbersWithoutDecoding() throws IOException {
+        Path file = write("-42;+7;x;99999999999");
+
+        List<FieldSet> checked = new ArrayList<>();
+        MappedFileItemReader<Integer> reader = new MappedFileItemReader<>(file, StandardCharsets.UTF_8, ';', fs -> {
+            assertThat(fs.readInt(0)).isEqualTo(-42);
+            assertThat(fs.readLong(1)).isEqualTo(7);
+            assertThatThrownBy(() -> fs.readInt(2)).isInstanceOf(NumberFormatException.class);
+            assertThatThrownBy(() -> fs.readInt(3)).isInstanceOf(NumberFormatException.class);
+            checked.add(fs);
+            return fs.getFieldCount();
+        }, false);
+
+        assertThat(reader.read()).isEqualTo(4);
+        assertThat(checked).hasSize(1);
+    }
+
+    @Test
+    void shouldResumeFromSavedPosition() throws IOException {
+        Path file = write(lines(10));
+        ExecutionContext context = new ExecutionContext();
+
+        MappedFileItemReader<Long> first = new MappedFileItemReader<>(file, StandardCharsets.UTF_8, ';', idMapper, true);
+        first.open(context);
+        for (int i = 0; i < 4; i++) first.read();
+        first.update(context);
+        first.close();
+
+        MappedFileItemReader<Long> second = new MappedFileItemReader<>(file, StandardCharsets.UTF_8, ';', idMapper, true);
+        second.open(context);
+
+        assertThat(context.getLong("MappedFileItemReader.position")).isEqualTo(second.getPosition());
+        assertThat(readAll(second)).containsExactly(5L, 6L, 7L, 8L, 9L, 10L);
+    }
+
+    private Path write(String content) throws IOException {
+        return Files.writeString(tempDir.resolve("data.csv"), content);
+    }
+
+    private static String lines(int count) {
+        StringBuilder content = new StringBuilder("id;name\n");
+        for (int i = 1; i <= count; i++) {
+            content.append(i).append(";name").append(i).append('\n');
+        }
+        return content.toString();
+    }
+
+    private static <T> List<T> readAll(MappedFileItemReader<T> reader) {
+        List<T> items = new ArrayList<>();
+        T item;
+        while ((item = reader.read()) != null) {
+            items.add(item);
+        }
+        return items;
+    }
+}
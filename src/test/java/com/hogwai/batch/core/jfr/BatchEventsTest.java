@@ -0,0 +1,125 @@
+package com.hogwai.batch.core.jfr;
+
+import com.hogwai.batch.core.RepeatStatus;
+import com.hogwai.batch.core.builder.JobBuilder;
+import com.hogwai.batch.core.builder.StepBuilder;
+import com.hogwai.batch.core.config.JobParameters;
+import com.hogwai.batch.core.definition.Job;
+import com.hogwai.batch.core.definition.Step;
+import com.hogwai.batch.core.policy.SimpleRetryPolicy;
+import com.hogwai.batch.core.runtime.JobExecution;
+import com.hogwai.batch.core.runtime.JobInstance;
+import com.hogwai.batch.core.runtime.StepExecution;
+import com.hogwai.batch.core.runtime.launcher.SimpleJobLauncher;
+import com.hogwai.batch.core.runtime.repository.InMemoryJobRepository;
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.*;
+
+class BatchEventsTest {
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    void shouldRecordJobStepChunkAndItemEvents() throws Exception {
+        Iterator<Integer> data = IntStream.rangeClosed(1, 5).boxed().iterator();
+        AtomicInteger failures = new AtomicInteger();
+        SimpleRetryPolicy retryPolicy = new SimpleRetryPolicy(3);
+
+        Step chunkStep = new StepBuilder("chunkStep")
+                .<Integer, Integer>chunk(2)
+                .reader(() -> data.hasNext() ? data.next() : null)
+                .processor(i -> {
+                    if (i == 3 && failures.getAndIncrement() == 0) throw new IllegalStateException("transient");
+                    return i;
+                })
+                .writer(items -> {})
+                .faultTolerant()
+                .retryPolicy(retryPolicy)
+                .build();
+        AtomicInteger calls = new AtomicInteger();
+        Step taskletStep = new StepBuilder("taskletStep")
+                .tasklet((contribution, context) ->
+                        calls.incrementAndGet() < 2 ? RepeatStatus.CONTINUABLE : RepeatStatus.FINISHED)
+                .build();
+        Job job = new JobBuilder("eventJob").start(chunkStep).next(taskletStep).build();
+
+        List<RecordedEvent> events;
+        try (Recording recording = new Recording()) {
+            for (String name : List.of("JobExecution", "StepExecution", "ChunkWrite", "ItemProcess", "Tasklet")) {
+                recording.enable("com.hogwai.batch." + name).withThreshold(Duration.ZERO);
+            }
+            recording.start();
+            new SimpleJobLauncher(new InMemoryJobRepository()).run(job, JobParameters.builder().toJobParameters());
+            recording.stop();
+            Path file = tempDir.resolve("batch.jfr");
+            recording.dump(file);
+            events = RecordingFile.readAllEvents(file);
+        }
+
+        assertThat(events(events, "JobExecution")).singleElement()
+                .satisfies(e -> assertThat(e.getString("status")).isEqualTo("COMPLETED"));
+        assertThat(events(events, "StepExecution"))
+                .extracting(e -> e.getString("stepName"), e -> e.getLong("writeCount"))
+                .containsExactly(tuple("chunkStep", 5L),
+                        tuple("taskletStep", 0L));
+        assertThat(events(events, "ChunkWrite")).extracting(e -> e.getInt("itemCount")).containsExactly(2, 2, 1);
+        assertThat(events(events, "ItemProcess")).extracting(e -> e.getInt("attempts")).containsExactly(1, 1, 2, 1, 1);
+        assertThat(events(events, "Tasklet")).extracting(e -> e.getString("repeatStatus"))
+                .containsExactly("CONTINUABLE", "FINISHED");
+    }
+
+    @Test
+    void shouldFlagOnlyChunkWritesThatFailed() throws Exception {
+        List<RecordedEvent> events;
+        try (Recording recording = new Recording()) {
+            recording.enable("com.hogwai.batch.ChunkWrite").withThreshold(Duration.ZERO);
+            recording.start();
+            for (Step step : List.of(failingSecondWrite(new StepBuilder("chunkStep").chunk(2)).build(),
+                    failingSecondWrite(new StepBuilder("pipelinedStep").chunk(2)).pipelined().build())) {
+                assertThatThrownBy(() -> step.execute(new StepExecution(1L, step.getName(),
+                        new JobExecution(1L, new JobInstance(1L, "eventJob"), null))))
+                        .hasMessage("write failed");
+            }
+            recording.stop();
+            Path file = tempDir.resolve("writes.jfr");
+            recording.dump(file);
+            events = RecordingFile.readAllEvents(file);
+        }
+
+        assertThat(events(events, "ChunkWrite"))
+                .extracting(e -> e.getString("stepName"), e -> e.getLong("writeCount"), e -> e.getLong("failedWrites"))
+                .containsExactly(tuple("chunkStep", 2L, 0L), tuple("chunkStep", 0L, 1L),
+                        tuple("pipelinedStep", 2L, 0L), tuple("pipelinedStep", 0L, 1L));
+    }
+
+    private static StepBuilder.ChunkStepBuilder<Integer, Integer> failingSecondWrite(
+            StepBuilder.ChunkStepBuilder<Integer, Integer> builder) {
+        Iterator<Integer> data = IntStream.rangeClosed(1, 4).boxed().iterator();
+        AtomicInteger writes = new AtomicInteger();
+        return builder
+                .reader(() -> data.hasNext() ? data.next() : null)
+                .writer(items -> {
+                    if (writes.incrementAndGet() == 2) throw new IllegalStateException("write failed");
+                });
+    }
+
+    private static List<RecordedEvent> events(List<RecordedEvent> events, String name) {
+        return events.stream()
+                .filter(e -> e.getEventType().getName().equals("com.hogwai.batch." + name))
+                .sorted((a, b) -> a.getStartTime().compareTo(b.getStartTime()))
+                .toList();
+    }
+}
@@ -0,0 +1,101 @@
+package com.hogwai.batch.core.listener;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class CompositeListenerTest {
+
+    @Test
+    void shouldNotifyListenersInRegistrationOrder() {
+        List<String> events = new ArrayList<>();
+        ItemReadListener<String> listener = CompositeItemReadListener.of(List.of(
+                recordingReadListener("first", events),
+                recordingReadListener("second", events)));
+
+        listener.beforeRead();
+        listener.afterRead("a");
+        listener.onReadError(new IllegalStateException());
+
+        assertThat(events).containsExactly(
+                "first:beforeRead", "second:beforeRead",
+                "first:afterRead:a", "second:afterRead:a",
+                "first:onReadError", "second:onReadError");
+    }
+
+    @Test
+    void shouldReturnSharedNoOpListenerWhenEmpty() {
+        assertThat(CompositeChunkListener.of(List.of())).isSameAs(CompositeChunkListener.of(List.of()));
+        assertThat(CompositeItemProcessListener.<String, String>of(List.of()))
+                .isSameAs(CompositeItemProcessListener.<Integer, Integer>of(List.of()));
+        assertThat(CompositeItemWriteListener.of(List.of())).isNotInstanceOf(CompositeItemWriteListener.class);
+        assertThat(CompositeSkipListener.of(List.of())).isNotInstanceOf(CompositeSkipListener.class);
+    }
+
+    @Test
+    void shouldReturnSingleListenerItself() {
+        ChunkListener chunkListener = new ChunkListener() {};
+        SkipListener<String, String> skipListener = new SkipListener<>() {};
+
+        assertThat(CompositeChunkListener.of(List.of(chunkListener))).isSameAs(chunkListener);
+        assertThat(CompositeSkipListener.of(List.of(skipListener))).isSameAs(skipListener);
+    }
+
+    @Test
+    void shouldNotifyAllWriteAndSkipListeners() {
+        List<String> events = new ArrayList<>();
+        ItemWriteListener<String> writeListener = CompositeItemWriteListener.of(List.of(
+                new ItemWriteListener<>() {
+                    @Override
+                    public void afterWrite(List<String> items) {
+                        events.add("write1:" + items);
+                    }
+                },
+                new ItemWriteListener<>() {
+                    @Override
+                    public void afterWrite(List<String> items) {
+                        events.add("write2:" + items);
+                    }
+                }));
+        SkipListener<String, String> skipListener = CompositeSkipListener.of(List.of(
+                new SkipListener<>() {
+                    @Override
+                    public void onSkipInWrite(String item, Throwable t) {
+                        events.add("skip1:" + item);
+                    }
+                },
+                new SkipListener<>() {
+                    @Override
+                    public void onSkipInWrite(String item, Throwable t) {
+                        events.add("skip2:" + item);
+                    }
+                }));
+
+        writeListener.afterWrite(List.of("a", "b"));
+        skipListener.onSkipInWrite("c", new IllegalArgumentException());
+
+        assertThat(events).containsExactly("write1:[a, b]", "write2:[a, b]", "skip1:c", "skip2:c");
+    }
+
+    private static ItemReadListener<String> recordingReadListener(String name, List<String> events) {
+        return new ItemReadListener<>() {
+            @Override
+            public void beforeRead() {
+                events.add(name + ":beforeRead");
+            }
+
+            @Override
+            public void afterRead(String item) {
+                events.add(name + ":afterRead:" + item);
+            }
+
+            @Override
+            public void onReadError(Exception exception) {
+                events.add(name + ":onReadError");
+            }
+        };
+    }
+}
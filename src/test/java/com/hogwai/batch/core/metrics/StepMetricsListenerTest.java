@@ -0,0 +1,119 @@
+package com.hogwai.batch.core.metrics;
+
+import com.hogwai.batch.core.builder.StepBuilder;
+import com.hogwai.batch.core.definition.Step;
+import com.hogwai.batch.core.policy.SimpleSkipPolicy;
+import com.hogwai.batch.core.runtime.JobExecution;
+import com.hogwai.batch.core.runtime.JobInstance;
+import com.hogwai.batch.core.runtime.StepExecution;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+import java.util.Iterator;
+import java.util.List;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class StepMetricsListenerTest {
+
+    private final MeterRegistry registry = new SimpleMeterRegistry();
+
+    private StepExecution createStepExecution(String stepName) {
+        JobExecution jobExec = new JobExecution(1L, new JobInstance(1L, "metricsJob"), null);
+        return new StepExecution(1L, stepName, jobExec);
+    }
+
+    @Test
+    void shouldCountAndTimeEachStage() throws Exception {
+        Iterator<Integer> data = IntStream.rangeClosed(1, 10).boxed().iterator();
+
+        Step step = new StepBuilder("countedStep")
+                .<Integer, Integer>chunk(4)
+                .reader(() -> data.hasNext() ? data.next() : null)
+                .processor(i -> i % 5 == 0 ? null : i)
+                .writer(items -> {})
+                .metrics(registry, Tags.of("job", "metricsJob"))
+                .build();
+        step.execute(createStepExecution("countedStep"));
+
+        assertThat(count(StepMetricsListener.ITEMS_READ, "countedStep")).isEqualTo(10);
+        assertThat(count(StepMetricsListener.ITEMS_PROCESSED, "countedStep")).isEqualTo(10);
+        assertThat(count(StepMetricsListener.ITEMS_FILTERED, "countedStep")).isEqualTo(2);
+        assertThat(count(StepMetricsListener.ITEMS_WRITTEN, "countedStep")).isEqualTo(8);
+        assertThat(timerCount(StepMetricsListener.READ, "countedStep")).isEqualTo(10);
+        assertThat(timerCount(StepMetricsListener.PROCESS, "countedStep")).isEqualTo(10);
+        assertThat(timerCount(StepMetricsListener.WRITE, "countedStep")).isEqualTo(2);
+        assertThat(timerCount(StepMetricsListener.CHUNK, "countedStep")).isEqualTo(2);
+    }
+
+    @Test
+    void shouldCountSkipsByPhase() throws Exception {
+        Iterator<String> data = List.of("a", "bad", "b", "poison").iterator();
+
+        Step step = new StepBuilder("skippingStep")
+                .<String, String>chunk(10)
+                .reader(() -> data.hasNext() ? data.next() : null)
+                .processor(item -> {
+                    if ("bad".equals(item)) throw new IllegalArgumentException("bad item");
+                    return item;
+                })
+                .writer(items -> {
+                    if (items.contains("poison")) throw new IllegalStateException("poison");
+                })
+                .metrics(registry, Tags.of("job", "metricsJob"))
+                .faultTolerant()
+                .skipPolicy(new SimpleSkipPolicy(5))
+                .build();
+        step.execute(createStepExecution("skippingStep"));
+
+        assertThat(registry.counter(StepMetricsListener.ITEMS_SKIPPED,
+                "job", "metricsJob", "step", "skippingStep", "phase", "process").count()).isEqualTo(1);
+        assertThat(registry.counter(StepMetricsListener.ITEMS_SKIPPED,
+                "job", "metricsJob", "step", "skippingStep", "phase", "write").count()).isEqualTo(1);
+        assertThat(count(StepMetricsListener.ITEMS_WRITTEN, "skippingStep")).isEqualTo(2);
+    }
+
+    @Test
+    void shouldRegisterMetersTaggedWithStepNameWhenBuilt() {
+        new StepBuilder("builtStep")
+                .<Integer, Integer>chunk(4)
+                .reader(() -> null)
+                .writer(items -> {})
+                .metrics(registry)
+                .build();
+
+        assertThat(registry.find(StepMetricsListener.ITEMS_READ).tag("step", "builtStep").counter()).isNotNull();
+        assertThat(registry.find(StepMetricsListener.CHUNK).tag("step", "builtStep").timer()).isNotNull();
+    }
+
+    @Test
+    void shouldRecordEveryItemWhenChunksRunConcurrently() throws Exception {
+        Iterator<Integer> data = IntStream.rangeClosed(1, 100).boxed().iterator();
+
+        Step step = new StepBuilder("concurrentStep")
+                .<Integer, Integer>chunk(5)
+                .reader(() -> data.hasNext() ? data.next() : null)
+                .processor(i -> i)
+                .writer(items -> {})
+                .metrics(registry, Tags.of("job", "metricsJob"))
+                .concurrency(4)
+                .build();
+        step.execute(createStepExecution("concurrentStep"));
+
+        assertThat(count(StepMetricsListener.ITEMS_READ, "concurrentStep")).isEqualTo(100);
+        assertThat(count(StepMetricsListener.ITEMS_WRITTEN, "concurrentStep")).isEqualTo(100);
+        assertThat(timerCount(StepMetricsListener.PROCESS, "concurrentStep")).isEqualTo(100);
+        assertThat(timerCount(StepMetricsListener.CHUNK, "concurrentStep")).isEqualTo(20);
+    }
+
+    private double count(String name, String stepName) {
+        return registry.counter(name, "job", "metricsJob", "step", stepName).count();
+    }
+
+    private long timerCount(String name, String stepName) {
+        return registry.timer(name, "job", "metricsJob", "step", stepName).count();
+    }
+}
@@ -0,0 +1,90 @@
+package com.hogwai.batch.core.policy;
+
+import com.hogwai.batch.core.builder.StepBuilder;
+import com.hogwai.batch.core.definition.Step;
+import com.hogwai.batch.core.runtime.StepExecution;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.*;
+
+class AdaptiveChunkSizePolicyTest {
+
+    private static final long MS = TimeUnit.MILLISECONDS.toNanos(1);
+
+    @Test
+    void shouldStartAtMinimumAndAtMostDoubleWhenWritesAreFast() {
+        AdaptiveChunkSizePolicy policy = new AdaptiveChunkSizePolicy(10, 1000, Duration.ofMillis(100));
+        assertThat(policy.getChunkSize()).isEqualTo(10);
+
+        policy.chunkCommitted(10, MS);
+        assertThat(policy.getChunkSize()).isEqualTo(20);
+
+        policy.chunkCommitted(20, 2 * MS);
+        assertThat(policy.getChunkSize()).isEqualTo(40);
+    }
+
+    @Test
+    void shouldConvergeOnTargetCommitTimeAndShrinkWhenWriterSlowsDown() {
+        AdaptiveChunkSizePolicy policy = new AdaptiveChunkSizePolicy(1, 10_000, Duration.ofMillis(100));
+
+        for (int i = 0; i < 30; i++) {
+            int size = policy.getChunkSize();
+            policy.chunkCommitted(size, size * MS);
+        }
+        assertThat(policy.getChunkSize()).isEqualTo(100);
+
+        for (int i = 0; i < 30; i++) {
+            int size = policy.getChunkSize();
+            policy.chunkCommitted(size, size * 4 * MS);
+        }
+        assertThat(policy.getChunkSize()).isEqualTo(25);
+    }
+
+    @Test
+    void shouldStayWithinBounds() {
+        AdaptiveChunkSizePolicy policy = new AdaptiveChunkSizePolicy(5, 50, Duration.ofMillis(10));
+
+        for (int i = 0; i < 10; i++) policy.chunkCommitted(policy.getChunkSize(), 1);
+        assertThat(policy.getChunkSize()).isEqualTo(50);
+
+        policy.chunkCommitted(50, 1000 * MS);
+        assertThat(policy.getChunkSize()).isEqualTo(5);
+    }
+
+    @Test
+    void shouldRejectInvalidConfiguration() {
+        assertThatThrownBy(() -> new AdaptiveChunkSizePolicy(0, 10, Duration.ofSeconds(1)))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> new AdaptiveChunkSizePolicy(10, 5, Duration.ofSeconds(1)))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> new AdaptiveChunkSizePolicy(1, 5, Duration.ZERO))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void shouldResizeChunksOfStep() throws Exception {
+        AtomicInteger next = new AtomicInteger();
+        List<Integer> chunkSizes = new ArrayList<>();
+
+        Step step = new StepBuilder("adaptive")
+                .<Integer, Integer>chunk(new AdaptiveChunkSizePolicy(2, 16, Duration.ofSeconds(1)))
+                .reader(() -> {
+                    int i = next.getAndIncrement();
+                    return i < 100 ? i : null;
+                })
+                .writer(items -> chunkSizes.add(items.size()))
+                .build();
+
+        StepExecution stepExecution = new StepExecution(1, "adaptive", null);
+        step.execute(stepExecution);
+
+        assertThat(chunkSizes).containsExactly(2, 4, 8, 16, 16, 16, 16, 16, 6);
+        assertThat(stepExecution.getWriteCount()).isEqualTo(100);
+    }
+}
@@ -0,0 +1,113 @@
+package com.hogwai.batch.core.policy;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.*;
+
+class CircuitBreakerPolicyTest {
+
+    @Test
+    void shouldOpenOnceFailureRateReachesThresholdOverFullWindow() throws Exception {
+        CircuitBreakerPolicy breaker = new CircuitBreakerPolicy(4, 0.5, Duration.ofMinutes(1));
+
+        call(breaker, true);
+        call(breaker, true);
+        call(breaker, false);
+        assertThat(breaker.getState()).isEqualTo(CircuitBreakerPolicy.State.CLOSED);
+
+        call(breaker, false);
+        assertThat(breaker.getState()).isEqualTo(CircuitBreakerPolicy.State.OPEN);
+        assertThatThrownBy(breaker::acquirePermission)
+                .isInstanceOf(CircuitBreakerOpenException.class);
+    }
+
+    @Test
+    void shouldSlideWindowOverMostRecentCalls() throws Exception {
+        CircuitBreakerPolicy breaker = new CircuitBreakerPolicy(4, 0.75, Duration.ofMinutes(1));
+
+        call(breaker, false);
+        call(breaker, false);
+        for (int i = 0; i < 4; i++) call(breaker, true);
+        call(breaker, false);
+        call(breaker, false);
+        assertThat(breaker.getState()).isEqualTo(CircuitBreakerPolicy.State.CLOSED);
+
+        call(breaker, false);
+        assertThat(breaker.getState()).isEqualTo(CircuitBreakerPolicy.State.OPEN);
+    }
+
+    @Test
+    void shouldCloseAfterSuccessfulProbeAndReopenAfterFailedOne() throws Exception {
+        CircuitBreakerPolicy breaker = new CircuitBreakerPolicy(1, 1.0, Duration.ofMillis(50));
+
+        call(breaker, false);
+        assertThat(breaker.getState()).isEqualTo(CircuitBreakerPolicy.State.OPEN);
+
+        TimeUnit.MILLISECONDS.sleep(60);
+        assertThat(breaker.getState()).isEqualTo(CircuitBreakerPolicy.State.HALF_OPEN);
+        breaker.acquirePermission();
+        assertThatThrownBy(breaker::acquirePermission)
+                .as("a single probe call at a time")
+                .isInstanceOf(CircuitBreakerOpenException.class);
+        breaker.onFailure(new IOException("still down"));
+        assertThat(breaker.getState()).isEqualTo(CircuitBreakerPolicy.State.OPEN);
+
+        TimeUnit.MILLISECONDS.sleep(60);
+        breaker.acquirePermission();
+        breaker.onSuccess();
+        assertThat(breaker.getState()).isEqualTo(CircuitBreakerPolicy.State.CLOSED);
+    }
+
+    @Test
+    void shouldOnlyRecordRegisteredExceptions() throws Exception {
+        CircuitBreakerPolicy breaker = new CircuitBreakerPolicy(2, 0.5, Duration.ofMinutes(1));
+        breaker.registerRecordedException(IOException.class);
+
+        for (int i = 0; i < 10; i++) {
+            breaker.acquirePermission();
+            breaker.onFailure(new IllegalArgumentException("invalid item"));
+        }
+        assertThat(breaker.getState()).isEqualTo(CircuitBreakerPolicy.State.CLOSED);
+
+        call(breaker, false);
+        assertThat(breaker.getState()).isEqualTo(CircuitBreakerPolicy.State.OPEN);
+    }
+
+    @Test
+    void shouldWaitForProbeInsteadOfFailingWhenPausing() throws Exception {
+        CircuitBreakerPolicy breaker = new CircuitBreakerPolicy(1, 1.0, Duration.ofMillis(100));
+        breaker.setPauseWhenOpen(true);
+        call(breaker, false);
+
+        long start = System.nanoTime();
+        breaker.acquirePermission();
+
+        assertThat(System.nanoTime() - start).isGreaterThanOrEqualTo(TimeUnit.MILLISECONDS.toNanos(90));
+        assertThat(breaker.getState()).isEqualTo(CircuitBreakerPolicy.State.HALF_OPEN);
+        breaker.onSuccess();
+        assertThat(breaker.getState()).isEqualTo(CircuitBreakerPolicy.State.CLOSED);
+    }
+
+    @Test
+    void shouldRejectInvalidConfiguration() {
+        assertThatThrownBy(() -> new CircuitBreakerPolicy(0, 0.5, Duration.ofSeconds(1)))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> new CircuitBreakerPolicy(10, 0, Duration.ofSeconds(1)))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> new CircuitBreakerPolicy(10, 0.5, Duration.ZERO))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private static void call(CircuitBreakerPolicy breaker, boolean succeeds) throws InterruptedException {
+        breaker.acquirePermission();
+        if (succeeds) {
+            breaker.onSuccess();
+        } else {
+            breaker.onFailure(new IOException("down"));
+        }
+    }
+}
@@ -0,0 +1,131 @@
+package com.hogwai.batch.core.policy;
+
+import com.hogwai.batch.core.ItemReader;
+import com.hogwai.batch.core.builder.StepBuilder;
+import com.hogwai.batch.core.definition.Step;
+import com.hogwai.batch.core.runtime.StepExecution;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.LockSupport;
+
+import static org.assertj.core.api.Assertions.*;
+
+class CompletionPolicyTest {
+
+    private static final ByteBudgetCompletionPolicy TEN_BYTES =
+            new ByteBudgetCompletionPolicy(10, item -> ((String) item).length());
+
+    @Test
+    void shouldCompleteChunkPastByteBudget() throws Exception {
+        List<Integer> chunkSizes = new ArrayList<>();
+
+        Step step = new StepBuilder("bytes")
+                .<String, String>chunk(100)
+                .reader(items(10))
+                .writer(items -> chunkSizes.add(items.size()))
+                .completionPolicy(TEN_BYTES)
+                .build();
+        step.execute(new StepExecution(1, "bytes", null));
+
+        assertThat(chunkSizes).containsExactly(3, 3, 3, 1);
+    }
+
+    @Test
+    void shouldCompleteChunkAtChunkSizeOrByteBudgetWhicheverFirst() throws Exception {
+        CompletionPolicy policy = new CompositeCompletionPolicy(List.of(new SimpleCompletionPolicy(2), TEN_BYTES));
+        CompletionPolicy.ChunkState state = policy.start();
+
+        state.update("aaaa");
+        assertThat(state.isComplete()).isFalse();
+        state.update("aaaa");
+        assertThat(state.isComplete()).isTrue();
+
+        state = policy.start();
+        state.update("aaaaaaaaaaaa");
+        assertThat(state.isComplete()).isTrue();
+    }
+
+    @Test
+    void shouldCompleteChunkAfterTimeoutWithSlowReader() throws Exception {
+        AtomicInteger next = new AtomicInteger();
+        List<Integer> chunkSizes = new ArrayList<>();
+
+        Step step = new StepBuilder("trickle")
+                .<Integer, Integer>chunk(100)
+                .reader(() -> {
+                    LockSupport.parkNanos(20_000_000L);
+                    int i = next.getAndIncrement();
+                    return i < 6 ? i : null;
+                })
+                .writer(items -> chunkSizes.add(items.size()))
+                .completionPolicy(new TimeoutCompletionPolicy(Duration.ofMillis(50)))
+                .build();
+        StepExecution stepExecution = new StepExecution(1, "trickle", null);
+        step.execute(stepExecution);
+
+        assertThat(chunkSizes).hasSizeGreaterThan(1).allSatisfy(size -> assertThat(size).isLessThan(6));
+        assertThat(stepExecution.getWriteCount()).isEqualTo(6);
+    }
+
+    @Test
+    void shouldApplyToReadItemsWithVirtualThreadProcessing() throws Exception {
+        List<Integer> chunkSizes = new ArrayList<>();
+
+        Step step = new StepBuilder("virtual")
+                .<String, String>chunk(100)
+                .reader(items(10))
+                .processor(String::toUpperCase)
+                .writer(items -> chunkSizes.add(items.size()))
+                .virtualThreadProcessing(4)
+                .completionPolicy(TEN_BYTES)
+                .build();
+        step.execute(new StepExecution(1, "virtual", null));
+
+        assertThat(chunkSizes).containsExactly(3, 3, 3, 1);
+    }
+
+    @Test
+    void shouldApplyToFaultTolerantStep() throws Exception {
+        List<Integer> chunkSizes = new ArrayList<>();
+
+        Step step = new StepBuilder("faultTolerant")
+                .<String, String>chunk(100)
+                .reader(items(10))
+                .writer(items -> chunkSizes.add(items.size()))
+                .faultTolerant()
+                .completionPolicy(TEN_BYTES)
+                .build();
+        step.execute(new StepExecution(1, "faultTolerant", null));
+
+        assertThat(chunkSizes).containsExactly(3, 3, 3, 1);
+    }
+
+    @Test
+    void shouldRejectCompletionPolicyOnPipelinedStep() {
+        assertThatThrownBy(() -> new StepBuilder("pipelined")
+                .<String, String>chunk(10)
+                .completionPolicy(TEN_BYTES)
+                .pipelined())
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessageContaining("completion policies");
+    }
+
+    @Test
+    void shouldRejectInvalidConfiguration() {
+        assertThatThrownBy(() -> new SimpleCompletionPolicy(0))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> new TimeoutCompletionPolicy(Duration.ZERO))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> new ByteBudgetCompletionPolicy(0, item -> 1))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private static ItemReader<String> items(int count) {
+        AtomicInteger next = new AtomicInteger();
+        return () -> next.getAndIncrement() < count ? "aaaa" : null;
+    }
+}
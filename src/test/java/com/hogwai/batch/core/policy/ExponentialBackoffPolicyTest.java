@@ -0,0 +1,68 @@
+package com.hogwai.batch.core.policy;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.*;
+
+class ExponentialBackoffPolicyTest {
+
+    @Test
+    void shouldGrowDelayUpToCapWithoutJitter() {
+        ExponentialBackoffPolicy policy = new ExponentialBackoffPolicy(100, 2.0, 1000, 0);
+
+        assertThat(policy.getDelayMillis(1)).isEqualTo(100);
+        assertThat(policy.getDelayMillis(2)).isEqualTo(200);
+        assertThat(policy.getDelayMillis(3)).isEqualTo(400);
+        assertThat(policy.getDelayMillis(4)).isEqualTo(800);
+        assertThat(policy.getDelayMillis(5)).isEqualTo(1000);
+        assertThat(policy.getDelayMillis(50)).isEqualTo(1000);
+    }
+
+    @Test
+    void shouldKeepJitteredDelayWithinRange() {
+        ExponentialBackoffPolicy half = new ExponentialBackoffPolicy(100, 2.0, 1000, 0.5);
+        ExponentialBackoffPolicy full = new ExponentialBackoffPolicy(100, 2.0, 1000);
+
+        for (int i = 0; i < 1000; i++) {
+            assertThat(half.getDelayMillis(3)).isBetween(200L, 400L);
+            assertThat(full.getDelayMillis(3)).isBetween(0L, 400L);
+        }
+    }
+
+    @Test
+    void shouldCompleteAsyncBackoffWithoutBlockingCaller() throws Exception {
+        ExponentialBackoffPolicy policy = new ExponentialBackoffPolicy(200, 2.0, 1000, 0);
+
+        long start = System.nanoTime();
+        CompletableFuture<Void> backoff = policy.backoffAsync(1);
+
+        assertThat(backoff).isNotDone();
+        backoff.get(5, TimeUnit.SECONDS);
+        assertThat(System.nanoTime() - start).isGreaterThanOrEqualTo(TimeUnit.MILLISECONDS.toNanos(200));
+    }
+
+    @Test
+    void shouldRunBlockingBackoffAsynchronouslyByDefault() throws Exception {
+        BackoffPolicy policy = attemptCount -> Thread.sleep(100);
+
+        CompletableFuture<Void> backoff = policy.backoffAsync(1);
+
+        assertThat(backoff).isNotDone();
+        backoff.get(5, TimeUnit.SECONDS);
+    }
+
+    @Test
+    void shouldRejectInvalidConfiguration() {
+        assertThatThrownBy(() -> new ExponentialBackoffPolicy(0, 2.0, 1000))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> new ExponentialBackoffPolicy(100, 0.5, 1000))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> new ExponentialBackoffPolicy(100, 2.0, 50))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> new ExponentialBackoffPolicy(100, 2.0, 1000, 1.5))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
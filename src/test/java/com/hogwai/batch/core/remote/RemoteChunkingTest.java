@@ -0,0 +1,199 @@
+package com.hogwai.batch.core.remote;
+
+import com.hogwai.batch.core.builder.StepBuilder;
+import com.hogwai.batch.core.definition.Step;
+import com.hogwai.batch.core.runtime.JobExecution;
+import com.hogwai.batch.core.runtime.StepContribution;
+import com.hogwai.batch.core.runtime.StepExecution;
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordingFile;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.UncheckedIOException;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.SocketAddress;
+import java.net.UnixDomainSocketAddress;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.*;
+
+class RemoteChunkingTest {
+
+    @TempDir
+    Path tempDir;
+
+    private StepExecution createStepExecution() {
+        JobExecution jobExec = new JobExecution(1L, null, null);
+        return new StepExecution(1L, "remoteStep", jobExec);
+    }
+
+    private static InetSocketAddress anyLoopbackPort() {
+        return new InetSocketAddress(InetAddress.getLoopbackAddress(), 0);
+    }
+
+    @Test
+    void shouldProcessChunksOnSeveralWorkersOverTcp() throws Exception {
+        List<Integer> written = Collections.synchronizedList(new ArrayList<>());
+        ChunkProcessor<Integer, Integer> processor =
+                new ChunkProcessor<>(i -> i % 4 == 0 ? null : i * 10, written::addAll);
+
+        try (ChunkWorkerServer<Integer> worker1 = new ChunkWorkerServer<>(anyLoopbackPort(), processor).start();
+             ChunkWorkerServer<Integer> worker2 = new ChunkWorkerServer<>(anyLoopbackPort(), processor).start();
+             ChunkTransport transport = SocketChunkTransport.connect(
+                     List.of(worker1.getLocalAddress(), worker2.getLocalAddress()))) {
+            Iterator<Integer> data = IntStream.rangeClosed(1, 20).boxed().iterator();
+            Step step = new StepBuilder("remoteStep")
+                    .<Integer, Integer>chunk(5)
+                    .reader(() -> data.hasNext() ? data.next() : null)
+                    .writer(new RemoteChunkWriter<>(transport))
+                    .concurrency(2)
+                    .build();
+
+            StepExecution stepExec = createStepExecution();
+            step.execute(stepExec);
+
+            assertThat(written).containsExactlyInAnyOrderElementsOf(
+                    IntStream.rangeClosed(1, 20).filter(i -> i % 4 != 0).mapToObj(i -> i * 10).toList());
+            assertThat(stepExec.getReadCount()).isEqualTo(20);
+            assertThat(stepExec.getWriteCount()).isEqualTo(15);
+            assertThat(stepExec.getFilterCount()).isEqualTo(5);
+            assertThat(stepExec.getCommitCount()).isEqualTo(4);
+        }
+    }
+
+    @Test
+    void shouldProcessChunksOverUnixDomainSocket() throws Exception {
+        List<List<String>> chunks = new ArrayList<>();
+        SocketAddress address = UnixDomainSocketAddress.of(tempDir.resolve("worker.sock"));
+
+        try (ChunkWorkerServer<String> worker = new ChunkWorkerServer<>(address,
+                     new ChunkProcessor<String, String>(String::toUpperCase, items -> chunks.add(List.copyOf(items))))
+                     .start();
+             ChunkTransport transport = SocketChunkTransport.connect(List.of(address))) {
+            Iterator<String> data = List.of("a", "b", "c").iterator();
+            Step step = new StepBuilder("remoteStep")
+                    .<String, String>chunk(2)
+                    .reader(() -> data.hasNext() ? data.next() : null)
+                    .writer(new RemoteChunkWriter<>(transport))
+                    .build();
+
+            StepExecution stepExec = createStepExecution();
+            step.execute(stepExec);
+
+            assertThat(chunks).containsExactly(List.of("A", "B"), List.of("C"));
+            assertThat(stepExec.getWriteCount()).isEqualTo(3);
+        }
+        assertThat(tempDir.resolve("worker.sock")).doesNotExist();
+    }
+
+    @Test
+    void shouldNotFlagChunkFilteredEntirelyOnWorkerAsFailedWrite() throws Exception {
+        ChunkProcessor<Integer, Integer> processor = new ChunkProcessor<>(i -> i <= 5 ? null : i, items -> {});
+
+        try (ChunkWorkerServer<Integer> worker = new ChunkWorkerServer<>(anyLoopbackPort(), processor).start();
+             ChunkTransport transport = SocketChunkTransport.connect(List.of(worker.getLocalAddress()));
+             Recording recording = new Recording()) {
+            Iterator<Integer> data = IntStream.rangeClosed(1, 10).boxed().iterator();
+            Step step = new StepBuilder("remoteStep")
+                    .<Integer, Integer>chunk(5)
+                    .reader(() -> data.hasNext() ? data.next() : null)
+                    .writer(new RemoteChunkWriter<>(transport))
+                    .build();
+            recording.enable("com.hogwai.batch.ChunkWrite").withThreshold(Duration.ZERO);
+            recording.start();
+
+            StepExecution stepExec = createStepExecution();
+            step.execute(stepExec);
+
+            recording.stop();
+            Path file = tempDir.resolve("remote.jfr");
+            recording.dump(file);
+            assertThat(RecordingFile.readAllEvents(file))
+                    .filteredOn(e -> e.getEventType().getName().equals("com.hogwai.batch.ChunkWrite"))
+                    .extracting(e -> e.getLong("writeCount"), e -> e.getLong("failedWrites"))
+                    .containsExactlyInAnyOrder(tuple(0L, 0L), tuple(5L, 0L));
+            assertThat(stepExec.getCommitCount()).isEqualTo(2);
+            assertThat(stepExec.getWriteCount()).isEqualTo(5);
+            assertThat(stepExec.getFilterCount()).isEqualTo(5);
+        }
+    }
+
+    @Test
+    void shouldFailStepWhenChunkFailsOnWorker() throws Exception {
+        ChunkProcessor<Integer, Integer> processor = new ChunkProcessor<>(i -> {
+            if (i == 7) throw new IllegalArgumentException("bad item");
+            return i;
+        }, items -> {});
+
+        try (ChunkWorkerServer<Integer> worker = new ChunkWorkerServer<>(anyLoopbackPort(), processor).start();
+             ChunkTransport transport = SocketChunkTransport.connect(List.of(worker.getLocalAddress()))) {
+            Iterator<Integer> data = IntStream.rangeClosed(1, 10).boxed().iterator();
+            Step step = new StepBuilder("remoteStep")
+                    .<Integer, Integer>chunk(5)
+                    .reader(() -> data.hasNext() ? data.next() : null)
+                    .writer(new RemoteChunkWriter<>(transport))
+                    .build();
+
+            StepExecution stepExec = createStepExecution();
+            assertThatThrownBy(() -> step.execute(stepExec))
+                    .isInstanceOf(IllegalStateException.class)
+                    .hasMessageContaining("Chunk 2 failed on worker")
+                    .hasMessageContaining("bad item");
+            assertThat(stepExec.getCommitCount()).isEqualTo(1);
+        }
+    }
+
+    @Test
+    void shouldReportErrorsThrownOnWorker() throws Exception {
+        ChunkProcessor<String, String> processor = new ChunkProcessor<>(item -> {
+            if ("invariant".equals(item)) throw new AssertionError("broken invariant");
+            if ("memory".equals(item)) throw new OutOfMemoryError("simulated");
+            return item;
+        }, items -> {});
+
+        try (ChunkWorkerServer<String> worker = new ChunkWorkerServer<>(anyLoopbackPort(), processor).start();
+             ChunkTransport transport = SocketChunkTransport.connect(List.of(worker.getLocalAddress()))) {
+            RemoteChunkWriter<String> writer = new RemoteChunkWriter<>(transport);
+            StepContribution contribution = new StepContribution();
+
+            assertThatThrownBy(() -> writer.write(List.of("invariant"), contribution))
+                    .isInstanceOf(IllegalStateException.class)
+                    .hasMessage("Chunk 1 failed on worker: java.lang.AssertionError: broken invariant");
+            writer.write(List.of("a"), contribution);
+            assertThatThrownBy(() -> writer.write(List.of("memory"), contribution))
+                    .isInstanceOf(IllegalStateException.class)
+                    .hasMessage("Chunk 3 failed on worker: java.lang.OutOfMemoryError: simulated");
+            assertThatThrownBy(() -> writer.write(List.of("b"), contribution))
+                    .isInstanceOf(UncheckedIOException.class);
+            assertThat(contribution.getWriteCount()).isEqualTo(1);
+        }
+    }
+
+    @Test
+    void shouldFailChunksOnceWorkerIsGone() throws Exception {
+        ChunkWorkerServer<String> worker = new ChunkWorkerServer<>(anyLoopbackPort(),
+                new ChunkProcessor<String, String>(null, items -> {})).start();
+        try (ChunkTransport transport = SocketChunkTransport.connect(List.of(worker.getLocalAddress()))) {
+            RemoteChunkWriter<String> writer = new RemoteChunkWriter<>(transport);
+            StepContribution contribution = new StepContribution();
+            writer.write(List.of("a"), contribution);
+            assertThat(contribution.getWriteCount()).isEqualTo(1);
+
+            worker.close();
+
+            assertThatThrownBy(() -> writer.write(List.of("b"), contribution))
+                    .isInstanceOf(UncheckedIOException.class);
+            assertThatThrownBy(() -> writer.write(List.of("c"), contribution))
+                    .isInstanceOf(UncheckedIOException.class)
+                    .hasRootCauseMessage("No connection to a chunk worker left");
+        }
+    }
+}
@@ -43,6 +43,26 @@ class StepExecutionTest {
         assertThat(stepExec.getWriteCount()).isEqualTo(3);
     }
 
+    @Test
+    void shouldApplyOnlyCountsAddedSinceLastApplication() {
+        StepExecution stepExec = createStepExecution();
+        StepContribution contribution = new StepContribution();
+        contribution.incrementReadCount();
+        contribution.incrementWriteCount(1);
+        stepExec.applyCounts(contribution);
+
+        contribution.incrementReadCount();
+        contribution.incrementFilterCount();
+        contribution.incrementSkipCountInWrite();
+        stepExec.apply(contribution);
+
+        assertThat(stepExec.getReadCount()).isEqualTo(2);
+        assertThat(stepExec.getWriteCount()).isEqualTo(1);
+        assertThat(stepExec.getFilterCount()).isEqualTo(1);
+        assertThat(stepExec.getSkipCount()).isEqualTo(1);
+        assertThat(stepExec.getExitStatus()).isEqualTo(ExitStatus.COMPLETED);
+    }
+
     @Test
     void shouldTrackSkipCounts() {
         StepExecution stepExec = createStepExecution();
@@ -0,0 +1,83 @@
+package com.hogwai.batch.core.runtime.launcher;
+
+import com.hogwai.batch.core.RepeatStatus;
+import com.hogwai.batch.core.builder.JobBuilder;
+import com.hogwai.batch.core.builder.StepBuilder;
+import com.hogwai.batch.core.config.JobParameters;
+import com.hogwai.batch.core.definition.Job;
+import com.hogwai.batch.core.definition.Step;
+import com.hogwai.batch.core.runtime.BatchStatus;
+import com.hogwai.batch.core.runtime.JobExecution;
+import com.hogwai.batch.core.runtime.repository.InMemoryJobRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.*;
+
+class AsyncJobLauncherTest {
+
+    private final ExecutorService executor = Executors.newCachedThreadPool();
+    private final InMemoryJobRepository repo = new InMemoryJobRepository();
+    private final AsyncJobLauncher launcher = new AsyncJobLauncher(repo, executor);
+
+    @AfterEach
+    void shutdown() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    void shouldReturnBeforeJobCompletes() throws Exception {
+        CountDownLatch release = new CountDownLatch(1);
+        Step step = new StepBuilder("waiting").tasklet((c, ctx) -> {
+            release.await();
+            return RepeatStatus.FINISHED;
+        }).build();
+        Job job = new JobBuilder("asyncJob").start(step).build();
+
+        JobHandle handle = launcher.start(job, JobParameters.builder().toJobParameters());
+
+        assertThat(handle.execution().getStatus()).isEqualTo(BatchStatus.STARTED);
+        assertThat(handle.completion()).isNotDone();
+
+        release.countDown();
+        JobExecution completed = handle.completion().get(5, TimeUnit.SECONDS);
+
+        assertThat(completed).isSameAs(handle.execution());
+        assertThat(completed.getStatus()).isEqualTo(BatchStatus.COMPLETED);
+        assertThat(repo.getJobExecution(completed.getId()).getStatus()).isEqualTo(BatchStatus.COMPLETED);
+    }
+
+    @Test
+    void shouldCompleteExceptionallyWhenJobFails() {
+        Step step = new StepBuilder("failing").tasklet((c, ctx) -> {
+            throw new IllegalStateException("boom");
+        }).build();
+        Job job = new JobBuilder("failingJob").start(step).build();
+
+        JobHandle handle = launcher.start(job, JobParameters.builder().toJobParameters());
+
+        assertThatThrownBy(() -> handle.completion().join())
+                .isInstanceOf(CompletionException.class)
+                .hasRootCauseMessage("boom");
+        assertThat(handle.execution().getStatus()).isEqualTo(BatchStatus.FAILED);
+    }
+
+    @Test
+    void shouldRecordRejectedJobAsFailed() {
+        Step step = new StepBuilder("step").tasklet((c, ctx) -> RepeatStatus.FINISHED).build();
+        Job job = new JobBuilder("rejectedJob").start(step).build();
+        executor.shutdown();
+
+        assertThatThrownBy(() -> launcher.run(job, JobParameters.builder().toJobParameters()))
+                .isInstanceOf(RejectedExecutionException.class);
+        JobExecution last = repo.getLastJobExecution(repo.getJobInstance("rejectedJob", JobParameters.builder().toJobParameters()));
+        assertThat(last.getStatus()).isEqualTo(BatchStatus.FAILED);
+    }
+}
@@ -8,17 +8,26 @@ import com.hogwai.batch.core.definition.Job;
 import com.hogwai.batch.core.definition.Step;
 import com.hogwai.batch.core.runtime.BatchStatus;
 import com.hogwai.batch.core.runtime.JobExecution;
+import com.hogwai.batch.core.runtime.StepExecution;
+import com.hogwai.batch.core.runtime.repository.FileJobRepository;
 import com.hogwai.batch.core.runtime.repository.InMemoryJobRepository;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
 
+import java.nio.file.Path;
 import java.util.ArrayList;
 import java.util.Iterator;
 import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import static org.assertj.core.api.Assertions.*;
 
 class SimpleJobLauncherTest {
 
+    @TempDir
+    Path tempDir;
+
     @Test
     void shouldExecuteJobSuccessfully() throws Exception {
         List<String> written = new ArrayList<>();
@@ -116,4 +125,75 @@ class SimpleJobLauncherTest {
         assertThat(exec.getStepExecutions().get(1).getStepName()).isEqualTo("step2");
         assertThat(exec.getStepExecutions()).allMatch(se -> se.getStatus() == BatchStatus.COMPLETED);
     }
+
+    @Test
+    void shouldRestartFailedExecutionAfterLastCommittedChunk() throws Exception {
+        InMemoryJobRepository repo = new InMemoryJobRepository();
+        SimpleJobLauncher launcher = new SimpleJobLauncher(repo);
+        JobParameters params = JobParameters.builder().addString("run", "restart").toJobParameters();
+        List<Integer> written = new ArrayList<>();
+        AtomicInteger preparations = new AtomicInteger();
+        AtomicBoolean failing = new AtomicBoolean(true);
+
+        Step prepare = new StepBuilder("prepare").tasklet((c, ctx) -> {
+            preparations.incrementAndGet(); return RepeatStatus.FINISHED;
+        }).build();
+        int[] next = {0};
+        Step load = new StepBuilder("load", repo)
+                .<Integer, Integer>chunk(10)
+                .reader(() -> next[0] < 50 ? next[0]++ : null)
+                .writer(items -> {
+                    if (failing.get() && items.contains(35)) throw new IllegalStateException("boom");
+                    written.addAll(items);
+                })
+                .build();
+        Job job = new JobBuilder("restartable").start(prepare).next(load).build();
+
+        assertThatThrownBy(() -> launcher.run(job, params)).hasMessage("boom");
+        assertThat(written).hasSize(30);
+
+        failing.set(false);
+        next[0] = 0;
+        JobExecution restarted = launcher.run(job, params);
+
+        assertThat(restarted.getStatus()).isEqualTo(BatchStatus.COMPLETED);
+        JobExecution failed = repo.getJobExecution(restarted.getId() - 1);
+        assertThat(failed.getStatus()).isEqualTo(BatchStatus.FAILED);
+        assertThat(restarted.getJobInstance()).isEqualTo(failed.getJobInstance());
+        assertThat(restarted.getStepExecutions()).extracting(StepExecution::getStepName).containsExactly("load");
+        assertThat(restarted.getStepExecutions().getFirst().getReadCount()).isEqualTo(20);
+        assertThat(preparations).hasValue(1);
+        assertThat(written).hasSize(50).doesNotHaveDuplicates();
+    }
+
+    @Test
+    void shouldPersistCountsOfCommittedChunksWhenStepFails() {
+        Path file = tempDir.resolve("repository.log");
+        JobParameters params = JobParameters.builder().addString("run", "counts").toJobParameters();
+        int[] next = {0};
+
+        try (FileJobRepository repo = new FileJobRepository(file, false)) {
+            Step load = new StepBuilder("load", repo)
+                    .<Integer, Integer>chunk(10)
+                    .reader(() -> next[0] < 50 ? next[0]++ : null)
+                    .processor(i -> i % 10 == 0 ? null : i)
+                    .writer(items -> {
+                        if (items.contains(35)) throw new IllegalStateException("boom");
+                    })
+                    .build();
+            Job job = new JobBuilder("counting").start(load).build();
+
+            assertThatThrownBy(() -> new SimpleJobLauncher(repo).run(job, params)).hasMessage("boom");
+        }
+
+        try (FileJobRepository repo = new FileJobRepository(file, false)) {
+            StepExecution load = repo.getLastStepExecution(repo.getJobInstance("counting", params), "load");
+
+            assertThat(load.getStatus()).isEqualTo(BatchStatus.FAILED);
+            assertThat(load.getCommitCount()).isEqualTo(3);
+            assertThat(load.getReadCount()).isEqualTo(34);
+            assertThat(load.getFilterCount()).isEqualTo(4);
+            assertThat(load.getWriteCount()).isEqualTo(30);
+        }
+    }
 }
@@ -0,0 +1,155 @@
+package com.hogwai.batch.core.runtime.launcher;
+
+import com.hogwai.batch.core.RepeatStatus;
+import com.hogwai.batch.core.builder.JobBuilder;
+import com.hogwai.batch.core.builder.StepBuilder;
+import com.hogwai.batch.core.config.JobParameters;
+import com.hogwai.batch.core.definition.Job;
+import com.hogwai.batch.core.definition.Step;
+import com.hogwai.batch.core.listener.StepExecutionListener;
+import com.hogwai.batch.core.runtime.BatchStatus;
+import com.hogwai.batch.core.runtime.ExitStatus;
+import com.hogwai.batch.core.runtime.JobExecution;
+import com.hogwai.batch.core.runtime.StepExecution;
+import com.hogwai.batch.core.runtime.repository.InMemoryJobRepository;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.*;
+
+class SimpleJobOperatorTest {
+
+    private final InMemoryJobRepository repo = new InMemoryJobRepository();
+    private final SimpleJobOperator operator = new SimpleJobOperator(repo);
+    private final SimpleJobLauncher launcher = new SimpleJobLauncher(repo);
+
+    @Test
+    void shouldStopChunkStepAfterCurrentChunkAndResumeOnRestart() throws Exception {
+        AtomicInteger next = new AtomicInteger();
+        AtomicLong executionId = new AtomicLong();
+        AtomicBoolean stopOnce = new AtomicBoolean(true);
+        List<Integer> written = new ArrayList<>();
+        List<String> executed = new ArrayList<>();
+
+        Step load = new StepBuilder("load", repo)
+                .<Integer, Integer>chunk(10)
+                .reader(() -> {
+                    int i = next.getAndIncrement();
+                    return i < 100 ? i : null;
+                })
+                .writer(items -> {
+                    written.addAll(items);
+                    if (written.size() == 30 && stopOnce.getAndSet(false)) operator.stop(executionId.get());
+                })
+                .listener(new StepExecutionListener() {
+                    @Override
+                    public void beforeStep(StepExecution stepExecution) {
+                        executionId.set(stepExecution.getJobExecution().getId());
+                    }
+                })
+                .build();
+        Step report = new StepBuilder("report").tasklet((c, ctx) -> {
+            executed.add("report");
+            return RepeatStatus.FINISHED;
+        }).build();
+        Job job = new JobBuilder("stoppableJob").start(load).next(report).build();
+        JobParameters params = JobParameters.builder().toJobParameters();
+
+        JobExecution stopped = launcher.run(job, params);
+
+        assertThat(stopped.getStatus()).isEqualTo(BatchStatus.STOPPED);
+        assertThat(stopped.getExitStatus()).isEqualTo(ExitStatus.STOPPED);
+        assertThat(stopped.getStepExecutions()).singleElement().satisfies(step -> {
+            assertThat(step.getStatus()).isEqualTo(BatchStatus.STOPPED);
+            assertThat(step.getWriteCount()).isEqualTo(30);
+        });
+        assertThat(executed).isEmpty();
+
+        next.set(0);
+        JobExecution restarted = launcher.run(job, params);
+
+        assertThat(restarted.getStatus()).isEqualTo(BatchStatus.COMPLETED);
+        assertThat(written).hasSize(100).doesNotHaveDuplicates();
+        assertThat(executed).containsExactly("report");
+    }
+
+    @Test
+    void shouldResumeMultiThreadedChunkStepAfterCommittedItems() throws Exception {
+        AtomicInteger next = new AtomicInteger();
+        AtomicLong executionId = new AtomicLong();
+        AtomicBoolean stopOnce = new AtomicBoolean(true);
+        List<Integer> written = Collections.synchronizedList(new ArrayList<>());
+
+        Step load = new StepBuilder("load", repo)
+                .<Integer, Integer>chunk(5)
+                .reader(() -> {
+                    int i = next.getAndIncrement();
+                    return i < 200 ? i : null;
+                })
+                .writer(items -> {
+                    written.addAll(items);
+                    if (written.size() >= 50 && stopOnce.getAndSet(false)) operator.stop(executionId.get());
+                })
+                .listener(new StepExecutionListener() {
+                    @Override
+                    public void beforeStep(StepExecution stepExecution) {
+                        executionId.set(stepExecution.getJobExecution().getId());
+                    }
+                })
+                .concurrency(4)
+                .build();
+        Job job = new JobBuilder("concurrentJob").start(load).build();
+        JobParameters params = JobParameters.builder().toJobParameters();
+
+        JobExecution stopped = launcher.run(job, params);
+
+        assertThat(stopped.getStatus()).isEqualTo(BatchStatus.STOPPED);
+        assertThat(written).hasSizeLessThan(200);
+
+        next.set(0);
+        JobExecution restarted = launcher.run(job, params);
+
+        assertThat(restarted.getStatus()).isEqualTo(BatchStatus.COMPLETED);
+        assertThat(written).hasSize(200).doesNotHaveDuplicates();
+    }
+
+    @Test
+    void shouldStopTaskletBetweenCalls() throws Exception {
+        AtomicInteger calls = new AtomicInteger();
+        AtomicLong executionId = new AtomicLong();
+        Step step = new StepBuilder("poll").tasklet((c, ctx) -> {
+            if (calls.incrementAndGet() == 3) operator.stop(executionId.get());
+            return RepeatStatus.CONTINUABLE;
+        }).listener(new StepExecutionListener() {
+            @Override
+            public void beforeStep(StepExecution stepExecution) {
+                executionId.set(stepExecution.getJobExecution().getId());
+            }
+        }).build();
+
+        JobExecution execution = launcher.run(new JobBuilder("pollJob").start(step).build(),
+                JobParameters.builder().toJobParameters());
+
+        assertThat(execution.getStatus()).isEqualTo(BatchStatus.STOPPED);
+        assertThat(calls).hasValue(3);
+        assertThat(execution.getStepExecutions().get(0).getStatus()).isEqualTo(BatchStatus.STOPPED);
+    }
+
+    @Test
+    void shouldNotStopEndedOrUnknownExecutions() throws Exception {
+        Step step = new StepBuilder("step").tasklet((c, ctx) -> RepeatStatus.FINISHED).build();
+        JobExecution execution = launcher.run(new JobBuilder("doneJob").start(step).build(),
+                JobParameters.builder().toJobParameters());
+
+        assertThat(operator.stop(execution.getId())).isFalse();
+        assertThat(execution.getStatus()).isEqualTo(BatchStatus.COMPLETED);
+        assertThatThrownBy(() -> operator.stop(42))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
@@ -0,0 +1,138 @@
+package com.hogwai.batch.core.runtime.repository;
+
+import com.hogwai.batch.core.config.JobParameters;
+import com.hogwai.batch.core.runtime.BatchStatus;
+import com.hogwai.batch.core.runtime.ExitStatus;
+import com.hogwai.batch.core.runtime.JobExecution;
+import com.hogwai.batch.core.runtime.JobInstance;
+import com.hogwai.batch.core.runtime.StepExecution;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+import static org.assertj.core.api.Assertions.*;
+
+class FileJobRepositoryTest {
+
+    @TempDir
+    Path tempDir;
+
+    private final JobParameters params = JobParameters.builder()
+                                                      .addString("input", "a\tb,c=d%")
+                                                      .addLong("run", 1L)
+                                                      .toJobParameters();
+
+    @Test
+    void shouldRestoreExecutionsAfterReopening() {
+        Path file = tempDir.resolve("repository.log");
+        long executionId;
+        try (FileJobRepository repo = new FileJobRepository(file, false)) {
+            JobInstance instance = repo.createJobInstance("job", params);
+            JobExecution execution = repo.createJobExecution(instance, params);
+            StepExecution step = repo.createStepExecution(execution, "step");
+            step.setReadCount(42);
+            step.setCommitCount(4);
+            step.getExecutionContext().putLong("position", 40);
+            step.getExecutionContext().putString("note", "line1\nline2");
+            step.setStatus(BatchStatus.FAILED);
+            repo.update(step);
+            execution.setStatus(BatchStatus.FAILED);
+            execution.setExitStatus(ExitStatus.FAILED);
+            repo.update(execution);
+            executionId = execution.getId();
+        }
+
+        try (FileJobRepository repo = new FileJobRepository(file, false)) {
+            JobInstance instance = repo.getJobInstance("job", params);
+            JobExecution execution = repo.getLastJobExecution(instance);
+            StepExecution step = repo.getLastStepExecution(instance, "step");
+
+            assertThat(execution.getId()).isEqualTo(executionId);
+            assertThat(execution.getStatus()).isEqualTo(BatchStatus.FAILED);
+            assertThat(execution.getJobParameters()).isEqualTo(params);
+            assertThat(step.getReadCount()).isEqualTo(42);
+            assertThat(step.getCommitCount()).isEqualTo(4);
+            assertThat(step.getExecutionContext().getLong("position")).isEqualTo(40L);
+            assertThat(step.getExecutionContext().getString("note")).isEqualTo("line1\nline2");
+            assertThat(repo.createJobExecution(instance, params).getId()).isGreaterThan(executionId);
+        }
+    }
+
+    @Test
+    void shouldMarkRunningExecutionsAsFailedWhenReopened() {
+        Path file = tempDir.resolve("repository.log");
+        try (FileJobRepository repo = new FileJobRepository(file, false)) {
+            JobExecution execution = repo.createJobExecution(repo.createJobInstance("job", params), params);
+            repo.createStepExecution(execution, "step").setStatus(BatchStatus.STARTED);
+        }
+
+        try (FileJobRepository repo = new FileJobRepository(file, false)) {
+            JobExecution execution = repo.getLastJobExecution(repo.getJobInstance("job", params));
+
+            assertThat(execution.getStatus()).isEqualTo(BatchStatus.FAILED);
+            assertThat(execution.getStepExecutions().getFirst().getStatus()).isEqualTo(BatchStatus.FAILED);
+        }
+    }
+
+    @Test
+    void shouldDiscardIncompleteLastRecord() throws IOException {
+        Path file = tempDir.resolve("repository.log");
+        try (FileJobRepository repo = new FileJobRepository(file, false)) {
+            repo.createJobInstance("job", params);
+        }
+        Files.writeString(file, "J\t7\tpartial", StandardOpenOption.APPEND);
+
+        try (FileJobRepository repo = new FileJobRepository(file, false)) {
+            assertThat(repo.getJobExecution(7)).isNull();
+            assertThat(repo.getJobInstance("job", params)).isNotNull();
+        }
+        assertThat(Files.readString(file)).endsWith("\n");
+    }
+
+    @Test
+    void shouldCompactFileToLatestRecordsWhenReopened() throws IOException {
+        Path file = tempDir.resolve("repository.log");
+        try (FileJobRepository repo = new FileJobRepository(file, false)) {
+            JobExecution execution = repo.createJobExecution(repo.createJobInstance("job", params), params);
+            StepExecution step = repo.createStepExecution(execution, "step");
+            for (int commit = 1; commit <= 100; commit++) {
+                step.setCommitCount(commit);
+                step.getExecutionContext().putLong("position", commit * 10L);
+                repo.update(step);
+            }
+            step.setStatus(BatchStatus.COMPLETED);
+            repo.update(step);
+            execution.setStatus(BatchStatus.COMPLETED);
+            repo.update(execution);
+        }
+        assertThat(Files.readAllLines(file)).hasSizeGreaterThan(100);
+
+        try (FileJobRepository repo = new FileJobRepository(file, false)) {
+            StepExecution step = repo.getLastStepExecution(repo.getJobInstance("job", params), "step");
+
+            assertThat(step.getCommitCount()).isEqualTo(100);
+            assertThat(step.getExecutionContext().getLong("position")).isEqualTo(1000L);
+        }
+        assertThat(Files.readAllLines(file)).hasSize(3);
+        assertThat(tempDir.resolve("repository.log.compact")).doesNotExist();
+    }
+
+    @Test
+    void shouldRejectUnsupportedContextValuesWhenUpdated() throws IOException {
+        Path file = tempDir.resolve("repository.log");
+        try (FileJobRepository repo = new FileJobRepository(file, false)) {
+            JobExecution execution = repo.createJobExecution(repo.createJobInstance("job", params), params);
+            execution.getExecutionContext().put("list", java.util.List.of(1));
+            int lines = Files.readAllLines(file).size();
+
+            assertThatThrownBy(() -> repo.update(execution))
+                    .isInstanceOf(IllegalArgumentException.class)
+                    .hasMessageContaining("list");
+            assertThat(Files.readAllLines(file)).hasSize(lines);
+        }
+    }
+}
@@ -4,6 +4,7 @@ import com.hogwai.batch.core.config.JobParameters;
 import com.hogwai.batch.core.runtime.BatchStatus;
 import com.hogwai.batch.core.runtime.JobExecution;
 import com.hogwai.batch.core.runtime.JobInstance;
+import com.hogwai.batch.core.runtime.StepExecution;
 import org.junit.jupiter.api.Test;
 
 import static org.assertj.core.api.Assertions.*;
@@ -44,4 +45,21 @@ class InMemoryJobRepositoryTest {
 
         assertThat(repo.getJobExecution(exec.getId())).isSameAs(exec);
     }
+
+    @Test
+    void shouldFindLastExecutionsOfInstance() {
+        InMemoryJobRepository repo = new InMemoryJobRepository();
+        JobParameters params = JobParameters.builder().addLong("run", 1L).toJobParameters();
+        JobInstance instance = repo.createJobInstance("job", params);
+        JobExecution first = repo.createJobExecution(instance, params);
+        StepExecution firstStep = repo.createStepExecution(first, "step");
+        JobExecution second = repo.createJobExecution(instance, params);
+
+        assertThat(repo.getJobInstance("job", JobParameters.builder().addLong("run", 1L).toJobParameters()))
+                .isEqualTo(instance);
+        assertThat(repo.getJobInstance("job", JobParameters.builder().addLong("run", 2L).toJobParameters())).isNull();
+        assertThat(repo.getLastJobExecution(instance)).isSameAs(second);
+        assertThat(repo.getLastStepExecution(instance, "step")).isSameAs(firstStep);
+        assertThat(repo.getLastStepExecution(instance, "other")).isNull();
+    }
 }